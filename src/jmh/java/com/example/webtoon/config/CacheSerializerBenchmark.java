@@ -0,0 +1,68 @@
+package com.example.webtoon.config;
+
+import com.example.webtoon.dto.ApiResponse;
+import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.type.CacheSerializerType;
+import com.example.webtoon.type.ResponseCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.HttpStatus;
+
+// 캐시 값 직렬화 방식별 크기, 직렬화/역직렬화 시간 비교
+// ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializerBenchmark {
+
+    @Param({"JSON", "SMILE", "JSON_LZ4", "SMILE_LZ4"})
+    private String format;
+
+    // 에피소드 목록 한 페이지 크기
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setSerializer(CacheSerializerType.valueOf(format.replace("_LZ4", "")));
+        policy.setCompressionThreshold(format.endsWith("_LZ4") ? 256 : 0);
+        serializer = CacheConfig.valueSerializer(policy);
+
+        List<EpisodeDto> content = new ArrayList<>();
+        for (long i = 1; i <= pageSize; i++) {
+            content.add(new EpisodeDto(i, "에피소드 " + i,
+                "/files/episodes/2023/01/" + i + "_episode.jpg",
+                "/files/thumbnails/2023/01/" + i + "_thumbnail.jpg"));
+        }
+        value = new ApiResponse<>(HttpStatus.OK, ResponseCode.GET_EPISODES_SUCCESS,
+            new RestPage<>(content, 0, pageSize, 1000));
+        bytes = serializer.serialize(value);
+
+        System.out.printf("%n[%s, pageSize=%d] payload %d bytes%n", format, pageSize, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.webtoon.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// 에피소드 이미지 (1MB ~ 20MB) 를 loopback 소켓으로 보낼 때 힙 버퍼 복사와 FileChannel.transferTo (sendfile) 비교
+// 점수는 초당 전송한 파일 수, MB/s 는 점수 x size 로 환산
+// ./gradlew jmh -Pjmh.includes=ImageTransferBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageTransferBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int sizeMb;
+
+    private Path file;
+    private long length;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private Thread drain;
+
+    @Setup
+    public void setUp() throws IOException {
+        length = sizeMb * 1024L * 1024L;
+        byte[] content = new byte[(int) length];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("episode-", ".jpg");
+        Files.write(file, content);
+
+        // 받는 쪽은 읽기만 하고 버림 (브라우저 역할)
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel receiver = server.accept();
+        drain = new Thread(() -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+            try {
+                while (receiver.read(buffer) >= 0) {
+                    buffer.clear();
+                }
+            } catch (IOException ignored) {
+                // 벤치마크 종료 시 소켓이 닫히면서 끝남
+            }
+        }, "image-transfer-drain");
+        drain.setDaemon(true);
+        drain.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        client.close();
+        server.close();
+        drain.join(1000);
+        Files.deleteIfExists(file);
+    }
+
+    // 기본 정적 리소스 처리와 같은 방식: 파일 -> byte[] -> 소켓
+    @Benchmark
+    public long heapCopy() throws IOException {
+        OutputStream out = Channels.newOutputStream(client);
+        long total = 0;
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    // ImageController (Tomcat sendfile) 와 같은 방식: 커널이 페이지 캐시에서 소켓으로 바로 전송
+    @Benchmark
+    public long transferTo() throws IOException {
+        long position = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (position < length) {
+                position += channel.transferTo(position, length - position, client);
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.webtoon.repository;
+
+import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
+import com.example.webtoon.entity.Webtoon;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 에피소드 1000건을 saveAll 로 등록할 때 IDENTITY (행마다 INSERT) 와 Episode 의 pooled TABLE id + batch INSERT 비교
+// 애플리케이션과 같은 Hibernate 설정 (batch_size 100, order_inserts), 점수는 초당 행 수
+// ./gradlew jmh -Pjmh.includes=EpisodeBatchInsertBenchmark
+// MySQL 측정: -Pjmh.params="url=jdbc:mysql://localhost:3306/webtoon_bench?rewriteBatchedStatements=true,user=...,password=..."
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EpisodeBatchInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"jdbc:h2:mem:batch_insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,DAY,VALUE;DB_CLOSE_DELAY=-1"})
+    private String url;
+    @Param({"sa"})
+    private String user;
+    @Param({""})
+    private String password;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private SimpleJpaRepository<IdentityEpisode, Long> identityRepository;
+    private SimpleJpaRepository<Episode, Long> episodeRepository;
+    private Webtoon webtoon;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, user, password);
+
+        // 테이블/컬럼 이름은 Spring Boot 기본 전략과 같게 (snake_case)
+        Properties properties = new Properties();
+        properties.setProperty("hibernate.physical_naming_strategy",
+            CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.setProperty("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        properties.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        properties.setProperty("hibernate.jdbc.batch_size", "100");
+        properties.setProperty("hibernate.order_inserts", "true");
+        properties.setProperty("hibernate.order_updates", "true");
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(Episode.class.getPackageName());
+        factory.setPersistenceUnitPostProcessors(
+            unit -> unit.addManagedClassName(IdentityEpisode.class.getName()));
+        factory.setJpaProperties(properties);
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        identityRepository = new SimpleJpaRepository<>(IdentityEpisode.class, entityManager);
+        episodeRepository = new SimpleJpaRepository<>(Episode.class, entityManager);
+
+        webtoon = transactionTemplate.execute(status -> {
+            Webtoon saved = new Webtoon("벤치마크 웹툰", "작가", "월요일", "드라마");
+            entityManager.persist(saved);
+            return saved;
+        });
+    }
+
+    // 반복마다 테이블을 비워 두 방식이 같은 크기의 테이블에 쓰도록 맞춤
+    @Setup(Level.Iteration)
+    public void truncate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM IdentityEpisode").executeUpdate();
+            entityManager.createQuery("DELETE FROM Episode").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    // 기존 방식: IDENTITY 라 INSERT 마다 DB 왕복해 id 를 받아야 하므로 batch 설정이 있어도 행마다 실행
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long identityPerRow() {
+        List<IdentityEpisode> episodes = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            IdentityEpisode episode = new IdentityEpisode();
+            episode.title = i + "화";
+            episode.episodeFile = episodeFile(i);
+            episode.episodeThumbnail = episodeThumbnail(i);
+            episode.webtoon = webtoon;
+            episodes.add(episode);
+        }
+        return transactionTemplate.execute(status -> identityRepository.saveAll(episodes).get(ROWS - 1).id);
+    }
+
+    // 변경 방식: Episode 엔티티 그대로 (id 는 50개 단위로 미리 할당, INSERT 는 커밋 때 100건씩 묶어서 실행)
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long pooledBatch() {
+        List<Episode> episodes = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Episode episode = new Episode(i + "화");
+            episode.setEpisodeFile(episodeFile(i));
+            episode.setEpisodeThumbnail(episodeThumbnail(i));
+            episode.setWebtoon(webtoon);
+            episodes.add(episode);
+        }
+        return transactionTemplate.execute(status ->
+            episodeRepository.saveAll(episodes).get(ROWS - 1).getEpisodeId());
+    }
+
+    private static EpisodeFile episodeFile(int i) {
+        return new EpisodeFile("ep" + i + ".jpg", "/webtoons/ep" + i + ".jpg");
+    }
+
+    private static EpisodeThumbnail episodeThumbnail(int i) {
+        return new EpisodeThumbnail("th" + i + ".jpg", "/webtoons/th" + i + ".jpg");
+    }
+
+    // 변경 전 Episode 의 id 매핑 (IDENTITY), 나머지 컬럼은 같음
+    @Entity(name = "IdentityEpisode")
+    @Table(name = "episode_identity")
+    public static class IdentityEpisode {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String title;
+
+        @Embedded
+        private EpisodeFile episodeFile;
+
+        @Embedded
+        private EpisodeThumbnail episodeThumbnail;
+
+        @ManyToOne
+        @JoinColumn(name = "webtoon_id")
+        private Webtoon webtoon;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.webtoon.repository;
+
+import com.example.webtoon.type.DayType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// 요일 필터링 LIKE '%요일%' 과 day_mask IN (...) 비교 (H2 인메모리, 웹툰 10만 건)
+// ./gradlew jmh -Pjmh.includes=WebtoonDayFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebtoonDayFilterBenchmark {
+
+    private static final String[] DAYS = {"월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일"};
+
+    @Param({"100000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement likePage;
+    private PreparedStatement likeCount;
+    private PreparedStatement maskPage;
+    private PreparedStatement maskCount;
+
+    @Setup
+    public void setUp() throws SQLException {
+        // 같은 쿼리를 반복하므로 H2 가 이전 결과를 재사용하지 않도록 꺼서 매번 실제로 실행
+        connection = DriverManager.getConnection(
+            "jdbc:h2:mem:day_filter;MODE=MySQL;NON_KEYWORDS=DAY;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE webtoon (webtoon_id BIGINT PRIMARY KEY, title VARCHAR(255), "
+                + "day VARCHAR(255), day_mask INT, updated_at TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_webtoon_day ON webtoon (day)");
+            statement.execute("CREATE INDEX idx_webtoon_day_mask ON webtoon (day_mask)");
+        }
+
+        // 대부분 주 1회 연재, 일부는 주 2회 연재
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO webtoon VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+            for (int i = 1; i <= rows; i++) {
+                String day = DAYS[random.nextInt(DAYS.length)];
+                if (random.nextInt(10) == 0) {
+                    day += "," + DAYS[random.nextInt(DAYS.length)];
+                }
+                insert.setLong(1, i);
+                insert.setString(2, "웹툰 " + i);
+                insert.setString(3, day);
+                insert.setInt(4, DayType.toMask(day));
+                insert.addBatch();
+                if (i % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        String masks = DayType.masksContaining(DayType.toMask("목요일")).stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        likePage = connection.prepareStatement("SELECT * FROM webtoon WHERE day LIKE CONCAT('%', ?, '%') "
+            + "ORDER BY webtoon_id DESC LIMIT 10");
+        likePage.setString(1, "목요일");
+        likeCount = connection.prepareStatement("SELECT COUNT(*) FROM webtoon WHERE day LIKE CONCAT('%', ?, '%')");
+        likeCount.setString(1, "목요일");
+        maskPage = connection.prepareStatement("SELECT * FROM webtoon WHERE day_mask IN (" + masks + ") "
+            + "ORDER BY webtoon_id DESC LIMIT 10");
+        maskCount = connection.prepareStatement("SELECT COUNT(*) FROM webtoon WHERE day_mask IN (" + masks + ")");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int likePage() throws SQLException {
+        return consume(likePage);
+    }
+
+    @Benchmark
+    public int likeCount() throws SQLException {
+        return consume(likeCount);
+    }
+
+    @Benchmark
+    public int maskPage() throws SQLException {
+        return consume(maskPage);
+    }
+
+    @Benchmark
+    public int maskCount() throws SQLException {
+        return consume(maskCount);
+    }
+
+    private static int consume(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                count += rs.getInt(1);
+            }
+        }
+        return count;
+    }
+}
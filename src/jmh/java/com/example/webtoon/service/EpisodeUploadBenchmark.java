@@ -0,0 +1,92 @@
+package com.example.webtoon.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// 에피소드 이미지 (1MB ~ 50MB) 업로드 한 건을 저장할 때 multipart 임시 파일을 거치는 방식과 바로 쓰는 방식 비교
+// 디스크 I/O (N = 파일 크기): spooled 는 임시 파일 쓰기 N + 읽기 N + 저장 N = 3N, streamed 는 저장 N
+// 점수는 업로드 한 건당 걸린 시간, 요청 본문은 메모리에서 읽으므로 네트워크 시간은 빠짐
+// ./gradlew jmh -Pjmh.includes=EpisodeUploadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EpisodeUploadBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int sizeMb;
+
+    private byte[] body;
+    private Path dir;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = new byte[sizeMb * 1024 * 1024];
+        new Random(42).nextBytes(body);
+        dir = Files.createTempDirectory("episode-upload-");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    // 기존 등록 방식: 컨테이너가 파트를 임시 파일에 받은 뒤 MultipartFile.getInputStream 으로 다시 읽어 저장
+    @Benchmark
+    public long spooled() throws IOException, NoSuchAlgorithmException {
+        Path spool = Files.createTempFile(dir, "multipart-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(spool)) {
+                new ByteArrayInputStream(body).transferTo(out);
+            }
+            try (InputStream in = Files.newInputStream(spool)) {
+                return store(in);
+            }
+        } finally {
+            Files.delete(spool);
+        }
+    }
+
+    // 스트리밍 등록 방식: 요청 본문을 읽는 대로 해시를 계산하며 업로드 디렉토리에 저장
+    @Benchmark
+    public long streamed() throws IOException, NoSuchAlgorithmException {
+        return store(new ByteArrayInputStream(body));
+    }
+
+    // FileService.store 와 같은 방식: 업로드 디렉토리 안의 임시 파일에 쓰면서 해시 계산 후 이름만 바꿈
+    private long store(InputStream in) throws IOException, NoSuchAlgorithmException {
+        Path temp = Files.createTempFile(dir, "upload-", ".tmp");
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        long written;
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+            written = in.transferTo(out);
+        }
+        Files.move(temp, dir.resolve("stored.jpg"), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        return written + digest.digest()[0];
+    }
+}
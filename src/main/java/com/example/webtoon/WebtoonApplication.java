@@ -1,16 +1,21 @@
 package com.example.webtoon;
 
+import com.example.webtoon.config.CachePolicyProperties;
 import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.config.ViewProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
 @SpringBootApplication
 @EnableCaching
-@EnableConfigurationProperties({FileUploadProperties.class})
+@EnableScheduling
+@EnableConfigurationProperties({FileUploadProperties.class, ViewProperties.class,
+    CachePolicyProperties.class})
 public class WebtoonApplication {
 
 	public static void main(String[] args) {
@@ -1,8 +1,11 @@
 package com.example.webtoon.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -10,30 +13,121 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+@Slf4j
 @RequiredArgsConstructor
 @Configuration
 public class CacheConfig {
 
+    private final CachePolicyProperties cachePolicyProperties;
+
     @Value("${spring.redis.host}")
     private String host;
 
     @Value("${spring.redis.port}")
     private int port;
 
+    // L1(로컬 Caffeine) + L2(Redis) 2단 캐시
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
-        RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig()
-            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(redisCacheManager(redisConnectionFactory),
+            stringRedisTemplate, meterRegistry, cachePolicyProperties);
+    }
+
+    // 다른 인스턴스의 캐시 무효화 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager,
+            new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+        Map<String, RedisCacheConfiguration> configurations = new LinkedHashMap<>();
+        for (String cacheName : cachePolicyProperties.getPolicies().keySet()) {
+            configurations.put(cacheName,
+                redisCacheConfiguration(cachePolicyProperties.getPolicy(cacheName)));
+        }
+        logPolicies();
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
             .fromConnectionFactory(redisConnectionFactory)
-            .cacheDefaults(conf)
+            .cacheDefaults(redisCacheConfiguration(cachePolicyProperties.getDefaults()))
+            .withInitialCacheConfigurations(configurations)
             .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
+    }
+
+    // 캐시 정책 -> Redis 캐시 설정 (TTL, 키 접두사, 직렬화 방식)
+    private RedisCacheConfiguration redisCacheConfiguration(CachePolicyProperties.Policy policy) {
+        RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(policy.getTtl())
+            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer(policy)));
+
+        if (policy.getKeyPrefix() != null) {
+            String keyPrefix = policy.getKeyPrefix();
+            conf = conf.computePrefixWith(cacheName -> keyPrefix + cacheName + "::");
+        }
+        return conf;
+    }
+
+    // 직렬화 방식 + 크기 기준 압축
+    static RedisSerializer<Object> valueSerializer(CachePolicyProperties.Policy policy) {
+        RedisSerializer<Object> serializer;
+        switch (policy.getSerializer()) {
+            case SMILE:
+                serializer = new SmileRedisSerializer();
+                break;
+            case JSON:
+            default:
+                serializer = new GenericJackson2JsonRedisSerializer();
+        }
+
+        if (isCompressed(policy)) {
+            serializer = new CompressingRedisSerializer(serializer, policy.getCompressionThreshold());
+        }
+        return serializer;
+    }
+
+    private static boolean isCompressed(CachePolicyProperties.Policy policy) {
+        return policy.getCompressionThreshold() != null && policy.getCompressionThreshold() > 0;
+    }
+
+    // 시작 시 캐시별 실제 적용 정책 출력
+    private void logPolicies() {
+        StringBuilder report = new StringBuilder("cache policies");
+        report.append(String.format("%n  %-22s %-10s %-12s %-10s %-12s %-10s %s",
+            "cache", "ttl", "l1-entries", "l1-ttl", "key-prefix", "serializer", "compress"));
+
+        Map<String, CachePolicyProperties.Policy> effective = new LinkedHashMap<>();
+        effective.put("(default)", cachePolicyProperties.getDefaults());
+        for (String cacheName : cachePolicyProperties.getPolicies().keySet()) {
+            effective.put(cacheName, cachePolicyProperties.getPolicy(cacheName));
+        }
+
+        effective.forEach((cacheName, policy) -> report.append(
+            String.format("%n  %-22s %-10s %-12d %-10s %-12s %-10s %s",
+                cacheName, policy.getTtl(), policy.getMaxEntries(), policy.getLocalTtl(),
+                policy.getKeyPrefix() == null ? "-" : policy.getKeyPrefix(),
+                policy.getSerializer(),
+                isCompressed(policy) ? ">=" + policy.getCompressionThreshold() + "B" : "-")));
+
+        log.info(report.toString());
     }
 
     @Bean
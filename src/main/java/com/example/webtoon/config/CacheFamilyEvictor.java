@@ -0,0 +1,35 @@
+package com.example.webtoon.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CacheFamilyEvictor {
+
+    private final CacheManager cacheManager;
+
+    // 캐시 키 "<family>:page:<n>" 중 해당 family 의 모든 페이지 삭제
+    public void evict(String cacheName, String family) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TwoLevelCache) {
+            ((TwoLevelCache) cache).evictFamily(family);
+        } else if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public static String webtoon(Long webtoonId) {
+        return "webtoon:" + webtoonId;
+    }
+
+    public static String episode(Long episodeId) {
+        return "episode:" + episodeId;
+    }
+
+    public static String user(Long userId) {
+        return "user:" + userId;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.webtoon.config;
+
+import com.example.webtoon.type.CacheSerializerType;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CachePolicyProperties {
+
+    // policies 에 없는 캐시 또는 비어 있는 항목에 적용
+    private Policy defaults = new Policy(
+        Duration.ofHours(1), 1000L, Duration.ofSeconds(60), null, CacheSerializerType.JSON, 0,
+        Duration.ZERO, Duration.ofSeconds(5));
+
+    // 캐시 이름별 정책
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    // 캐시 이름별 정책에 기본값을 채운 실제 적용 정책
+    public Policy getPolicy(String cacheName) {
+        Policy policy = policies.get(cacheName);
+        return policy == null ? defaults : policy.mergeWith(defaults);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+
+        // Redis(L2) 만료 시간
+        private Duration ttl;
+
+        // 로컬(L1) 최대 엔트리 수, Redis 는 ttl 과 maxmemory 정책으로 제한
+        private Long maxEntries;
+
+        // 로컬(L1) 만료 시간
+        private Duration localTtl;
+
+        // Redis 키 앞에 붙는 접두사 (없으면 "캐시이름::")
+        private String keyPrefix;
+
+        private CacheSerializerType serializer;
+
+        // 직렬화 결과가 이 크기(바이트) 이상이면 LZ4 압축, 0 이면 압축 안 함
+        private Integer compressionThreshold;
+
+        // 무효화된 값을 재계산 동안 대신 응답할 수 있는 시간, 0 이면 재계산을 기다림
+        private Duration staleTtl;
+
+        // 한 인스턴스가 값을 계산하는 동안 다른 요청이 기다리는 최대 시간 (Redis 리스 만료 시간)
+        private Duration loadTimeout;
+
+        Policy mergeWith(Policy defaults) {
+            return new Policy(
+                ttl != null ? ttl : defaults.getTtl(),
+                maxEntries != null ? maxEntries : defaults.getMaxEntries(),
+                localTtl != null ? localTtl : defaults.getLocalTtl(),
+                keyPrefix != null ? keyPrefix : defaults.getKeyPrefix(),
+                serializer != null ? serializer : defaults.getSerializer(),
+                compressionThreshold != null ? compressionThreshold : defaults.getCompressionThreshold(),
+                staleTtl != null ? staleTtl : defaults.getStaleTtl(),
+                loadTimeout != null ? loadTimeout : defaults.getLoadTimeout());
+        }
+    }
+}
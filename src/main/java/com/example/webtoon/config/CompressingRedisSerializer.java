@@ -0,0 +1,66 @@
+package com.example.webtoon.config;
+
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    // 압축된 값 앞에 붙는 표시, JSON/Smile 은 0 으로 시작하지 않으므로 비압축 값과 구분됨
+    private static final byte LZ4_MARKER = 0;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final RedisSerializer<Object> delegate;
+    private final int threshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    // threshold 바이트 이상인 값만 압축
+    public CompressingRedisSerializer(RedisSerializer<Object> delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        byte[] raw = delegate.serialize(value);
+        if (raw == null || raw.length < threshold) {
+            return raw;
+        }
+
+        byte[] compressed = new byte[HEADER_SIZE + compressor.maxCompressedLength(raw.length)];
+        int length = compressor.compress(raw, 0, raw.length, compressed, HEADER_SIZE);
+
+        // 압축해도 줄지 않으면 원본 저장
+        if (HEADER_SIZE + length >= raw.length) {
+            return raw;
+        }
+
+        ByteBuffer.wrap(compressed).put(LZ4_MARKER).putInt(raw.length);
+        byte[] result = new byte[HEADER_SIZE + length];
+        System.arraycopy(compressed, 0, result, 0, result.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != LZ4_MARKER) {
+            return delegate.deserialize(bytes);
+        }
+
+        int rawLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        try {
+            byte[] raw = new byte[rawLength];
+            decompressor.decompress(bytes, HEADER_SIZE, raw, 0, rawLength);
+            return delegate.deserialize(raw);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decompress cache value", e);
+        }
+    }
+}
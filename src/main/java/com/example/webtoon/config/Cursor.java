@@ -0,0 +1,47 @@
+package com.example.webtoon.config;
+
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.type.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+// 키셋 페이지네이션 위치 (마지막으로 받은 행의 created_at, id), 최신순 (created_at DESC, id DESC)
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    // 첫 페이지 조회용, 모든 행보다 뒤에 있는 위치
+    private static final Cursor FIRST =
+        new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // ?after= (빈 값) 이면 첫 페이지
+    public static Cursor decode(String after) {
+        if (!StringUtils.hasText(after)) {
+            return FIRST;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(',');
+            return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.webtoon.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+// 커서 페이지 응답 (COUNT 쿼리 없이 다음 페이지 존재 여부와 다음 커서만 제공)
+@Getter
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public CursorSlice(@JsonProperty("content") List<T> content,
+        @JsonProperty("size") int size,
+        @JsonProperty("hasNext") boolean hasNext,
+        @JsonProperty("nextCursor") String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // cursorOf: 행의 (created_at, id), 마지막 행 기준으로 다음 커서 생성
+    public static <E, T> CursorSlice<T> of(Slice<E> slice, Function<E, Cursor> cursorOf,
+        Function<E, T> mapper) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+            ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+            : null;
+
+        return new CursorSlice<>(rows.stream().map(mapper).collect(Collectors.toList()),
+            slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.webtoon.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 @Getter
 @Setter
@@ -10,4 +12,162 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class FileUploadProperties {
 
     private String location;
+
+    private Bulk bulk = new Bulk();
+
+    private Thumbnail thumbnail = new Thumbnail();
+
+    private Transcode transcode = new Transcode();
+
+    private Slice slice = new Slice();
+
+    private Stream stream = new Stream();
+
+    private Io io = new Io();
+
+    private Storage storage = new Storage();
+
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        // 압축 해제된 파일을 디스크에 쓰는 스레드 수
+        private int writeThreads = 4;
+
+        // 한 번에 임시 파일로 쌓아 두는 파일 수 상한 (쓰기 대기 + 쓰는 중)
+        private int maxPendingWrites = 8;
+
+        // 압축 파일 안의 이미지 하나당 최대 크기
+        private DataSize maxEntrySize = DataSize.ofMegabytes(20);
+
+        // 요청 하나로 등록할 수 있는 최대 에피소드 수
+        private int maxEpisodes = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Thumbnail {
+
+        // 썸네일 변형 이미지를 만드는 스레드 수
+        private int workers = 2;
+
+        // 처리 대기 중인 썸네일 수 상한 (넘치면 업로드 시 생성은 건너뛰고 원본으로 대체)
+        private int queueCapacity = 100;
+
+        // 전체 재생성 작업이 한 번에 읽는 썸네일 수
+        private int pageSize = 100;
+
+        // 변형 이미지를 만들 원본의 최대 픽셀 수 (넘으면 원본만 제공)
+        private long maxPixels = 40_000_000L;
+
+        // 전체 재생성 작업의 진행 위치 (재시작 시 이어서 처리)
+        private String checkpointPath = "./data/thumbnail-job.checkpoint";
+    }
+
+    @Getter
+    @Setter
+    public static class Transcode {
+
+        // 에피소드 원본을 작은 형식으로 변환하는 스레드 수
+        private int workers = 2;
+
+        // 변환 대기 중인 파일 수 상한 (넘치면 변환을 건너뛰고 원본 제공)
+        private int queueCapacity = 100;
+
+        // 손실 압축 품질 (0 ~ 1)
+        private float quality = 0.8f;
+
+        // 변환할 원본의 최대 픽셀 수 (넘으면 원본만 제공)
+        private long maxPixels = 100_000_000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Slice {
+
+        // 조각 하나의 높이 (이보다 짧은 이미지는 나누지 않음)
+        private int height = 1280;
+
+        // 동시에 메모리에 올려 나누는 이미지 수
+        private int maxConcurrent = 2;
+
+        // 나눌 이미지의 최대 픽셀 수 (넘으면 원본만 제공)
+        private long maxPixels = 100_000_000L;
+
+        // JPEG 원본을 나눌 때 다시 압축하는 품질 (0 ~ 1)
+        private float jpegQuality = 0.92f;
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        // 스트리밍 업로드에서 파일 하나의 최대 크기 (읽는 도중 넘으면 중단)
+        private DataSize maxFileSize = DataSize.ofMegabytes(50);
+
+        // 스트리밍 업로드 요청 본문 전체의 최대 크기
+        private DataSize maxRequestSize = DataSize.ofMegabytes(60);
+    }
+
+    @Getter
+    @Setter
+    public static class Io {
+
+        // 업로드 파일을 디스크에 쓰는 스레드 수 (에피소드 이미지와 썸네일을 동시에 씀)
+        private int threads = 4;
+
+        // 쓰기 대기 중인 파일 수 상한 (넘치면 요청 스레드에서 직접 씀)
+        private int queueCapacity = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Storage {
+
+        // local: location 디렉토리가 곧 저장소 (한 서버 또는 공유 디스크), s3: S3 호환 저장소에 함께 올림
+        private String type = "local";
+
+        // s3 일 때 다른 서버에서 참조가 모두 해제된 파일의 이 서버 사본을 정리하는 주기 (이보다 새 사본은 남김)
+        private long sweepIntervalMs = 3_600_000L;
+
+        private S3 s3 = new S3();
+    }
+
+    @Getter
+    @Setter
+    public static class S3 {
+
+        private String bucket;
+
+        private String region = "ap-northeast-2";
+
+        // MinIO 같은 S3 호환 저장소 주소 (비우면 AWS)
+        private String endpoint;
+
+        // 버킷을 호스트 이름 대신 경로에 넣어 요청 (MinIO 는 true)
+        private boolean pathStyleAccess = false;
+
+        // 비우면 기본 자격 증명 (환경 변수, 인스턴스 프로필 등)
+        private String accessKey;
+
+        private String secretKey;
+
+        // 버킷 안에서 업로드 파일을 둘 경로
+        private String keyPrefix = "webtoons/";
+
+        // CDN 처럼 공개된 주소가 있으면 서명 없이 이 주소로 안내 (비우면 presigned URL)
+        private String publicBaseUrl;
+
+        // presigned URL 유효 시간
+        private Duration presignTtl = Duration.ofMinutes(10);
+
+        // 이보다 큰 파일은 나눠서 병렬로 올림
+        private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+
+        // 나눠 올릴 때 조각 하나의 크기 (S3 최소 5MB)
+        private DataSize partSize = DataSize.ofMegabytes(8);
+
+        // 조각을 동시에 올리는 스레드 수
+        private int uploadThreads = 4;
+    }
 }
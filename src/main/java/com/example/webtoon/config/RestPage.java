@@ -10,15 +10,31 @@ import org.springframework.data.domain.PageRequest;
 
 @JsonIgnoreProperties(ignoreUnknown = true, value = {"pageable"})
 public class RestPage<T> extends PageImpl<T> {
+
+    // totalElements 가 COUNT 결과가 아닌 보관된 개수 (TotalCountProvider) 인 경우 true
+    private final boolean approximate;
+
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public RestPage(@JsonProperty("content") List<T> content,
         @JsonProperty("number") int page,
         @JsonProperty("size") int size,
-        @JsonProperty("totalElements") long total) {
+        @JsonProperty("totalElements") long total,
+        @JsonProperty("isApproximate") boolean approximate) {
         super(content, PageRequest.of(page, size), total);
+        this.approximate = approximate;
+    }
+
+    public RestPage(List<T> content, int page, int size, long total) {
+        this(content, page, size, total, false);
     }
 
     public RestPage(Page<T> page) {
         super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.approximate = page instanceof RestPage && ((RestPage<T>) page).isApproximate();
+    }
+
+    @JsonProperty("isApproximate")
+    public boolean isApproximate() {
+        return approximate;
     }
 }
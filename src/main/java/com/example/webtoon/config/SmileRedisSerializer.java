@@ -0,0 +1,47 @@
+package com.example.webtoon.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+    // Smile 데이터는 항상 ":)\n" 헤더로 시작
+    private static final byte SMILE_HEADER_0 = ':';
+    private static final byte SMILE_HEADER_1 = ')';
+
+    private final GenericJackson2JsonRedisSerializer smile;
+
+    // 직렬화 방식을 바꾸기 전에 저장된 JSON 값 읽기용
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    public SmileRedisSerializer() {
+        // GenericJackson2JsonRedisSerializer 기본 설정과 같은 타입 정보, null 처리
+        ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+            DefaultTyping.EVERYTHING, As.PROPERTY);
+        this.smile = new GenericJackson2JsonRedisSerializer(mapper);
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        return smile.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length > 1 && bytes[0] == SMILE_HEADER_0 && bytes[1] == SMILE_HEADER_1) {
+            return smile.deserialize(bytes);
+        }
+        return json.deserialize(bytes);
+    }
+}
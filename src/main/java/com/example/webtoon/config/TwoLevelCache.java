@@ -0,0 +1,315 @@
+package com.example.webtoon.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+public class TwoLevelCache implements Cache {
+
+    // 구조화된 키 "<family>:page:<n>" 에서 family 를 구분하는 구분자
+    public static final String PAGE_SEPARATOR = ":page:";
+
+    // 다른 인스턴스의 계산 결과가 L2 에 올라왔는지 확인하는 간격
+    private static final long REMOTE_POLL_MILLIS = 50;
+
+    private final String name;
+
+    // L1: 인스턴스 로컬 힙 캐시, null 값도 담을 수 있도록 ValueWrapper 로 저장
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local;
+
+    // 무효화된 L1 값 (stale-while-revalidate 를 쓰지 않으면 null)
+    @Nullable
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> stale;
+
+    // L2: Redis 캐시
+    private final Cache remote;
+
+    private final TwoLevelCacheManager cacheManager;
+
+    private final Duration loadTimeout;
+
+    // 키별로 진행 중인 로드 (같은 인스턴스의 동시 요청은 하나의 로드 결과를 공유)
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter staleServed;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local,
+                         @Nullable com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> stale,
+                         Cache remote,
+                         TwoLevelCacheManager cacheManager,
+                         MeterRegistry meterRegistry,
+                         Duration loadTimeout) {
+        this.name = name;
+        this.local = local;
+        this.stale = stale;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+        this.loadTimeout = loadTimeout;
+        this.localHit = counter(meterRegistry, "l1", "hit");
+        this.localMiss = counter(meterRegistry, "l1", "miss");
+        this.remoteHit = counter(meterRegistry, "l2", "hit");
+        this.remoteMiss = counter(meterRegistry, "l2", "miss");
+        this.loaded = loadCounter(meterRegistry, "loaded");
+        this.coalesced = loadCounter(meterRegistry, "coalesced");
+        this.staleServed = loadCounter(meterRegistry, "stale");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.getIfPresent(key);
+        if (value != null) {
+            localHit.increment();
+            return value;
+        }
+        localMiss.increment();
+
+        value = remote.get(key);
+        if (value != null) {
+            remoteHit.increment();
+            local.put(key, new SimpleValueWrapper(value.get()));
+        } else {
+            remoteMiss.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        // 이미 같은 키를 로드 중이면 이전 값을 주거나 그 결과를 기다림
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            ValueWrapper staleValue = getStale(key);
+            if (staleValue != null) {
+                staleServed.increment();
+                return (T) staleValue.get();
+            }
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        try {
+            Object result = load(key, valueLoader);
+            flight.complete(result);
+            return (T) result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // 다른 인스턴스가 리스를 잡고 계산 중이면 L2 에 결과가 올라올 때까지 기다린 후, 시간 초과 시 직접 계산
+    private Object load(Object key, Callable<?> valueLoader) {
+        String lease = cacheManager.tryAcquireLease(name, key, loadTimeout);
+        if (lease == null) {
+            ValueWrapper staleValue = getStale(key);
+            if (staleValue != null) {
+                staleServed.increment();
+                return staleValue.get();
+            }
+
+            ValueWrapper remoteValue = awaitRemote(key);
+            if (remoteValue != null) {
+                coalesced.increment();
+                local.put(key, new SimpleValueWrapper(remoteValue.get()));
+                return remoteValue.get();
+            }
+        }
+
+        try {
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+
+            loaded.increment();
+            put(key, value);
+            if (stale != null) {
+                stale.invalidate(key);
+            }
+            return value;
+        } finally {
+            if (lease != null) {
+                cacheManager.releaseLease(name, key, lease);
+            }
+        }
+    }
+
+    @Nullable
+    private ValueWrapper awaitRemote(Object key) {
+        long deadline = System.currentTimeMillis() + loadTimeout.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(REMOTE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            ValueWrapper value = remote.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Nullable
+    private ValueWrapper getStale(Object key) {
+        return stale == null ? null : stale.getIfPresent(key);
+    }
+
+    // 무효화되는 L1 값을 stale 로 옮김
+    private void retire(Object key, ValueWrapper value) {
+        if (stale != null && value != null) {
+            stale.put(key, value);
+        }
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        remote.put(key, value);
+        local.put(key, new SimpleValueWrapper(value));
+        cacheManager.index(name, key);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(key, new SimpleValueWrapper(existing != null ? existing.get() : value));
+        cacheManager.index(name, key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(key);
+        cacheManager.publishEvict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        cacheManager.publishClear(name);
+    }
+
+    // family 에 속한 키(예: 한 에피소드의 모든 댓글 페이지)만 삭제
+    public void evictFamily(String family) {
+        for (String key : cacheManager.popIndexedKeys(name, family)) {
+            remote.evict(key);
+        }
+        evictLocalFamily(family);
+        cacheManager.publishEvictFamily(name, family);
+    }
+
+    // 다른 인스턴스에서 받은 무효화 메시지 처리 (L1 만 비움)
+    void evictLocal(Object key) {
+        retire(key, local.asMap().remove(key));
+    }
+
+    void evictLocalFamily(String family) {
+        String prefix = family + PAGE_SEPARATOR;
+        Iterator<Map.Entry<Object, ValueWrapper>> iterator = local.asMap().entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, ValueWrapper> entry = iterator.next();
+            if (String.valueOf(entry.getKey()).startsWith(prefix)) {
+                retire(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    void clearLocal() {
+        if (stale != null) {
+            stale.putAll(local.asMap());
+        }
+        local.invalidateAll();
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+            .tag("cache", name)
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    // loaded: 직접 계산, coalesced: 다른 요청의 계산 결과 공유, stale: 이전 값으로 응답
+    private Counter loadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.loads")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
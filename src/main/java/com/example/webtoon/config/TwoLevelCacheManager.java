@@ -0,0 +1,208 @@
+package com.example.webtoon.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+    private static final String EVICT_FAMILY = "F";
+
+    private static final String INDEX_PREFIX = "cache-index::";
+    private static final String LEASE_PREFIX = "cache-lease::";
+
+    // Redis 를 쓸 수 없을 때 리스 없이 로드하도록 돌려주는 토큰
+    static final String NO_LEASE = "";
+
+    // 자신이 잡은 리스만 해제
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    // 자기 자신이 보낸 무효화 메시지를 구분하기 위한 인스턴스 id
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CachePolicyProperties cachePolicyProperties;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                CachePolicyProperties cachePolicyProperties) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.cachePolicyProperties = cachePolicyProperties;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CachePolicyProperties.Policy policy = cachePolicyProperties.getPolicy(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> local =
+            Caffeine.newBuilder()
+                .maximumSize(policy.getMaxEntries())
+                .expireAfterWrite(policy.getLocalTtl())
+                .build();
+
+        // 무효화된 L1 값을 재계산 동안 내어주기 위해 보관 (stale-while-revalidate)
+        com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> stale = null;
+        if (policy.getStaleTtl() != null && !policy.getStaleTtl().isZero()) {
+            stale = Caffeine.newBuilder()
+                .maximumSize(policy.getMaxEntries())
+                .expireAfterWrite(policy.getStaleTtl())
+                .build();
+        }
+
+        return new TwoLevelCache(name, local, stale, remoteCacheManager.getCache(name),
+            this, meterRegistry, policy.getLoadTimeout());
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        publish(cacheName, EVICT, String.valueOf(key));
+    }
+
+    void publishClear(String cacheName) {
+        publish(cacheName, CLEAR, "");
+    }
+
+    void publishEvictFamily(String cacheName, String family) {
+        publish(cacheName, EVICT_FAMILY, family);
+    }
+
+    // "<family>:page:<n>" 형태의 키를 family 별 Redis set 에 등록 (KEYS/SCAN 없이 삭제하기 위함)
+    void index(String cacheName, Object key) {
+        String keyString = String.valueOf(key);
+        int separator = keyString.indexOf(TwoLevelCache.PAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        String indexKey = indexKey(cacheName, keyString.substring(0, separator));
+        try {
+            redisTemplate.opsForSet().add(indexKey, keyString);
+
+            // 인덱스도 캐시 항목보다 오래 남지 않도록 같은 TTL 적용
+            Duration ttl = cachePolicyProperties.getPolicy(cacheName).getTtl();
+            if (ttl != null && !ttl.isZero()) {
+                redisTemplate.expire(indexKey, ttl);
+            }
+        } catch (RuntimeException e) {
+            log.warn("cache key index update failed: {}", indexKey, e);
+        }
+    }
+
+    // family 에 등록된 키를 꺼내면서 인덱스에서 제거
+    Collection<String> popIndexedKeys(String cacheName, String family) {
+        String indexKey = indexKey(cacheName, family);
+        try {
+            List<String> keys = redisTemplate.opsForSet().pop(indexKey, Integer.MAX_VALUE);
+            return keys == null ? Collections.emptyList() : keys;
+        } catch (RuntimeException e) {
+            log.warn("cache key index pop failed: {}", indexKey, e);
+            return Collections.emptyList();
+        }
+    }
+
+    // 여러 인스턴스 중 한 곳만 값을 계산하도록 Redis 리스 획득, 다른 곳이 잡고 있으면 null
+    @Nullable
+    String tryAcquireLease(String cacheName, Object key, Duration timeout) {
+        String token = instanceId + ":" + Thread.currentThread().getId();
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(leaseKey(cacheName, key), token, timeout);
+            return Boolean.FALSE.equals(acquired) ? null : token;
+        } catch (RuntimeException e) {
+            log.warn("cache lease acquire failed, loading without lease: {}", cacheName, e);
+            return NO_LEASE;
+        }
+    }
+
+    void releaseLease(String cacheName, Object key, String token) {
+        if (NO_LEASE.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_LEASE,
+                Collections.singletonList(leaseKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            // 해제하지 못한 리스는 timeout 후 만료됨
+            log.warn("cache lease release failed: {}", cacheName, e);
+        }
+    }
+
+    private String leaseKey(String cacheName, Object key) {
+        return LEASE_PREFIX + cacheName + "::" + key;
+    }
+
+    private String indexKey(String cacheName, String family) {
+        return INDEX_PREFIX + cacheName + "::" + family;
+    }
+
+    private void publish(String cacheName, String type, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                String.join("\n", instanceId, cacheName, type, key));
+        } catch (RuntimeException e) {
+            // 발행 실패 시 다른 인스턴스의 L1 은 TTL 만료로 정리됨
+            log.warn("cache invalidation publish failed: {}", cacheName, e);
+        }
+    }
+
+    // 다른 인스턴스의 @CacheEvict 를 받아 L1 무효화
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split("\n", 4);
+        if (parts.length < 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[2])) {
+            cache.clearLocal();
+        } else if (EVICT_FAMILY.equals(parts[2])) {
+            cache.evictLocalFamily(parts[3]);
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
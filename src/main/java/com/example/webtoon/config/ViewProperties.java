@@ -0,0 +1,54 @@
+package com.example.webtoon.config;
+
+import com.example.webtoon.type.OverflowPolicy;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "view")
+public class ViewProperties {
+
+    private long flushIntervalMs = 5000;
+
+    private Dedup dedup = new Dedup();
+
+    private Queue queue = new Queue();
+
+    @Getter
+    @Setter
+    public static class Dedup {
+
+        // bloom (메모리) 또는 database (view 테이블)
+        private String type = "bloom";
+
+        // 같은 IP 조회를 중복으로 보는 기간 (세대 교체 주기)
+        private Duration window = Duration.ofHours(24);
+
+        // 세대당 예상 (IP, 웹툰) 쌍 개수
+        private long expectedInsertions = 1_000_000;
+
+        private double falsePositiveRate = 0.001;
+
+        // 비어 있으면 스냅샷을 남기지 않음
+        private String snapshotPath;
+
+        private long snapshotIntervalMs = 600_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+
+        private int capacity = 10_000;
+
+        private int workers = 2;
+
+        // 워커가 한 번에 꺼내 처리하는 최대 이벤트 수
+        private int batchSize = 500;
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.COALESCE;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.webtoon.controller;
 
+import com.example.webtoon.config.CursorSlice;
 import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.ApiResponse;
 import com.example.webtoon.dto.CommentDto;
@@ -46,7 +47,7 @@ public class CommentController {
 
     // 댓글 전체 목록 조회
     @ApiOperation("댓글 전체 목록 조회")
-    @Cacheable(key = "#episodeId + ', page: ' + #page", value = "commentList")
+    @Cacheable(key = "'episode:' + #episodeId + ':page:' + #page", value = "commentList", sync = true)
     @GetMapping("/comment/{episodeId}")
     public ApiResponse<Page<CommentDto>> getCommentList(@PathVariable Long episodeId,
                                                         @RequestParam(defaultValue = "0") Integer page) {
@@ -55,6 +56,16 @@ public class CommentController {
             HttpStatus.OK, ResponseCode.GET_COMMENT_LIST_SUCCESS, new RestPage<>(commentList));
     }
 
+    // 댓글 전체 목록 커서 조회 (?after= 로 첫 페이지, 이후 nextCursor 전달)
+    @ApiOperation("댓글 전체 목록 커서 조회")
+    @GetMapping(value = "/comment/{episodeId}", params = "after")
+    public ApiResponse<CursorSlice<CommentDto>> getCommentListAfter(@PathVariable Long episodeId,
+                                                                    @RequestParam String after) {
+        CursorSlice<CommentDto> commentList = commentService.getCommentListAfter(episodeId, after);
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.GET_COMMENT_LIST_SUCCESS, commentList);
+    }
+
     // 댓글 수정
     @ApiOperation("댓글 수정")
     @PutMapping("/comment/{commentId}")
@@ -0,0 +1,237 @@
+package com.example.webtoon.controller;
+
+import com.example.webtoon.dto.EpisodeSliceDto;
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.service.FileService;
+import com.example.webtoon.type.ErrorCode;
+import com.example.webtoon.type.ImageFormat;
+import com.example.webtoon.type.ThumbnailWidth;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 업로드된 이미지 제공 (Tomcat sendfile 로 JVM 힙을 거치지 않고 전송, Range/조건부 요청 지원)
+// 저장소가 직접 주소를 주면 (s3) 이미지 바이트는 보내지 않고 항상 저장소로 리다이렉트
+@Controller
+@RequiredArgsConstructor
+@Api(tags = {"이미지 컨트롤러"})
+public class ImageController {
+
+    private static final String PATH_PREFIX = "/webtoons/";
+
+    // Tomcat 이 sendfile 을 지원하면 요청에 넣어 주는 속성, 아래 속성을 채워 두면 응답 본문을 커널이 바로 전송
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 내용 해시로 저장된 파일은 이름이 같으면 내용도 같으므로 변하지 않는 자원으로 캐싱
+    private static final String IMMUTABLE =
+        CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue() + ", immutable";
+    // 예전 방식 파일은 같은 이름으로 덮어쓸 수 있어 매번 재검증
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final FileService fileService;
+
+    // 이미지 조회
+    @ApiOperation("이미지 조회")
+    @GetMapping(PATH_PREFIX + "**")
+    public void getImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String fileName = path.substring(PATH_PREFIX.length());
+        Path file = fileService.resolve(fileName);
+
+        // 썸네일 변형 이미지가 아직 만들어지지 않았으면 원본으로 대신 응답
+        String original = ThumbnailWidth.originalOf(fileName);
+        boolean fallback = file == null && original != null;
+        if (fallback) {
+            file = fileService.resolve(original);
+        }
+        if (file == null) {
+            // 다른 서버가 올린 파일은 이 서버에 사본이 없으므로 저장소 주소로 보내 앱 서버를 거치지 않게 함
+            String url = fileService.directUrl(fileName);
+            if (url == null && original != null) {
+                url = fileService.directUrl(original);
+            }
+            if (url == null) {
+                throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.IMAGE_NOT_FOUND);
+            }
+            redirect(response, url);
+            return;
+        }
+
+        // PNG/BMP 원본은 변환본 중 Accept 에 맞는 가장 작은 파일로 응답
+        ImageFormat format = null;
+        if (!fallback && ImageFormat.isTranscodable(fileName)) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            List<MediaType> accepted = acceptedTypes(request);
+            long smallest = Files.size(file);
+            for (ImageFormat candidate : ImageFormat.values()) {
+                if (!accepts(accepted, candidate)) {
+                    continue;
+                }
+                Path variant = fileService.resolve(candidate.variantOf(fileName));
+                if (variant != null && Files.size(variant) < smallest) {
+                    file = variant;
+                    format = candidate;
+                    smallest = Files.size(variant);
+                }
+            }
+        }
+
+        // 저장소가 직접 주소를 주면 이 서버에 사본이 있어도 이미지는 앱 서버를 거치지 않고 저장소에서 받게 함
+        String servedName = fallback ? original : format != null ? format.variantOf(fileName) : fileName;
+        String url = fileService.storageUrl(servedName);
+        if (url != null) {
+            redirect(response, url);
+            return;
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String digest = FileService.digestOf(fileName);
+        String etag = digest != null
+            ? "\"" + digest + (format != null ? "." + format.getExtension() : "") + "\""
+            : "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        // 내용 해시 파일의 변형 이미지, 조각도 원본이 같으면 내용이 같음, 원본으로 대신 응답할 때는 재검증
+        // PNG/BMP 원본을 그대로 보낼 때도 재검증 (변환은 비동기이고 대기열이 차면 생략되므로 나중에 작은 변환본을 받게 함)
+        String derivedFrom = original != null ? original : EpisodeSliceDto.originalOf(fileName);
+        boolean untranscoded = ImageFormat.isTranscodable(fileName) && format == null;
+        boolean immutable = !untranscoded && (digest != null
+            || !fallback && derivedFrom != null && FileService.digestOf(derivedFrom) != null);
+
+        // If-None-Match / If-Modified-Since 가 맞으면 304 (ETag, Last-Modified 헤더도 여기서 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE : REVALIDATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(format != null ? format.getMimeType()
+            : MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            try {
+                // 구간이 여러 개면 전체를 보냄 (이미지 뷰어는 한 구간만 요청)
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    // 시작 위치가 파일 끝을 넘으면 HttpRange 가 예외 없이 그대로 돌려주므로 직접 거절
+                    if (start >= length || start > end) {
+                        throw new IllegalArgumentException("unsatisfiable range: " + range);
+                    }
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // sendfile 을 못 쓰는 컨테이너는 transferTo 로 복사 (출력 스트림 어댑터 안에서는 힙 버퍼를 거침)
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (count > 0) {
+                long transferred = channel.transferTo(position, count, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                count -= transferred;
+            }
+        }
+    }
+
+    // presigned URL 은 만료되므로 리다이렉트 응답은 캐시하지 않음
+    private static void redirect(HttpServletResponse response, String url) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        response.sendRedirect(url);
+    }
+
+    // Accept 가 없거나 잘못된 값이면 원본만 제공
+    private static List<MediaType> acceptedTypes(HttpServletRequest request) {
+
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+            MediaType.sortBySpecificityAndQuality(accepted);
+            return accepted;
+        } catch (InvalidMediaTypeException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    // 가장 구체적으로 일치하는 항목 기준 (image/webp;q=0 이면 */* 가 있어도 제외)
+    private static boolean accepts(List<MediaType> accepted, ImageFormat format) {
+
+        MediaType mediaType = MediaType.parseMediaType(format.getMimeType());
+        for (MediaType candidate : accepted) {
+            if (candidate.includes(mediaType)) {
+                return candidate.getQualityValue() > 0;
+            }
+        }
+        return false;
+    }
+
+    // If-Range 가 없거나 현재 파일과 같으면 구간 요청 처리, 다르면 전체 전송
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.webtoon.controller;
 
 
+import com.example.webtoon.config.CursorSlice;
 import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.ApiResponse;
 import com.example.webtoon.dto.CommentDto;
@@ -54,7 +55,7 @@ public class UserController {
 
     // 유저가 평점 부여한 에피소드 목록 조회
     @ApiOperation("유저가 평점 부여한 에피소드 목록 조회")
-    @Cacheable(key = "#currentUser.id + ', givAvg' + ', page: ' + #page", value = "episodeAvgListbyUser")
+    @Cacheable(key = "'user:' + #currentUser.id + ':page:' + #page", value = "episodeAvgListbyUser", sync = true)
     @GetMapping("/user/webtoon/rated")
     public ApiResponse<Page<EpisodeIdListDto>> getEpisodeRatedByUser(@CurrentUser UserPrincipal currentUser,
                                                                      @RequestParam(defaultValue = "0") Integer page) {
@@ -64,9 +65,20 @@ public class UserController {
             HttpStatus.OK, ResponseCode.GET_RATED_EPISODE_LIST_SUCCESS, new RestPage<>(episodeList));
     }
 
+    // 유저가 평점 부여한 에피소드 목록 커서 조회
+    @ApiOperation("유저가 평점 부여한 에피소드 목록 커서 조회")
+    @GetMapping(value = "/user/webtoon/rated", params = "after")
+    public ApiResponse<CursorSlice<EpisodeIdListDto>> getEpisodeRatedByUserAfter(
+        @CurrentUser UserPrincipal currentUser, @RequestParam String after) {
+        CursorSlice<EpisodeIdListDto> episodeList =
+            userService.getEpisodeRatedByUserAfter(currentUser.getId(), after);
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.GET_RATED_EPISODE_LIST_SUCCESS, episodeList);
+    }
+
     // 유저가 작성한 댓글 목록 조회
     @ApiOperation("유저가 작성한 댓글 목록 조회")
-    @Cacheable(key = "#currentUser.id + ', comment' + ', page: ' + #page", value = "commentListbyUser")
+    @Cacheable(key = "'user:' + #currentUser.id + ':page:' + #page", value = "commentListbyUser", sync = true)
     @GetMapping("/user/comments")
     public ApiResponse<Page<CommentDto>> getCommentsByUser(@CurrentUser UserPrincipal currentUser,
                                                            @RequestParam(defaultValue = "0") Integer page) {
@@ -75,9 +87,20 @@ public class UserController {
             HttpStatus.OK, ResponseCode.GET_COMMENT_LIST_SUCCESS, new RestPage<>(commentList));
     }
 
+    // 유저가 작성한 댓글 목록 커서 조회
+    @ApiOperation("유저가 작성한 댓글 목록 커서 조회")
+    @GetMapping(value = "/user/comments", params = "after")
+    public ApiResponse<CursorSlice<CommentDto>> getCommentsByUserAfter(
+        @CurrentUser UserPrincipal currentUser, @RequestParam String after) {
+        CursorSlice<CommentDto> commentList =
+            userService.getCommentsByUserAfter(currentUser.getId(), after);
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.GET_COMMENT_LIST_SUCCESS, commentList);
+    }
+
     // 선호 작품 목록 조회
     @ApiOperation("선호 작품 목록 조회")
-    @Cacheable(key = "#currentUser.id + ', Fav' + ', page: ' + #page", value = "FavList")
+    @Cacheable(key = "'user:' + #currentUser.id + ':page:' + #page", value = "FavList", sync = true)
     @GetMapping("/user/fav-webtoon")
     public ApiResponse<Page<WebtoonIdListDto>> getFavWebtoonList(@CurrentUser UserPrincipal currentUser,
                                                                  @RequestParam(defaultValue = "0") Integer page) {
@@ -86,4 +109,15 @@ public class UserController {
         return new ApiResponse<>(
             HttpStatus.OK, ResponseCode.GET_FAV_WEBTOON_LIST_SUCCESS, new RestPage<>(favWebtoonList));
     }
+
+    // 선호 작품 목록 커서 조회
+    @ApiOperation("선호 작품 목록 커서 조회")
+    @GetMapping(value = "/user/fav-webtoon", params = "after")
+    public ApiResponse<CursorSlice<WebtoonIdListDto>> getFavWebtoonListAfter(
+        @CurrentUser UserPrincipal currentUser, @RequestParam String after) {
+        CursorSlice<WebtoonIdListDto> favWebtoonList =
+            userService.getFavWebtoonListAfter(currentUser.getId(), after);
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.GET_FAV_WEBTOON_LIST_SUCCESS, favWebtoonList);
+    }
 }
\ No newline at end of file
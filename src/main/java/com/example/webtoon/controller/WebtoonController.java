@@ -1,29 +1,41 @@
 package com.example.webtoon.controller;
 
+import com.example.webtoon.config.CursorSlice;
 import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.ApiResponse;
 import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.dto.EpisodeImportRequest;
+import com.example.webtoon.dto.EpisodeUploadResult;
 import com.example.webtoon.dto.WebtoonDto;
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.service.EpisodeBulkUploader;
+import com.example.webtoon.service.EpisodeStreamUploader;
+import com.example.webtoon.service.ThumbnailRegenerationJob;
 import com.example.webtoon.service.ViewService;
 import com.example.webtoon.service.WebtoonService;
+import com.example.webtoon.type.ErrorCode;
 import com.example.webtoon.type.ResponseCode;
 import com.example.webtoon.type.SortType;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import java.io.IOException;
+import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -34,6 +46,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class WebtoonController {
 
     private final WebtoonService webtoonService;
+    private final EpisodeBulkUploader episodeBulkUploader;
+    private final EpisodeStreamUploader episodeStreamUploader;
+    private final ThumbnailRegenerationJob thumbnailRegenerationJob;
     private final ViewService viewService;
 
     // 신규 웹툰 등록
@@ -90,6 +105,57 @@ public class WebtoonController {
             HttpStatus.OK, ResponseCode.CREATE_NEW_EPISODE, EpisodeDto);
     }
 
+    // 에피소드 스트리밍 등록 (등록과 같은 파트, multipart 를 임시 파일에 받지 않고 업로드 디렉토리에 바로 저장)
+    @ApiOperation("에피소드 스트리밍 등록")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @PostMapping(value = "/episode/{webtoonId}/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<EpisodeDto> streamEpisode(@PathVariable Long webtoonId,
+                                                 HttpServletRequest request) throws IOException {
+
+        EpisodeDto episodeDto = episodeStreamUploader.upload(webtoonId, request);
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.CREATE_NEW_EPISODE, episodeDto);
+    }
+
+    // 에피소드 일괄 등록
+    @ApiOperation("에피소드 일괄 등록")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @PostMapping("/episode/{webtoonId}/import")
+    public ApiResponse<List<EpisodeDto>> importEpisodes(
+        @PathVariable Long webtoonId,
+        @RequestBody List<EpisodeImportRequest> episodes) throws IOException {
+
+        List<EpisodeDto> episodeDtoList = webtoonService.importEpisodes(webtoonId, episodes);
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.IMPORT_EPISODES_SUCCESS, episodeDtoList);
+    }
+
+    // 에피소드 일괄 업로드 (zip 본문을 받는 대로 압축 해제, 에피소드별 성공/실패 반환)
+    @ApiOperation("에피소드 일괄 업로드")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @PostMapping(value = "/episode/{webtoonId}/bulk", consumes = {"application/zip", "application/octet-stream"})
+    public ApiResponse<List<EpisodeUploadResult>> uploadEpisodes(@PathVariable Long webtoonId,
+                                                                 HttpServletRequest request) throws IOException {
+
+        List<EpisodeUploadResult> results =
+            episodeBulkUploader.upload(webtoonId, request.getInputStream());
+        return new ApiResponse<>(
+            HttpStatus.OK, ResponseCode.UPLOAD_EPISODES_SUCCESS, results);
+    }
+
+    // 전체 썸네일 변형 이미지 재생성 (백그라운드 실행, force 면 최신인 변형 이미지도 다시 생성)
+    @ApiOperation("썸네일 변형 이미지 재생성")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/thumbnails/regenerate")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<Void> regenerateThumbnails(@RequestParam(defaultValue = "false") boolean force) {
+
+        if (!thumbnailRegenerationJob.start(force)) {
+            throw new CustomException(HttpStatus.CONFLICT, ErrorCode.THUMBNAIL_JOB_RUNNING);
+        }
+        return new ApiResponse<>(HttpStatus.ACCEPTED, ResponseCode.THUMBNAIL_JOB_STARTED);
+    }
+
     // 에피소드 수정
     @ApiOperation("에피소드 수정")
     @PreAuthorize("hasAnyRole('ADMIN')")
@@ -120,17 +186,29 @@ public class WebtoonController {
     public ApiResponse<Page<EpisodeDto>> getWebtoonEpisodes(@PathVariable Long webtoonId,
                                                             @RequestParam(defaultValue = "0") Integer page,
                                                             HttpServletRequest request) {
-        // 조회수 중복 체크
+        // 없는 웹툰이면 목록을 읽기 전에 404, 조회 이벤트 등록 (중복 체크, 카운팅은 비동기 처리)
         viewService.checkViewCount(webtoonId, request);
-
         Page<EpisodeDto> episodeDtoList = webtoonService.getWebtoonEpisodes(webtoonId, page);
         return new ApiResponse<>(
             HttpStatus.OK, ResponseCode.GET_EPISODES_SUCCESS, new RestPage<>(episodeDtoList));
     }
 
+    // 웹툰 에피소드 커서 조회 (?after= 로 첫 페이지, 이후 nextCursor 전달)
+    @ApiOperation("웹툰 에피소드 커서 조회")
+    @GetMapping(value = "/webtoon/episodes/{webtoonId}", params = "after")
+    public ApiResponse<CursorSlice<EpisodeDto>> getWebtoonEpisodesAfter(@PathVariable Long webtoonId,
+                                                                        @RequestParam String after,
+                                                                        HttpServletRequest request) {
+        viewService.checkViewCount(webtoonId, request);
+        CursorSlice<EpisodeDto> episodeDtoList = webtoonService.getWebtoonEpisodesAfter(webtoonId, after);
+        return new ApiResponse<>(HttpStatus.OK, ResponseCode.GET_EPISODES_SUCCESS, episodeDtoList);
+    }
+
     // 웹툰 요일별 조회 (업데이트순, 평점순, 조회수순)
     @ApiOperation("웹툰 요일별 조회 (업데이트순, 평점순, 조회수순)")
-    @Cacheable(key = "#day + ', sort: ' + #sortType.toString() + ', page: ' + #page", value = "webtoonList")
+    // 평점순/조회수순은 순위 인덱스가 주기적으로 갱신되므로 캐시하지 않음 (웹툰 변경 때만 비우는 캐시에 두면 순위가 늦게 반영)
+    @Cacheable(key = "#day + ', sort: ' + #sortType.toString() + ', page: ' + #page", value = "webtoonList", sync = true,
+        condition = "#sortType.name() == 'NEW'")
     @GetMapping("/webtoon")
     public ApiResponse<Page<WebtoonDto>> getWebtoonByDay(
         @RequestParam(defaultValue = "MON") String day,
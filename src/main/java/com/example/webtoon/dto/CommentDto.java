@@ -1,6 +1,7 @@
 package com.example.webtoon.dto;
 
 import com.example.webtoon.entity.Comment;
+import com.example.webtoon.repository.projection.CommentView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,4 +24,11 @@ public class CommentDto {
             .userComment(comment.getComment())
             .build();
     }
+
+    public static CommentDto from(CommentView comment) {
+        return CommentDto.builder()
+            .commentId(comment.getCommentId())
+            .userComment(comment.getComment())
+            .build();
+    }
 }
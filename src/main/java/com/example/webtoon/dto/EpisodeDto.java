@@ -2,6 +2,10 @@ package com.example.webtoon.dto;
 
 
 import com.example.webtoon.entity.Episode;
+import com.example.webtoon.repository.projection.EpisodeView;
+import com.example.webtoon.type.ThumbnailWidth;
+import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +23,15 @@ public class EpisodeDto {
     private String title;
     private String epFileUri;
     private String thFileUri;
+    // 썸네일 폭 -> 변형 이미지 URI (생성 전이면 원본이 대신 응답됨)
+    private Map<Integer, String> thVariantUris;
+    // 세로 조각 목록 (위에서부터 순서대로, 나누지 않은 에피소드면 빈 목록이고 epFileUri 하나로 제공)
+    private List<EpisodeSliceDto> slices;
+
+    public EpisodeDto(Long episodeId, String title, String epFileUri, String thFileUri) {
+        this(episodeId, title, epFileUri, thFileUri, ThumbnailWidth.variantUris(thFileUri),
+            EpisodeSliceDto.manifest(epFileUri, null));
+    }
 
     public static EpisodeDto from(Episode episode) {
 
@@ -27,6 +40,21 @@ public class EpisodeDto {
             .title(episode.getTitle())
             .epFileUri(episode.getEpisodeFile().getEpFileUri())
             .thFileUri(episode.getEpisodeThumbnail().getThFileUri())
+            .thVariantUris(ThumbnailWidth.variantUris(episode.getEpisodeThumbnail().getThFileUri()))
+            .slices(EpisodeSliceDto.manifest(
+                episode.getEpisodeFile().getEpFileUri(), episode.getEpisodeFile().getEpSlices()))
+            .build();
+    }
+
+    public static EpisodeDto from(EpisodeView episode) {
+
+        return EpisodeDto.builder()
+            .episodeId(episode.getEpisodeId())
+            .title(episode.getTitle())
+            .epFileUri(episode.getEpFileUri())
+            .thFileUri(episode.getThFileUri())
+            .thVariantUris(ThumbnailWidth.variantUris(episode.getThFileUri()))
+            .slices(EpisodeSliceDto.manifest(episode.getEpFileUri(), episode.getEpSlices()))
             .build();
     }
 }
@@ -1,7 +1,6 @@
 package com.example.webtoon.dto;
 
-import com.example.webtoon.entity.Episode;
-import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.projection.RatedEpisodeView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,9 +16,9 @@ public class EpisodeIdListDto {
 
     private Long episodeId;
 
-    public static EpisodeIdListDto from(Episode episode) {
+    public static EpisodeIdListDto from(RatedEpisodeView ratedEpisode) {
         return EpisodeIdListDto.builder()
-            .episodeId(episode.getEpisodeId())
+            .episodeId(ratedEpisode.getEpisodeId())
             .build();
     }
 }
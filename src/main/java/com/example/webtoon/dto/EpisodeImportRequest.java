@@ -0,0 +1,20 @@
+package com.example.webtoon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 에피소드 일괄 등록 항목 (이미 업로드된 파일 이름, URI 는 서버에서 채움)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpisodeImportRequest {
+
+    private String title;
+    private String epFileName;
+    private String thFileName;
+}
@@ -0,0 +1,76 @@
+package com.example.webtoon.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.util.StringUtils;
+
+// 세로로 긴 에피소드 이미지를 나눈 조각 (위에서부터 순서대로, 원본 옆에 {이름}_s{순번}.{확장자} 로 저장)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpisodeSliceDto {
+
+    private static final Pattern SLICE_NAME = Pattern.compile("^(.*)_s\\d+(\\.[^./]*)?$");
+
+    private String uri;
+    private int width;
+    private int height;
+    private long size;
+
+    // ab/cd/abcd.png -> ab/cd/abcd_s0.png (파일 이름, URI 모두 가능)
+    public static String sliceOf(String name, int index) {
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        String suffix = "_s" + index;
+        return dot > slash ? name.substring(0, dot) + suffix + name.substring(dot) : name + suffix;
+    }
+
+    // 조각 이름이면 원본 이름, 아니면 null
+    public static String originalOf(String name) {
+        Matcher matcher = SLICE_NAME.matcher(name);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group(1) + (matcher.group(2) == null ? "" : matcher.group(2));
+    }
+
+    // 저장된 조각 정보 ("가로x세로:바이트,...") -> 순서대로 조각 목록 (나누지 않은 에피소드면 빈 목록)
+    public static List<EpisodeSliceDto> manifest(String epFileUri, String epSlices) {
+        if (epFileUri == null || !StringUtils.hasText(epSlices)) {
+            return Collections.emptyList();
+        }
+        String[] entries = epSlices.split(",");
+        List<EpisodeSliceDto> slices = new ArrayList<>(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            int x = entries[i].indexOf('x');
+            int colon = entries[i].indexOf(':');
+            slices.add(new EpisodeSliceDto(sliceOf(epFileUri, i),
+                Integer.parseInt(entries[i].substring(0, x)),
+                Integer.parseInt(entries[i].substring(x + 1, colon)),
+                Long.parseLong(entries[i].substring(colon + 1))));
+        }
+        return slices;
+    }
+
+    // 조각 정보를 episode 테이블 한 컬럼에 저장할 문자열로 변환
+    public static String encode(List<EpisodeSliceDto> slices) {
+        StringBuilder encoded = new StringBuilder();
+        for (EpisodeSliceDto slice : slices) {
+            if (encoded.length() > 0) {
+                encoded.append(',');
+            }
+            encoded.append(slice.getWidth()).append('x').append(slice.getHeight()).append(':').append(slice.getSize());
+        }
+        return encoded.toString();
+    }
+}
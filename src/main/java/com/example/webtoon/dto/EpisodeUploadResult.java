@@ -0,0 +1,41 @@
+package com.example.webtoon.dto;
+
+import com.example.webtoon.type.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EpisodeUploadResult {
+
+    private String title;
+    private boolean success;
+    private EpisodeDto episode;
+    private ErrorCode errorCode;
+    private String errorMessage;
+
+    public static EpisodeUploadResult success(EpisodeDto episode) {
+
+        return EpisodeUploadResult.builder()
+            .title(episode.getTitle())
+            .success(true)
+            .episode(episode)
+            .build();
+    }
+
+    public static EpisodeUploadResult failure(String title, ErrorCode errorCode) {
+
+        return EpisodeUploadResult.builder()
+            .title(title)
+            .success(false)
+            .errorCode(errorCode)
+            .errorMessage(errorCode.getMessage())
+            .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.webtoon.dto;
 
 import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.type.ThumbnailWidth;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,15 +21,26 @@ public class WebtoonDto {
     private String artist;
     private String day;
     private String genre;
+    private String thumbnailUri;
+    // 썸네일 폭 -> 변형 이미지 URI (생성 전이면 원본이 대신 응답됨)
+    private Map<Integer, String> thumbnailVariantUris;
+
+    public WebtoonDto(Long webtoonId, String title, String artist, String day, String genre) {
+        this(webtoonId, title, artist, day, genre, null, null);
+    }
 
     public static WebtoonDto from(Webtoon webtoon) {
 
+        String thumbnailUri = webtoon.getWebtoonThumbnail() == null
+            ? null : webtoon.getWebtoonThumbnail().getFileUri();
         return WebtoonDto.builder()
             .webtoonId(webtoon.getWebtoonId())
             .title(webtoon.getTitle())
             .artist(webtoon.getArtist())
             .day(webtoon.getDay())
             .genre(webtoon.getGenre())
+            .thumbnailUri(thumbnailUri)
+            .thumbnailVariantUris(ThumbnailWidth.variantUris(thumbnailUri))
             .build();
     }
 
@@ -1,6 +1,6 @@
 package com.example.webtoon.dto;
 
-import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.projection.FavoriteWebtoonView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,9 +16,9 @@ public class WebtoonIdListDto {
 
     private Long webtoonId;
 
-    public static WebtoonIdListDto from(Webtoon webtoon) {
+    public static WebtoonIdListDto from(FavoriteWebtoonView favoriteWebtoon) {
         return WebtoonIdListDto.builder()
-            .webtoonId(webtoon.getWebtoonId())
+            .webtoonId(favoriteWebtoon.getWebtoonId())
             .build();
     }
 }
@@ -4,8 +4,11 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,12 +18,19 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_comment_episode_created", columnList = "episode_id, createdAt, commentId"),
+    @Index(name = "idx_comment_user_created", columnList = "user_id, createdAt, commentId")})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment extends DateEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = IdSequence.COMMENT, allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long commentId;
 
     private String comment;
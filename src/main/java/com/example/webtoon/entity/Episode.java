@@ -3,15 +3,19 @@ package com.example.webtoon.entity;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,12 +25,18 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(indexes = @Index(name = "idx_episode_webtoon_created",
+    columnList = "webtoon_id, createdAt, episodeId"))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Episode extends DateEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "episode_id_generator")
+    @TableGenerator(name = "episode_id_generator", table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = IdSequence.EPISODE, allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long episodeId;
 
     private String title;
@@ -41,6 +51,16 @@ public class Episode extends DateEntity {
     @JoinColumn(name = "webtoon_id")
     private Webtoon webtoon;
 
+    // 에피소드 평점 합계/개수/평균
+    @Column(insertable = false, updatable = false)
+    private Long rateSum;
+
+    @Column(insertable = false, updatable = false)
+    private Long rateCount;
+
+    @Column(insertable = false, updatable = false)
+    private Double avgRate;
+
     public Episode(String title) {
         this.title = title;
     }
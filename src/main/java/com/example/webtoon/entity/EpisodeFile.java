@@ -1,5 +1,6 @@
 package com.example.webtoon.entity;
 
+import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,8 +15,18 @@ public class EpisodeFile {
     private String epFileName;
     private String epFileUri;
 
+    // 세로 조각 정보 ("가로x세로:바이트,..." 위에서부터 순서대로), 나누지 않은 이미지면 null
+    @Column(length = 4000)
+    private String epSlices;
+
     public EpisodeFile(String epFileName, String epFileUri) {
         this.epFileName = epFileName;
         this.epFileUri = epFileUri;
     }
+
+    public EpisodeFile(String epFileName, String epFileUri, String epSlices) {
+        this.epFileName = epFileName;
+        this.epFileUri = epFileUri;
+        this.epSlices = epSlices;
+    }
 }
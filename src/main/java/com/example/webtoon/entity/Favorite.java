@@ -4,8 +4,11 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,13 +18,17 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(indexes = @Index(name = "idx_favorite_user_created", columnList = "user_id, createdAt, favId"))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Favorite extends DateEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "favorite_id_generator")
+    @TableGenerator(name = "favorite_id_generator", table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = IdSequence.FAVORITE, allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long favId;
 
     @ManyToOne
@@ -0,0 +1,21 @@
+package com.example.webtoon.entity;
+
+// 테이블 기반 id 발급 (pooled), IDENTITY 와 달리 INSERT 전에 id 를 알 수 있어 JDBC batch insert 가능
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // 한 번에 확보하는 id 개수 (id_sequence 조회/갱신은 이만큼 INSERT 할 때마다 1번)
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String EPISODE = "episode";
+    public static final String COMMENT = "comment";
+    public static final String RATE = "rate";
+    public static final String VIEW = "view";
+    public static final String FAVORITE = "favorite";
+
+    private IdSequence() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.webtoon.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 내용 해시로 저장한 파일과 그 파일을 가리키는 웹툰/에피소드 수 (0 이 되면 파일 삭제)
+@Getter
+@Setter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoredFile {
+
+    // 업로드 디렉토리 기준 상대 경로 (ab/cd/{sha-256}.jpg)
+    @Id
+    private String fileName;
+
+    private Long refCount;
+}
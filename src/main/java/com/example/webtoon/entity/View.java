@@ -6,6 +6,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,7 +15,11 @@ import lombok.Setter;
 @Entity
 public class View {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "view_id_generator")
+    @TableGenerator(name = "view_id_generator", table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = IdSequence.VIEW, allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long viewId;
 
     private String userIP;
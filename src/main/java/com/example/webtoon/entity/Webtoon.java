@@ -1,5 +1,6 @@
 package com.example.webtoon.entity;
 
+import com.example.webtoon.type.DayType;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CascadeType;
@@ -10,7 +11,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +25,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_webtoon_avg_rate", columnList = "avgRate"),
+    @Index(name = "idx_webtoon_day_mask", columnList = "dayMask")})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -35,10 +43,23 @@ public class Webtoon extends DateEntity {
 
     private String day;
 
+    // day 를 파싱한 요일 비트마스크 (월=1, 화=2, ... 일=64), LIKE 대신 인덱스로 요일 필터링
+    private Integer dayMask;
+
     private String genre;
 
     private Long viewCount;
 
+    // 모든 에피소드 평점의 합계/개수/평균 (JPA 로는 쓰지 않고 증분 UPDATE 와 재계산 작업으로만 갱신)
+    @Column(insertable = false, updatable = false)
+    private Long rateSum;
+
+    @Column(insertable = false, updatable = false)
+    private Long rateCount;
+
+    @Column(insertable = false, updatable = false)
+    private Double avgRate;
+
     @Embedded
     private WebtoonThumbnail webtoonThumbnail;
 
@@ -51,7 +72,19 @@ public class Webtoon extends DateEntity {
     public Webtoon(String title, String artist, String day, String genre) {
         this.title = title;
         this.artist = artist;
-        this.day = day;
         this.genre = genre;
+        setDay(day);
+    }
+
+    public void setDay(String day) {
+        this.day = day;
+        this.dayMask = DayType.toMask(day);
+    }
+
+    // 빌더로 만든 경우에도 저장 시 마스크 동기화
+    @PrePersist
+    @PreUpdate
+    void syncDayMask() {
+        this.dayMask = DayType.toMask(day);
     }
 }
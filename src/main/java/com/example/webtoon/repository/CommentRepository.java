@@ -1,10 +1,14 @@
 package com.example.webtoon.repository;
 
 import com.example.webtoon.entity.Comment;
+import com.example.webtoon.repository.projection.CommentView;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,7 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    Page<Comment> findAllByEpisode_EpisodeId(Long episodeId, Pageable pageable);
+    // 전체 개수는 TotalCountProvider 가 보관하므로 페이지 조회 시 COUNT 쿼리 생략 (Slice)
+    // 작성자/에피소드 (EAGER) 로딩 없이 필요한 컬럼만 조회
+    @Query("SELECT c.commentId AS commentId, c.comment AS comment, c.createdAt AS createdAt "
+        + "FROM Comment c WHERE c.episode.episodeId = :episodeId")
+    Slice<CommentView> findAllByEpisode_EpisodeId(@Param("episodeId") Long episodeId, Pageable pageable);
+
+    long countByEpisode_EpisodeId(Long episodeId);
 
     Optional<Comment> findByCommentIdAndUser_UserId(Long commentId, Long userId);
 
@@ -20,7 +30,26 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     boolean existsByCommentId(Long commentId);
 
-    void deleteByCommentIdAndUser_UserId(Long episodeId, Long userId);
+    long deleteByCommentIdAndUser_UserId(Long episodeId, Long userId);
+
+    @Query("SELECT c.commentId AS commentId, c.comment AS comment, c.createdAt AS createdAt "
+        + "FROM Comment c WHERE c.user.userId = :userId")
+    Slice<CommentView> findAllByUser_UserId(@Param("userId") Long userId, Pageable pageable);
+
+    long countByUser_UserId(Long userId);
+
+    // 키셋 페이지네이션, (created_at, comment_id) 가 커서보다 앞선 댓글 (최신순)
+    @Query("SELECT c.commentId AS commentId, c.comment AS comment, c.createdAt AS createdAt "
+        + "FROM Comment c WHERE c.episode.episodeId = :episodeId "
+        + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.commentId < :id)) "
+        + "ORDER BY c.createdAt DESC, c.commentId DESC")
+    Slice<CommentView> findSliceByEpisodeId(@Param("episodeId") Long episodeId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
-    Page<Comment> findAllByUser_UserId(Long userId, Pageable pageable);
+    @Query("SELECT c.commentId AS commentId, c.comment AS comment, c.createdAt AS createdAt "
+        + "FROM Comment c WHERE c.user.userId = :userId "
+        + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.commentId < :id)) "
+        + "ORDER BY c.createdAt DESC, c.commentId DESC")
+    Slice<CommentView> findSliceByUserId(@Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -1,10 +1,19 @@
 package com.example.webtoon.repository;
 
 import com.example.webtoon.entity.Episode;
+import com.example.webtoon.repository.projection.EpisodeView;
+import com.example.webtoon.repository.projection.RatedEpisodeView;
+import com.example.webtoon.repository.projection.ThumbnailView;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,15 +21,53 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public interface EpisodeRepository extends JpaRepository<Episode, Long> {
 
-    Page<Episode> findByWebtoon_WebtoonId(Long webtoonId, Pageable pageable);
+    // 전체 개수는 TotalCountProvider 가 보관하므로 페이지 조회 시 COUNT 쿼리 생략 (Slice)
+    // 웹툰 (EAGER) 로딩 없이 EpisodeDto 에 필요한 컬럼만 조회
+    @Query("SELECT e.episodeId AS episodeId, e.title AS title, e.episodeFile.epFileUri AS epFileUri, "
+        + "e.episodeFile.epSlices AS epSlices, e.episodeThumbnail.thFileUri AS thFileUri, "
+        + "e.createdAt AS createdAt FROM Episode e WHERE e.webtoon.webtoonId = :webtoonId")
+    Slice<EpisodeView> findByWebtoon_WebtoonId(@Param("webtoonId") Long webtoonId, Pageable pageable);
+
+    long countByWebtoon_WebtoonId(Long webtoonId);
+
+    // 키셋 페이지네이션, (created_at, episode_id) 가 커서보다 앞선 에피소드 (최신순)
+    @Query("SELECT e.episodeId AS episodeId, e.title AS title, e.episodeFile.epFileUri AS epFileUri, "
+        + "e.episodeFile.epSlices AS epSlices, e.episodeThumbnail.thFileUri AS thFileUri, "
+        + "e.createdAt AS createdAt FROM Episode e WHERE e.webtoon.webtoonId = :webtoonId "
+        + "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.episodeId < :id)) "
+        + "ORDER BY e.createdAt DESC, e.episodeId DESC")
+    Slice<EpisodeView> findSliceByWebtoonId(@Param("webtoonId") Long webtoonId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     Boolean existsByWebtoon_WebtoonIdAndTitle(Long webtoonId, String title);
 
-    @Query(value="Select avg(user_rate) from example.rate where episode_id = ?1", nativeQuery = true)
+    // 썸네일 재생성 작업용, id 순 키셋 조회
+    @Query("SELECT e.episodeId AS id, e.episodeThumbnail.thFileName AS fileName FROM Episode e "
+        + "WHERE e.episodeId > :after ORDER BY e.episodeId")
+    List<ThumbnailView> findThumbnailsAfter(@Param("after") Long after, Pageable pageable);
+
+    // 일괄 등록 시 제목 중복을 한 번에 확인
+    @Query("SELECT e.title FROM Episode e WHERE e.webtoon.webtoonId = :webtoonId AND e.title IN :titles")
+    List<String> findTitlesByWebtoonIdAndTitleIn(@Param("webtoonId") Long webtoonId,
+                                                 @Param("titles") Collection<String> titles);
+
+    @Query("SELECT e.avgRate FROM Episode e WHERE e.episodeId = ?1")
     Double getAvgRate(Long id);
 
-    @Query(value ="SELECT * FROM example.episode "
-        + "left join rate r on episode.episode_id = r.episode_id "
-        + "WHERE user_id = ?1", nativeQuery = true)
-    Page<Episode> findAllByUserId(Long userId, Pageable pageable);
+    // 평점 증감을 합계/개수/평균에 반영 (평균은 갱신 전 값으로 먼저 계산해 DB 별 SET 평가 순서와 무관)
+    @Modifying
+    @Query(value = "UPDATE episode SET "
+        + "avg_rate = (COALESCE(rate_sum, 0) + :sumDelta) * 1.0 / NULLIF(COALESCE(rate_count, 0) + :countDelta, 0), "
+        + "rate_sum = COALESCE(rate_sum, 0) + :sumDelta, "
+        + "rate_count = COALESCE(rate_count, 0) + :countDelta "
+        + "WHERE episode_id = :episodeId", nativeQuery = true)
+    int applyRateDelta(@Param("episodeId") Long episodeId,
+                       @Param("sumDelta") long sumDelta,
+                       @Param("countDelta") long countDelta);
+
+    // 유저가 평점 부여한 에피소드 id (평점 테이블만 조회)
+    @Query(value = "SELECT r.rateId AS rateId, r.episode.episodeId AS episodeId, r.createdAt AS createdAt "
+        + "FROM Rate r WHERE r.user.userId = :userId",
+        countQuery = "SELECT COUNT(r) FROM Rate r WHERE r.user.userId = :userId")
+    Page<RatedEpisodeView> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -1,7 +1,13 @@
 package com.example.webtoon.repository;
 
 import com.example.webtoon.entity.Favorite;
+import com.example.webtoon.repository.projection.FavoriteWebtoonView;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,4 +18,12 @@ public interface FavRepository extends JpaRepository<Favorite, Long> {
     boolean existsByWebtoon_WebtoonIdAndUser_UserId(Long webtoonId, Long userId);
 
     void deleteByWebtoon_WebtoonIdAndUser_UserId(Long webtoonId, Long userId);
+
+    // 선호작품 등록 순서 기준 키셋 페이지네이션 (최신순)
+    @Query("SELECT f.favId AS favId, f.webtoon.webtoonId AS webtoonId, f.createdAt AS createdAt "
+        + "FROM Favorite f WHERE f.user.userId = :userId "
+        + "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.favId < :id)) "
+        + "ORDER BY f.createdAt DESC, f.favId DESC")
+    Slice<FavoriteWebtoonView> findSliceByUserId(@Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
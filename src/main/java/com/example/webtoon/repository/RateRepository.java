@@ -1,8 +1,14 @@
 package com.example.webtoon.repository;
 
 import com.example.webtoon.entity.Rate;
+import com.example.webtoon.repository.projection.RatedEpisodeView;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,4 +21,12 @@ public interface RateRepository extends JpaRepository<Rate, Long> {
     Boolean existsByEpisode_EpisodeIdAndUser_UserId(Long episodeId, Long userId);
 
     void deleteByEpisode_EpisodeIdAndUser_UserId(Long episodeId, Long userId);
+
+    // 유저가 평점 부여한 순서 기준 키셋 페이지네이션 (최신순)
+    @Query("SELECT r.rateId AS rateId, r.episode.episodeId AS episodeId, r.createdAt AS createdAt "
+        + "FROM Rate r WHERE r.user.userId = :userId "
+        + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.rateId < :id)) "
+        + "ORDER BY r.createdAt DESC, r.rateId DESC")
+    Slice<RatedEpisodeView> findSliceByUserId(@Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,41 @@
+package com.example.webtoon.repository;
+
+import com.example.webtoon.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    // 참조 1 증가 (처음 저장된 파일이면 행 생성)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stored_file (file_name, ref_count) VALUES (:fileName, 1) "
+        + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int increment(@Param("fileName") String fileName);
+
+    // 참조 count 만큼 증가 (이미 저장된 파일을 여러 곳에서 가리킬 때 한 번에)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stored_file (file_name, ref_count) VALUES (:fileName, :count) "
+        + "ON DUPLICATE KEY UPDATE ref_count = ref_count + :count", nativeQuery = true)
+    int incrementBy(@Param("fileName") String fileName, @Param("count") int count);
+
+    // 참조 1 감소 (관리하지 않는 예전 파일이면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.fileName = :fileName AND f.refCount > 0")
+    int decrement(@Param("fileName") String fileName);
+
+    // 같은 내용 해시로 시작하는 이름이 하나라도 참조 중인지 (확장자만 다른 이름 포함)
+    boolean existsByFileNameStartingWith(String prefix);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.fileName = :fileName AND f.refCount <= 0")
+    int deleteUnreferenced(@Param("fileName") String fileName);
+}
@@ -1,9 +1,16 @@
 package com.example.webtoon.repository;
 
 import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.projection.FavoriteWebtoonView;
+import com.example.webtoon.repository.projection.RankingView;
+import com.example.webtoon.repository.projection.ThumbnailView;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,23 +22,43 @@ public interface WebtoonRepository extends JpaRepository<Webtoon, Long> {
 
     Boolean existsByTitle(String title);
 
-    @Query(value="Select avg(user_rate) from example.rate "
-        + "JOIN example.episode e on e.episode_id = rate.episode_id "
-        + "where webtoon_id = ?1", nativeQuery = true)
+    // 썸네일 재생성 작업용, id 순 키셋 조회
+    @Query("SELECT w.webtoonId AS id, w.webtoonThumbnail.fileName AS fileName FROM Webtoon w "
+        + "WHERE w.webtoonId > :after ORDER BY w.webtoonId")
+    List<ThumbnailView> findThumbnailsAfter(@Param("after") Long after, Pageable pageable);
+
+    // 순위 색인 전체 적재용, 에피소드 등 연관 엔티티 없이 한 번에 조회
+    @Query("SELECT w.webtoonId AS webtoonId, w.title AS title, w.artist AS artist, w.day AS day, "
+        + "w.genre AS genre, w.webtoonThumbnail.fileUri AS thumbnailUri, w.updatedAt AS updatedAt, "
+        + "w.rateSum AS rateSum, w.rateCount AS rateCount, w.viewCount AS viewCount FROM Webtoon w")
+    List<RankingView> findRankingViews();
+
+    @Query("SELECT w.avgRate FROM Webtoon w WHERE w.webtoonId = ?1")
     Double getAvgRate(Long id);
 
-    @Query(value = "SELECT * FROM example.webtoon "
-        + "LEFT JOIN example.favorite f on webtoon.webtoon_id = f.webtoon_id "
-        + "WHERE user_id = ?1", nativeQuery = true)
-    Page<Webtoon> findAllByUserId(Long userId, Pageable pageable);
+    // 에피소드가 속한 웹툰의 평점 합계/개수/평균에 증감 반영
+    @Modifying
+    @Query(value = "UPDATE webtoon SET "
+        + "avg_rate = (COALESCE(rate_sum, 0) + :sumDelta) * 1.0 / NULLIF(COALESCE(rate_count, 0) + :countDelta, 0), "
+        + "rate_sum = COALESCE(rate_sum, 0) + :sumDelta, "
+        + "rate_count = COALESCE(rate_count, 0) + :countDelta "
+        + "WHERE webtoon_id = (SELECT e.webtoon_id FROM episode e WHERE e.episode_id = :episodeId)", nativeQuery = true)
+    int applyRateDeltaByEpisodeId(@Param("episodeId") Long episodeId,
+                                  @Param("sumDelta") long sumDelta,
+                                  @Param("countDelta") long countDelta);
+
+    // 유저의 선호 작품 id (선호작품 테이블만 조회)
+    @Query(value = "SELECT f.favId AS favId, f.webtoon.webtoonId AS webtoonId, f.createdAt AS createdAt "
+        + "FROM Favorite f WHERE f.user.userId = :userId",
+        countQuery = "SELECT COUNT(f) FROM Favorite f WHERE f.user.userId = :userId")
+    Page<FavoriteWebtoonView> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // masks: 조회할 요일 비트를 모두 포함하는 마스크 목록 (DayType.masksContaining), day_mask 인덱스 사용
+    // 전체 개수는 TotalCountProvider 가 보관하므로 COUNT 쿼리 생략 (Slice)
+    @Query(value = "SELECT * FROM example.webtoon w WHERE w.day_mask IN (:masks)", nativeQuery = true)
+    Slice<Webtoon> findByDayMaskIn(@Param("masks") Collection<Integer> masks, Pageable pageable);
 
-    @Query(value = "SELECT * FROM example.webtoon w "
-        + "LEFT JOIN (SELECT e.webtoon_id, avg(user_rate) as avg_rate FROM example.rate "
-        + "LEFT JOIN example.episode e ON e.episode_id = rate.episode_id group by webtoon_id) user_rate "
-        + "ON w.webtoon_id = user_rate.webtoon_id WHERE w.day LIKE CONCAT('%',:day,'%')",
-        countQuery = "SELECT COUNT(*) FROM example.webtoon WHERE day LIKE CONCAT('%',:day,'%')",
-        nativeQuery = true)
-    Page<Webtoon> findByDay(@Param("day") String day, Pageable pageable);
+    long countByDayMaskIn(Collection<Integer> masks);
 
-    boolean existsByDayContaining(String day);
+    boolean existsByDayMaskIn(Collection<Integer> masks);
 }
@@ -0,0 +1,13 @@
+package com.example.webtoon.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 조회용 (CommentDto 필드 + 커서용 createdAt), 연관 엔티티 로딩 없이 한 번의 쿼리로 조회
+public interface CommentView {
+
+    Long getCommentId();
+
+    String getComment();
+
+    LocalDateTime getCreatedAt();
+}
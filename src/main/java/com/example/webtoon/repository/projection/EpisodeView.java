@@ -0,0 +1,19 @@
+package com.example.webtoon.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 에피소드 목록 조회용 (EpisodeDto 필드 + 커서용 createdAt)
+public interface EpisodeView {
+
+    Long getEpisodeId();
+
+    String getTitle();
+
+    String getEpFileUri();
+
+    String getEpSlices();
+
+    String getThFileUri();
+
+    LocalDateTime getCreatedAt();
+}
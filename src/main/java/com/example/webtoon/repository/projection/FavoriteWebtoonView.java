@@ -0,0 +1,13 @@
+package com.example.webtoon.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 선호 작품 목록 조회용 (커서는 선호작품의 createdAt, favId)
+public interface FavoriteWebtoonView {
+
+    Long getFavId();
+
+    Long getWebtoonId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,27 @@
+package com.example.webtoon.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 웹툰 순위 색인 적재용 (목록 DTO 와 정렬에 필요한 컬럼만)
+public interface RankingView {
+
+    Long getWebtoonId();
+
+    String getTitle();
+
+    String getArtist();
+
+    String getDay();
+
+    String getGenre();
+
+    String getThumbnailUri();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getRateSum();
+
+    Long getRateCount();
+
+    Long getViewCount();
+}
@@ -0,0 +1,13 @@
+package com.example.webtoon.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 유저가 평점 부여한 에피소드 목록 조회용 (커서는 평점의 createdAt, rateId)
+public interface RatedEpisodeView {
+
+    Long getRateId();
+
+    Long getEpisodeId();
+
+    LocalDateTime getCreatedAt();
+}
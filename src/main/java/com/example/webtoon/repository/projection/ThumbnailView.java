@@ -0,0 +1,9 @@
+package com.example.webtoon.repository.projection;
+
+// 썸네일 재생성 작업용 (키셋 조회 id + 썸네일 파일 이름)
+public interface ThumbnailView {
+
+    Long getId();
+
+    String getFileName();
+}
@@ -0,0 +1,141 @@
+package com.example.webtoon.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLongArray words;
+    private final AtomicLong bitCount;
+
+    private BloomFilter(long numBits, int numHashes, AtomicLongArray words, long bitCount) {
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.words = words;
+        this.bitCount = new AtomicLong(bitCount);
+    }
+
+    // 예상 원소 개수와 오탐률로 비트 수, 해시 함수 개수 결정
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long wordCount = Math.max(1, (bits + 63) / 64);
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("bloom filter too large");
+        }
+
+        long numBits = wordCount * 64;
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+        return new BloomFilter(numBits, numHashes, new AtomicLongArray((int) wordCount), 0);
+    }
+
+    // 원소 추가, 새로 켜진 비트가 있으면(=처음 본 원소일 가능성) true
+    public boolean put(byte[] key) {
+        long h1 = hash(key, SEED_1);
+        long h2 = hash(key, SEED_2);
+
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            changed |= setBit(index(h1, h2, i));
+        }
+        return changed;
+    }
+
+    public boolean mightContain(byte[] key) {
+        long h1 = hash(key, SEED_1);
+        long h2 = hash(key, SEED_2);
+
+        for (int i = 0; i < numHashes; i++) {
+            long index = index(h1, h2, i);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 켜진 비트 비율 (1에 가까울수록 오탐률 증가)
+    public double getFillRatio() {
+        return (double) bitCount.get() / numBits;
+    }
+
+    public long getNumBits() {
+        return numBits;
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(numBits);
+        out.writeInt(numHashes);
+        out.writeLong(bitCount.get());
+        for (int i = 0; i < words.length(); i++) {
+            out.writeLong(words.get(i));
+        }
+    }
+
+    public static BloomFilter readFrom(DataInputStream in) throws IOException {
+        long numBits = in.readLong();
+        int numHashes = in.readInt();
+        long bitCount = in.readLong();
+
+        AtomicLongArray words = new AtomicLongArray((int) (numBits / 64));
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, in.readLong());
+        }
+        return new BloomFilter(numBits, numHashes, words, bitCount);
+    }
+
+    private long index(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+
+        bitCount.incrementAndGet();
+        return true;
+    }
+
+    private static long hash(byte[] data, long seed) {
+        long h = seed ^ (data.length * 0x100000001B3L);
+        for (byte b : data) {
+            h ^= (b & 0xff);
+            h *= 0x100000001B3L;
+        }
+
+        // murmur3 finalizer
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
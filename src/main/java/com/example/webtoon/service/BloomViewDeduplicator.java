@@ -0,0 +1,162 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.ViewProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "view.dedup.type", havingValue = "bloom", matchIfMissing = true)
+public class BloomViewDeduplicator implements ViewDeduplicator {
+
+    private static final int SNAPSHOT_MAGIC = 0x56424631;
+
+    private final ViewProperties viewProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 현재 세대와 직전 세대를 함께 교체하기 위한 불변 묶음
+    private volatile Generations generations;
+
+    @PostConstruct
+    public void init() {
+        generations = loadSnapshot();
+        if (generations == null) {
+            generations = new Generations(newFilter(), null, System.currentTimeMillis());
+        }
+
+        Gauge.builder("view.dedup.fill.ratio", this, BloomViewDeduplicator::getFillRatio)
+            .description("current bloom filter generation fill ratio")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isFirstView(String ip, Long webtoonId) {
+        Generations gens = rotateIfExpired(System.currentTimeMillis());
+        byte[] key = (webtoonId + ":" + ip).getBytes(StandardCharsets.UTF_8);
+
+        if (gens.previous != null && gens.previous.mightContain(key)) {
+            return false;
+        }
+        return gens.current.put(key);
+    }
+
+    public double getFillRatio() {
+        return generations.current.getFillRatio();
+    }
+
+    // 중복 기간이 지나면 현재 세대를 직전 세대로 내리고 새 세대 시작
+    synchronized Generations rotateIfExpired(long now) {
+        Generations gens = generations;
+        if (now - gens.startedAt >= viewProperties.getDedup().getWindow().toMillis()) {
+            gens = new Generations(newFilter(), gens.current, now);
+            generations = gens;
+        }
+        return gens;
+    }
+
+    @Scheduled(fixedDelayString = "${view.dedup.snapshot-interval-ms:600000}")
+    public void snapshot() {
+        String snapshotPath = viewProperties.getDedup().getSnapshotPath();
+        if (!StringUtils.hasText(snapshotPath)) {
+            return;
+        }
+
+        Path target = Paths.get(snapshotPath).toAbsolutePath().normalize();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Generations gens = generations;
+
+        try {
+            Files.createDirectories(target.getParent());
+            try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(gens.startedAt);
+                gens.current.writeTo(out);
+                out.writeBoolean(gens.previous != null);
+                if (gens.previous != null) {
+                    gens.previous.writeTo(out);
+                }
+            }
+            Files.move(temp, target,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("view dedup snapshot failed: {}", target, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    private Generations loadSnapshot() {
+        String snapshotPath = viewProperties.getDedup().getSnapshotPath();
+        if (!StringUtils.hasText(snapshotPath)) {
+            return null;
+        }
+
+        Path source = Paths.get(snapshotPath).toAbsolutePath().normalize();
+        if (!Files.exists(source)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                log.warn("ignoring unknown view dedup snapshot format: {}", source);
+                return null;
+            }
+
+            long startedAt = in.readLong();
+            BloomFilter current = BloomFilter.readFrom(in);
+            BloomFilter previous = in.readBoolean() ? BloomFilter.readFrom(in) : null;
+
+            // 두 세대 모두 만료된 스냅샷은 버림
+            long window = viewProperties.getDedup().getWindow().toMillis();
+            if (System.currentTimeMillis() - startedAt >= window * 2) {
+                return null;
+            }
+            return new Generations(current, previous, startedAt);
+        } catch (IOException e) {
+            log.warn("view dedup snapshot could not be loaded: {}", source, e);
+            return null;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        ViewProperties.Dedup dedup = viewProperties.getDedup();
+        return BloomFilter.create(dedup.getExpectedInsertions(), dedup.getFalsePositiveRate());
+    }
+
+    static class Generations {
+
+        private final BloomFilter current;
+        private final BloomFilter previous;
+        private final long startedAt;
+
+        Generations(BloomFilter current, BloomFilter previous, long startedAt) {
+            this.current = current;
+            this.previous = previous;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.webtoon.service;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
+import com.example.webtoon.config.Cursor;
+import com.example.webtoon.config.CursorSlice;
+import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.CommentDto;
 import com.example.webtoon.entity.Comment;
 import com.example.webtoon.entity.Episode;
@@ -8,13 +12,14 @@ import com.example.webtoon.exception.CustomException;
 import com.example.webtoon.repository.CommentRepository;
 import com.example.webtoon.repository.EpisodeRepository;
 import com.example.webtoon.repository.UserRepository;
+import com.example.webtoon.repository.projection.CommentView;
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
 import com.example.webtoon.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -27,10 +32,10 @@ public class CommentService {
     private final EpisodeRepository episodeRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final CacheFamilyEvictor cacheFamilyEvictor;
+    private final TotalCountProvider totalCountProvider;
 
     // 댓글 신규 작성
-    @Caching(evict = {@CacheEvict(value = "commentList", allEntries = true),
-                      @CacheEvict(value = "commentListbyUser", allEntries = true)})
     public CommentDto createComment(Long episodeId, Long userId, String userComment) {
 
         Episode episode = episodeRepository.findById(episodeId).orElseThrow(
@@ -43,13 +48,13 @@ public class CommentService {
         comment.setEpisode(episode);
         comment.setUser(user);
         commentRepository.save(comment);
+        evictCommentCaches(comment);
+        addCommentCounts(comment, 1);
 
         return CommentDto.from(comment);
     }
 
     // 댓글 수정
-    @Caching(evict = {@CacheEvict(value = "commentList", allEntries = true),
-                      @CacheEvict(value = "commentListbyUser", allEntries = true)})
     public CommentDto updateComment(Long commentId, Long userId, String userComment) {
         Comment comment = commentRepository.findByCommentIdAndUser_UserId(commentId, userId)
             .orElseThrow(() -> new CustomException(
@@ -57,42 +62,71 @@ public class CommentService {
 
         comment.setComment(userComment);
         commentRepository.save(comment);
+        evictCommentCaches(comment);
 
         return CommentDto.from(comment);
     }
 
     // 댓글 삭제
-    @Caching(evict = {@CacheEvict(value = "commentList", allEntries = true),
-                      @CacheEvict(value = "commentListbyUser", allEntries = true)})
     public void deleteComment(Long commentId, Long userId) {
 
         // 댓글이 있는지 확인
-        if (!commentRepository.existsByCommentId(commentId)) {
-            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.COMMENT_NOT_FOUND);
-        }
+        Comment comment = commentRepository.findById(commentId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.COMMENT_NOT_FOUND));
 
         // 그 댓글이 회원이 작성한 건지 확인
         if (!commentRepository.existsByUserUserId(userId)) {
             throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.USER_NOT_FOUND);
         }
 
-        commentRepository.deleteByCommentIdAndUser_UserId(commentId, userId);
+        if (commentRepository.deleteByCommentIdAndUser_UserId(commentId, userId) > 0) {
+            addCommentCounts(comment, -1);
+        }
+        evictCommentCaches(comment);
     }
 
     // 댓글 삭제 (관리자)
-    @Caching(evict = {@CacheEvict(value = "commentList", allEntries = true),
-                      @CacheEvict(value = "commentListbyUser", allEntries = true)})
     public void deleteCommentByAdmin(Long commentId) {
-        if (!commentRepository.existsById(commentId)) {
-            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.COMMENT_NOT_FOUND);
-        }
+        Comment comment = commentRepository.findById(commentId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.COMMENT_NOT_FOUND));
+
         commentRepository.deleteById(commentId);
+        evictCommentCaches(comment);
+        addCommentCounts(comment, -1);
     }
 
     // 에피소드 별 댓글 전체 목록 조회
     public Page<CommentDto> getCommentList(Long episodeId, Integer page) {
         Pageable pageable = PageRequest.of(page, SIZE);
-        Page<Comment> commentList = commentRepository.findAllByEpisode_EpisodeId(episodeId, pageable);
-        return commentList.map(CommentDto::from);
+        Slice<CommentView> commentList = commentRepository.findAllByEpisode_EpisodeId(episodeId, pageable);
+        TotalCount total = totalCountProvider.getTotal(TotalCountProvider.episodeComments(episodeId),
+            () -> commentRepository.countByEpisode_EpisodeId(episodeId));
+
+        return new RestPage<>(commentList.map(CommentDto::from).getContent(),
+            page, SIZE, total.getValue(), total.isApproximate());
+    }
+
+    // 댓글 목록 커서 조회 (OFFSET, COUNT 없이 마지막으로 받은 댓글 다음부터)
+    public CursorSlice<CommentDto> getCommentListAfter(Long episodeId, String after) {
+        Cursor cursor = Cursor.decode(after);
+        Slice<CommentView> commentList = commentRepository.findSliceByEpisodeId(
+            episodeId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, SIZE));
+        return CursorSlice.of(commentList,
+            comment -> new Cursor(comment.getCreatedAt(), comment.getCommentId()), CommentDto::from);
+    }
+
+    private void addCommentCounts(Comment comment, long delta) {
+        totalCountProvider.add(
+            TotalCountProvider.episodeComments(comment.getEpisode().getEpisodeId()), delta);
+        totalCountProvider.add(
+            TotalCountProvider.userComments(comment.getUser().getUserId()), delta);
+    }
+
+    // 댓글이 달린 에피소드의 댓글 목록, 작성자의 댓글 목록 캐시만 삭제
+    private void evictCommentCaches(Comment comment) {
+        cacheFamilyEvictor.evict("commentList",
+            CacheFamilyEvictor.episode(comment.getEpisode().getEpisodeId()));
+        cacheFamilyEvictor.evict("commentListbyUser",
+            CacheFamilyEvictor.user(comment.getUser().getUserId()));
     }
 }
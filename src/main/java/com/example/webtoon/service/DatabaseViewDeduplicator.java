@@ -0,0 +1,30 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.entity.View;
+import com.example.webtoon.repository.ViewRepository;
+import com.example.webtoon.repository.WebtoonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "view.dedup.type", havingValue = "database")
+public class DatabaseViewDeduplicator implements ViewDeduplicator {
+
+    private final ViewRepository viewRepository;
+    private final WebtoonRepository webtoonRepository;
+
+    @Override
+    public boolean isFirstView(String ip, Long webtoonId) {
+        if (viewRepository.existsByUserIPAndWebtoon_WebtoonId(ip, webtoonId)) {
+            return false;
+        }
+
+        View view = new View();
+        view.setUserIP(ip);
+        view.setWebtoon(webtoonRepository.getReferenceById(webtoonId));
+        viewRepository.save(view);
+        return true;
+    }
+}
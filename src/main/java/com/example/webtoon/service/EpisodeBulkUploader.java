@@ -0,0 +1,312 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeUploadResult;
+import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.type.ErrorCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// zip 으로 올라온 에피소드 묶음을 요청 본문을 읽는 대로 처리 ({제목}/episode.확장자, {제목}/thumbnail.확장자)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EpisodeBulkUploader {
+
+    private static final Pattern ENTRY_NAME =
+        Pattern.compile("^([^/]+)/(episode|thumbnail)\\.([A-Za-z0-9]+)$");
+
+    private final FileUploadProperties fileUploadProperties;
+    private final FileService fileService;
+    private final WebtoonRepository webtoonRepository;
+    private final WebtoonService webtoonService;
+
+    private Path tempLocation;
+    private ExecutorService writers;
+
+    @PostConstruct
+    public void start() {
+        tempLocation = Paths.get(fileUploadProperties.getLocation()).toAbsolutePath().normalize().resolve(".tmp");
+        writers = Executors.newFixedThreadPool(fileUploadProperties.getBulk().getWriteThreads(),
+            new CustomizableThreadFactory("episode-writer-"));
+    }
+
+    // 압축을 푸는 동안 파일 쓰기는 writer 스레드에서 병렬로, DB 저장은 마지막에 한 트랜잭션으로
+    public List<EpisodeUploadResult> upload(Long webtoonId, InputStream archive) throws IOException {
+
+        if (!webtoonRepository.existsById(webtoonId)) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND);
+        }
+
+        FileUploadProperties.Bulk conf = fileUploadProperties.getBulk();
+        Semaphore pendingWrites = new Semaphore(conf.getMaxPendingWrites());
+        Map<String, Upload> uploads = new LinkedHashMap<>();
+        Set<String> overflowTitles = new HashSet<>();
+        List<EpisodeUploadResult> results = new ArrayList<>();
+
+        try (ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+
+                Matcher matcher = ENTRY_NAME.matcher(entry.getName());
+                if (!matcher.matches() || !StringUtils.hasText(matcher.group(1))) {
+                    results.add(EpisodeUploadResult.failure(entry.getName(), ErrorCode.INVALID_EPISODE_UPLOAD));
+                    continue;
+                }
+
+                String title = matcher.group(1);
+                Upload upload = uploads.get(title);
+                if (upload == null) {
+                    // 상한을 넘은 에피소드는 항목이 여러 개여도 결과는 한 번만
+                    if (uploads.size() >= conf.getMaxEpisodes()) {
+                        if (overflowTitles.add(title)) {
+                            results.add(EpisodeUploadResult.failure(title, ErrorCode.TOO_MANY_EPISODES));
+                        }
+                        continue;
+                    }
+                    upload = new Upload(title);
+                    uploads.put(title, upload);
+                }
+                if (upload.errorCode != null) {
+                    continue;
+                }
+
+                boolean thumbnail = "thumbnail".equals(matcher.group(2));
+                if (thumbnail ? upload.thumbnailWrite != null : upload.fileWrite != null) {
+                    upload.errorCode = ErrorCode.INVALID_EPISODE_UPLOAD;
+                    continue;
+                }
+
+                // 항목 하나는 크기 상한까지만 임시 파일로 옮기고, 넘으면 남은 부분은 다음 항목으로 넘어가며 버려짐
+                Path content = copyToTemp(zip, conf.getMaxEntrySize().toBytes());
+                if (content == null) {
+                    upload.errorCode = ErrorCode.EPISODE_FILE_TOO_LARGE;
+                    continue;
+                }
+
+                if (thumbnail) {
+                    upload.thumbnailWrite =
+                        write(content, entry.getName(), fileService::storeThumbnail, pendingWrites);
+                } else {
+                    upload.fileWrite = write(content, entry.getName(), fileService::storeEpisode, pendingWrites);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 요청 본문을 끝까지 읽지 못하면 이미 쓴 파일을 정리하고 전체 실패
+            for (Upload upload : uploads.values()) {
+                await(upload);
+                deleteFiles(upload);
+            }
+            throw e;
+        }
+
+        List<Episode> episodes = new ArrayList<>(uploads.size());
+        for (Upload upload : uploads.values()) {
+            await(upload);
+            if (upload.errorCode == null && (upload.episodeFile == null || upload.thumbnailName == null)) {
+                upload.errorCode = ErrorCode.INVALID_EPISODE_UPLOAD;
+            }
+            if (upload.errorCode != null) {
+                deleteFiles(upload);
+                continue;
+            }
+
+            Episode episode = new Episode(upload.title);
+            upload.episodeFile.setEpFileUri(fileService.fileUri(upload.episodeFile.getEpFileName()));
+            episode.setEpisodeFile(upload.episodeFile);
+            episode.setEpisodeThumbnail(
+                new EpisodeThumbnail(upload.thumbnailName, fileService.fileUri(upload.thumbnailName)));
+            episodes.add(episode);
+        }
+
+        List<EpisodeUploadResult> savedResults;
+        try {
+            savedResults = webtoonService.saveUploadedEpisodes(webtoonId, episodes);
+        } catch (RuntimeException e) {
+            uploads.values().forEach(this::deleteFiles);
+            throw e;
+        }
+
+        Map<String, EpisodeUploadResult> saved = new LinkedHashMap<>();
+        for (EpisodeUploadResult result : savedResults) {
+            saved.put(result.getTitle(), result);
+        }
+
+        for (Upload upload : uploads.values()) {
+            EpisodeUploadResult result = saved.get(upload.title);
+            if (result == null) {
+                results.add(EpisodeUploadResult.failure(upload.title, upload.errorCode));
+                continue;
+            }
+            if (!result.isSuccess()) {
+                deleteFiles(upload);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    // 쓰기 대기 중인 파일 수를 제한해 압축 해제가 저장보다 빠를 때 임시 파일이 쌓이지 않게 함 (저장 후 임시 파일 삭제)
+    private <T> CompletableFuture<T> write(Path content, String originalFilename, Store<T> store,
+                                           Semaphore pendingWrites) throws IOException {
+
+        try {
+            pendingWrites.acquire();
+        } catch (InterruptedException e) {
+            Files.deleteIfExists(content);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("episode upload interrupted");
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (InputStream inputStream = Files.newInputStream(content)) {
+                    return store.store(inputStream, originalFilename);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    deleteTemp(content);
+                    pendingWrites.release();
+                }
+            }, writers);
+        } catch (RejectedExecutionException e) {
+            deleteTemp(content);
+            pendingWrites.release();
+            throw e;
+        }
+    }
+
+    private void await(Upload upload) {
+        upload.episodeFile = join(upload, upload.fileWrite);
+        upload.thumbnailName = join(upload, upload.thumbnailWrite);
+    }
+
+    private <T> T join(Upload upload, CompletableFuture<T> write) {
+        if (write == null) {
+            return null;
+        }
+        try {
+            return write.join();
+        } catch (CompletionException e) {
+            log.warn("episode file write failed: {}", upload.title, e.getCause());
+            if (upload.errorCode == null) {
+                upload.errorCode = ErrorCode.EPISODE_FILE_SAVE_FAILED;
+            }
+            return null;
+        }
+    }
+
+    // 저장되지 않는 에피소드의 파일 참조 해제 (한 번만 해제, 실패해도 업로드 결과에는 영향 없음)
+    private void deleteFiles(Upload upload) {
+        try {
+            fileService.release(Arrays.asList(
+                upload.episodeFile == null ? null : upload.episodeFile.getEpFileName(), upload.thumbnailName));
+        } catch (RuntimeException e) {
+            log.warn("failed to release files of rejected episode: {}", upload.title, e);
+        }
+        upload.episodeFile = null;
+        upload.thumbnailName = null;
+    }
+
+    // 크기 상한을 넘으면 임시 파일을 지우고 null
+    private Path copyToTemp(InputStream inputStream, long maxSize) throws IOException {
+
+        Files.createDirectories(tempLocation);
+        Path temp = Files.createTempFile(tempLocation, "bulk-", ".tmp");
+        boolean copied = false;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            byte[] buffer = new byte[8192];
+            long size = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSize) {
+                    return null;
+                }
+                out.write(buffer, 0, read);
+            }
+            copied = true;
+            return temp;
+        } finally {
+            if (!copied) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private static void deleteTemp(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("failed to delete temp file: {}", temp, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writers.shutdown();
+        if (!writers.awaitTermination(10, TimeUnit.SECONDS)) {
+            writers.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Store<T> {
+
+        T store(InputStream inputStream, String originalFilename) throws IOException;
+    }
+
+    private static class Upload {
+
+        private final String title;
+        private CompletableFuture<EpisodeFile> fileWrite;
+        private CompletableFuture<String> thumbnailWrite;
+        private EpisodeFile episodeFile;
+        private String thumbnailName;
+        private ErrorCode errorCode;
+
+        private Upload(String title) {
+            this.title = title;
+        }
+    }
+}
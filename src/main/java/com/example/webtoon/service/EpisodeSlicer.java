@@ -0,0 +1,163 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeSliceDto;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PostConstruct;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 세로로 긴 에피소드 이미지를 고정 높이 조각으로 나눠 원본 옆에 저장 (독자는 스크롤하는 대로 조각을 받음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EpisodeSlicer {
+
+    // EpisodeFile.epSlices 컬럼 길이, 넘으면 나누지 않고 원본만 제공
+    private static final int MAX_ENCODED_LENGTH = 4000;
+
+    private final FileUploadProperties fileUploadProperties;
+
+    private Path dirLocation;
+    private Path tempLocation;
+    private Semaphore decoding;
+
+    @PostConstruct
+    public void start() {
+        ImageIO.setUseCache(false);
+        dirLocation = Paths.get(fileUploadProperties.getLocation()).toAbsolutePath().normalize();
+        tempLocation = dirLocation.resolve(".tmp");
+        decoding = new Semaphore(fileUploadProperties.getSlice().getMaxConcurrent());
+    }
+
+    // 조각 정보 문자열 반환 (나눌 필요가 없거나 나눌 수 없는 이미지면 null)
+    public String slice(String fileName) throws IOException {
+
+        FileUploadProperties.Slice conf = fileUploadProperties.getSlice();
+        String format = formatOf(fileName);
+        Path original = dirLocation.resolve(fileName).normalize();
+        if (format == null || !original.startsWith(dirLocation) || original.startsWith(tempLocation)
+            || !Files.isRegularFile(original)) {
+            return null;
+        }
+
+        // 헤더만 읽어 크기 확인 (짧은 이미지는 디코딩하지 않음)
+        Dimension size = ImageHeader.sizeOf(original);
+        if (!ImageHeader.fits(size, conf.getMaxPixels()) || size.height <= conf.getHeight()) {
+            return null;
+        }
+        int width = size.width;
+        int height = size.height;
+
+        // 원본 전체를 메모리에 올리므로 동시에 디코딩하는 이미지 수를 제한
+        try {
+            decoding.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("episode slicing interrupted");
+        }
+        try {
+            BufferedImage source = ImageIO.read(original.toFile());
+            if (source == null) {
+                return null;
+            }
+
+            List<EpisodeSliceDto> slices = new ArrayList<>();
+            for (int top = 0, index = 0; top < height; top += conf.getHeight(), index++) {
+                int sliceHeight = Math.min(conf.getHeight(), height - top);
+                Path target = dirLocation.resolve(EpisodeSliceDto.sliceOf(fileName, index));
+                write(source.getSubimage(0, top, width, sliceHeight), format, target);
+                slices.add(EpisodeSliceDto.builder()
+                    .width(width)
+                    .height(sliceHeight)
+                    .size(Files.size(target))
+                    .build());
+            }
+
+            String encoded = EpisodeSliceDto.encode(slices);
+            if (encoded.length() > MAX_ENCODED_LENGTH) {
+                log.warn("too many slices ({}), serving {} as a single image", slices.size(), fileName);
+                delete(fileName, slices.size());
+                return null;
+            }
+            return encoded;
+        } finally {
+            decoding.release();
+        }
+    }
+
+    // 조각 파일 삭제
+    public void delete(String fileName, int count) throws IOException {
+        for (int index = 0; index < count; index++) {
+            Files.deleteIfExists(dirLocation.resolve(EpisodeSliceDto.sliceOf(fileName, index)));
+        }
+    }
+
+    // 같은 내용의 원본이면 조각도 같으므로 임시 파일에 쓴 뒤 교체 (동시에 같은 파일을 올려도 안전)
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("no image writer for " + format);
+        }
+        ImageWriter writer = writers.next();
+        Files.createDirectories(tempLocation);
+        Path temp = Files.createTempFile(tempLocation, "slice-", ".tmp");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if ("jpeg".equals(format)) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(fileUploadProperties.getSlice().getJpegQuality());
+                }
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // PNG/JPEG 만 나눔 (GIF 는 애니메이션이 사라지고 BMP 는 조각이 원본만큼 커짐)
+    private static String formatOf(String fileName) {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if (extension == null) {
+            return null;
+        }
+        switch (extension.toLowerCase(Locale.ROOT)) {
+            case "png":
+                return "png";
+            case "jpg":
+            case "jpeg":
+                return "jpeg";
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.type.ErrorCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// multipart 에피소드 등록 본문을 임시 파일 없이 읽는 대로 저장 (title, epFile, thFile 파트, 순서 무관)
+// 파일 파트는 FileService.store 가 해시를 계산하며 업로드 디렉토리에 바로 쓰므로 디스크에는 한 번만 씀
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EpisodeStreamUploader {
+
+    // title 파트 최대 크기
+    private static final int MAX_TITLE_BYTES = 1024;
+
+    // 요청 하나의 최대 파트 수 (빈 파트를 대량으로 보내는 요청 차단)
+    private static final int MAX_PARTS = 8;
+
+    private final FileUploadProperties fileUploadProperties;
+    private final FileService fileService;
+    private final WebtoonRepository webtoonRepository;
+    private final WebtoonService webtoonService;
+
+    public EpisodeDto upload(Long webtoonId, HttpServletRequest request) throws IOException {
+
+        if (!ServletFileUpload.isMultipartContent(request)) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+        }
+
+        // Content-Length 로 알 수 있는 초과는 본문을 읽기 전에 거절
+        FileUploadProperties.Stream conf = fileUploadProperties.getStream();
+        if (request.getContentLengthLong() > conf.getMaxRequestSize().toBytes()) {
+            throw new CustomException(HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.EPISODE_FILE_TOO_LARGE);
+        }
+        if (!webtoonRepository.existsById(webtoonId)) {
+            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND);
+        }
+
+        ServletFileUpload servletFileUpload = new ServletFileUpload();
+        servletFileUpload.setSizeMax(conf.getMaxRequestSize().toBytes());
+        servletFileUpload.setFileSizeMax(conf.getMaxFileSize().toBytes());
+        servletFileUpload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+
+        Upload upload = new Upload();
+        try {
+            FileItemIterator items = servletFileUpload.getItemIterator(request);
+            for (int parts = 1; items.hasNext(); parts++) {
+                FileItemStream item = items.next();
+                if (parts > MAX_PARTS) {
+                    throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+                }
+                // 모르는 파트는 읽지 않고 닫으면 다음 경계까지 건너뜀
+                try (InputStream content = item.openStream()) {
+                    read(item, content, upload);
+                }
+            }
+        } catch (FileUploadException e) {
+            deleteFiles(upload);
+            throw rejected(e);
+        } catch (FileUploadBase.FileUploadIOException e) {
+            deleteFiles(upload);
+            throw rejected(e.getCause());
+        } catch (IOException | RuntimeException e) {
+            deleteFiles(upload);
+            throw e;
+        }
+
+        if (!StringUtils.hasText(upload.title) || upload.episodeFile == null || upload.thumbnailName == null) {
+            deleteFiles(upload);
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+        }
+
+        upload.episodeFile.setEpFileUri(fileService.fileUri(upload.episodeFile.getEpFileName()));
+        EpisodeThumbnail episodeThumbnail =
+            new EpisodeThumbnail(upload.thumbnailName, fileService.fileUri(upload.thumbnailName));
+        try {
+            return webtoonService.addUploadedEpisode(webtoonId, upload.title, upload.episodeFile, episodeThumbnail);
+        } catch (RuntimeException e) {
+            deleteFiles(upload);
+            throw e;
+        }
+    }
+
+    private void read(FileItemStream item, InputStream content, Upload upload) throws IOException {
+
+        if (item.isFormField()) {
+            if ("title".equals(item.getFieldName())) {
+                upload.title = readTitle(content);
+            }
+            return;
+        }
+
+        if ("epFile".equals(item.getFieldName())) {
+            if (upload.episodeFile != null) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+            }
+            upload.episodeFile = fileService.storeEpisode(content, item.getName());
+        } else if ("thFile".equals(item.getFieldName())) {
+            if (upload.thumbnailName != null) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+            }
+            upload.thumbnailName = fileService.storeThumbnail(content, item.getName());
+        }
+    }
+
+    // 크기 제한은 읽는 도중 발생하므로 이미 쓴 부분은 FileService 가 임시 파일과 함께 정리
+    private static CustomException rejected(Throwable cause) {
+        if (cause instanceof FileUploadBase.SizeLimitExceededException
+            || cause instanceof FileUploadBase.FileSizeLimitExceededException) {
+            return new CustomException(HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.EPISODE_FILE_TOO_LARGE);
+        }
+        log.debug("malformed episode upload", cause);
+        return new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+    }
+
+    // 등록되지 않는 에피소드의 파일 참조 해제 (실패해도 원래 오류를 그대로 반환)
+    private void deleteFiles(Upload upload) {
+        try {
+            fileService.release(Arrays.asList(
+                upload.episodeFile == null ? null : upload.episodeFile.getEpFileName(), upload.thumbnailName));
+        } catch (RuntimeException e) {
+            log.warn("failed to release files of rejected episode upload: {}", upload.title, e);
+        }
+        upload.episodeFile = null;
+        upload.thumbnailName = null;
+    }
+
+    private static String readTitle(InputStream content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            if (out.size() + read > MAX_TITLE_BYTES) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_UPLOAD);
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static class Upload {
+
+        private String title;
+        private EpisodeFile episodeFile;
+        private String thumbnailName;
+    }
+}
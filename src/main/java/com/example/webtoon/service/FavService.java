@@ -1,5 +1,6 @@
 package com.example.webtoon.service;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
 import com.example.webtoon.dto.WebtoonIdListDto;
 import com.example.webtoon.entity.Favorite;
 import com.example.webtoon.entity.User;
@@ -10,7 +11,6 @@ import com.example.webtoon.repository.UserRepository;
 import com.example.webtoon.repository.WebtoonRepository;
 import com.example.webtoon.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -21,9 +21,9 @@ public class FavService {
     private final WebtoonRepository webtoonRepository;
     private final UserRepository userRepository;
     private final FavRepository favRepository;
+    private final CacheFamilyEvictor cacheFamilyEvictor;
 
     // 선호 작품 등록
-    @CacheEvict(value = "FavList", allEntries = true)
     public WebtoonIdListDto addFavWebtoon(Long webtoonId, Long userId) {
         Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(() -> new CustomException(
             HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
@@ -39,15 +39,16 @@ public class FavService {
         fav.setWebtoon(webtoon);
         fav.setUser(user);
         favRepository.save(fav);
+        cacheFamilyEvictor.evict("FavList", CacheFamilyEvictor.user(userId));
         return new WebtoonIdListDto(webtoonId);
     }
 
     // 선호 작품 삭제
-    @CacheEvict(value = "FavList", allEntries = true)
     public void deleteFavWebtoon(Long webtoonId, Long userId) {
         if (!favRepository.existsByWebtoon_WebtoonIdAndUser_UserId(webtoonId, userId)) {
             throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.FAV_WEBTOON_NOT_FOUND);
         }
         favRepository.deleteByWebtoon_WebtoonIdAndUser_UserId(webtoonId, userId);
+        cacheFamilyEvictor.evict("FavList", CacheFamilyEvictor.user(userId));
     }
 }
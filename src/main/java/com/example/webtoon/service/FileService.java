@@ -1,84 +1,571 @@
 package com.example.webtoon.service;
 
 import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeSliceDto;
 import com.example.webtoon.entity.EpisodeFile;
-import com.example.webtoon.entity.EpisodeThumbnail;
 import com.example.webtoon.entity.WebtoonThumbnail;
+import com.example.webtoon.repository.StoredFileRepository;
+import com.example.webtoon.type.ImageFormat;
+import com.example.webtoon.type.ThumbnailWidth;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+// 업로드 파일을 내용 해시(SHA-256) 이름으로 저장, 같은 내용은 한 번만 쓰고 참조 수로 삭제 시점 관리
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileService {
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final Pattern STORED_NAME =
+        Pattern.compile("^[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(\\.[a-z0-9]{1,10})?$");
+
+    // 내용 해시 파일과 그 변형 이미지, 변환본, 조각 ({해시 경로}.*, {해시 경로}_*), 1 번 그룹이 해시 경로
+    private static final Pattern DERIVED_NAME =
+        Pattern.compile("^(([0-9a-f]{2})/([0-9a-f]{2})/\\2\\3[0-9a-f]{60})([._].*)?$");
+
+    // 같은 파일의 저장/삭제가 겹치지 않도록 파일 이름별로 나눈 잠금
+    private static final int LOCK_STRIPES = 64;
+
+    private final FileUploadProperties.Io ioProperties;
     private final Path dirLocation;
+    private final Path tempLocation;
+    private final StoredFileRepository storedFileRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ImageTranscoder imageTranscoder;
+    private final EpisodeSlicer episodeSlicer;
+    private final StorageBackend storageBackend;
+    private final TransactionTemplate newTransaction;
+    private final long sweepIntervalMs;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private ThreadPoolExecutor ioExecutor;
 
     @Autowired
-    public FileService(FileUploadProperties fileUploadProperties) {
+    public FileService(FileUploadProperties fileUploadProperties,
+                       StoredFileRepository storedFileRepository,
+                       ThumbnailGenerator thumbnailGenerator,
+                       ImageTranscoder imageTranscoder,
+                       EpisodeSlicer episodeSlicer,
+                       StorageBackend storageBackend,
+                       PlatformTransactionManager transactionManager) {
+        this.ioProperties = fileUploadProperties.getIo();
         this.dirLocation = Paths.get(fileUploadProperties.getLocation())
             .toAbsolutePath().normalize();
+        this.tempLocation = dirLocation.resolve(".tmp");
+        this.storedFileRepository = storedFileRepository;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.imageTranscoder = imageTranscoder;
+        this.episodeSlicer = episodeSlicer;
+        this.storageBackend = storageBackend;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sweepIntervalMs = fileUploadProperties.getStorage().getSweepIntervalMs();
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    @PostConstruct
+    public void start() {
+        ioExecutor = new ThreadPoolExecutor(ioProperties.getThreads(), ioProperties.getThreads(),
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(ioProperties.getQueueCapacity()),
+            new CustomizableThreadFactory("file-io-"));
     }
 
     // 웹툰 썸네일 파일 저장
     public WebtoonThumbnail saveWebtoonThumbnailFile(MultipartFile file) throws IOException {
 
-        List<String> fileInfo = saveFile(file, "wtThumbnail_");
-        return new WebtoonThumbnail(fileInfo.get(0), fileInfo.get(1));
+        String fileName = saveThumbnailFile(file);
+        return new WebtoonThumbnail(fileName, fileUri(fileName));
+    }
+
+    // 에피소드 이미지와 썸네일을 I/O 스레드에서 동시에 저장, 둘 다 끝나면 완료 (URI 는 요청 스레드에서 채움)
+    // 하나라도 실패하면 저장된 쪽은 참조 해제 후 실패
+    public CompletableFuture<EpisodeFiles> saveEpisodeFilesAsync(MultipartFile epFile, MultipartFile thFile) {
+
+        CompletableFuture<EpisodeFile> fileWrite = supplyIo(() -> saveEpisodeImageFile(epFile));
+        CompletableFuture<String> thumbnailWrite = supplyIo(() -> saveThumbnailFile(thFile));
+
+        return CompletableFuture.allOf(fileWrite, thumbnailWrite).handle((ignored, failure) -> {
+            if (failure == null) {
+                return new EpisodeFiles(fileWrite.join(), thumbnailWrite.join());
+            }
+            release(Arrays.asList(
+                fileWrite.isCompletedExceptionally() ? null : fileWrite.join().getEpFileName(),
+                thumbnailWrite.isCompletedExceptionally() ? null : thumbnailWrite.join()));
+            throw failure instanceof CompletionException
+                ? (CompletionException) failure : new CompletionException(failure);
+        });
+    }
+
+    // 파일 내용 저장 후 저장된 이름 반환 (요청 스레드가 아니어도 호출 가능)
+    public String store(InputStream inputStream, String originalFilename) throws IOException {
+
+        Files.createDirectories(tempLocation);
+        Path temp = Files.createTempFile(tempLocation, "upload-", ".tmp");
+        try {
+            // 임시 파일에 쓰면서 해시 계산 (내용을 두 번 읽지 않음)
+            MessageDigest digest = sha256();
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                inputStream.transferTo(out);
+            }
+
+            String fileName = shardedName(digest.digest(), originalFilename);
+            Path target = dirLocation.resolve(fileName);
+
+            synchronized (lock(fileName)) {
+                storedFileRepository.increment(fileName);
+
+                // 같은 내용이 이미 있으면 쓰기 생략
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    move(temp, target);
+                }
+            }
+
+            // 참조 수가 남아 있는 동안은 삭제되지 않으므로 잠금 밖에서 저장소에 올림 (이미 있으면 생략)
+            try {
+                if (!storageBackend.exists(fileName)) {
+                    storageBackend.publish(fileName);
+                }
+            } catch (IOException | RuntimeException e) {
+                release(List.of(fileName));
+                throw e;
+            }
+            return fileName;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 썸네일 저장 후 변형 이미지 생성 예약 (같은 내용이 이미 있으면 빠진 변형 이미지만 생성)
+    public String storeThumbnail(InputStream inputStream, String originalFilename) throws IOException {
+
+        String fileName = store(inputStream, originalFilename);
+        thumbnailGenerator.submit(fileName);
+        return fileName;
+    }
+
+    // 에피소드 이미지 저장 후 긴 이미지는 세로 조각으로 나누고, 원본과 조각의 변환 예약 (PNG/BMP 만)
+    // URI 는 요청 스레드에서 채움
+    public EpisodeFile storeEpisode(InputStream inputStream, String originalFilename) throws IOException {
+
+        String fileName = store(inputStream, originalFilename);
+        imageTranscoder.submit(fileName);
+
+        // 나누지 못해도 원본 하나로 제공할 수 있으므로 업로드는 실패시키지 않음
+        String slices = null;
+        try {
+            slices = episodeSlicer.slice(fileName);
+        } catch (IOException | RuntimeException e) {
+            log.warn("episode slicing failed, serving {} as a single image", fileName, e);
+        }
+        if (slices != null) {
+            try {
+                for (int i = 0; i < slices.split(",").length; i++) {
+                    storageBackend.publish(EpisodeSliceDto.sliceOf(fileName, i));
+                }
+            } catch (IOException | RuntimeException e) {
+                release(List.of(fileName));
+                throw e;
+            }
+            for (int i = 0; i < slices.split(",").length; i++) {
+                imageTranscoder.submit(EpisodeSliceDto.sliceOf(fileName, i));
+            }
+        }
+        return new EpisodeFile(fileName, null, slices);
+    }
+
+    // 참조 해제, 더 이상 가리키는 곳이 없으면 파일과 변형 이미지, 변환본, 조각 삭제 (예전 방식 파일은 건드리지 않음)
+    // 저장할 때마다 참조가 1 늘어나므로 같은 이름이 여러 번 있으면 그 수만큼 해제
+    public void release(Collection<String> fileNames) {
+
+        fileNames.stream().filter(Objects::nonNull).forEach(fileName -> {
+            synchronized (lock(fileName)) {
+                if (storedFileRepository.decrement(fileName) == 0
+                    || storedFileRepository.deleteUnreferenced(fileName) == 0) {
+                    return;
+                }
+                try {
+                    List<String> derived = new ArrayList<>();
+                    derived.add(fileName);
+                    for (ThumbnailWidth width : ThumbnailWidth.values()) {
+                        derived.add(width.variantOf(fileName));
+                    }
+                    for (ImageFormat format : ImageFormat.values()) {
+                        derived.add(format.variantOf(fileName));
+                    }
+                    for (String name : derived) {
+                        Files.deleteIfExists(dirLocation.resolve(name));
+                    }
+                    deleteSlices(fileName);
+
+                    // 다른 서버에서 만든 변형 이미지나 조각도 있을 수 있으므로 저장소에서는 이름 앞부분으로도 삭제
+                    storageBackend.delete(derived);
+                    storageBackend.deleteByPrefix(sliceBase(fileName) + "_s");
+                } catch (IOException e) {
+                    log.warn("failed to delete unreferenced file: {}", fileName, e);
+                }
+            }
+        });
+    }
+
+    // 이미 저장된 파일에 참조 추가 (내용 해시 이름이고 파일이 있을 때만, 같은 이름이 여러 번 있으면 그 수만큼 한 번에)
+    // 하나라도 없으면 추가한 참조를 되돌리고 false, 참조는 바로 커밋되므로 호출한 쪽 트랜잭션은 releaseOnRollback 필요
+    public boolean retain(Collection<String> fileNames) throws IOException {
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String fileName : fileNames) {
+            if (fileName == null || digestOf(fileName) == null) {
+                return false;
+            }
+            counts.merge(fileName, 1, Integer::sum);
+        }
+
+        List<String> retained = new ArrayList<>(fileNames.size());
+        try {
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                // 잠금 안에서 확인하고 늘려야 그 사이 마지막 참조가 해제되며 파일이 지워지지 않음
+                synchronized (lock(count.getKey())) {
+                    if (resolve(count.getKey()) == null && !storageBackend.exists(count.getKey())) {
+                        newTransaction.executeWithoutResult(status -> release(retained));
+                        return false;
+                    }
+                    newTransaction.executeWithoutResult(status ->
+                        storedFileRepository.incrementBy(count.getKey(), count.getValue()));
+                }
+                retained.addAll(Collections.nCopies(count.getValue(), count.getKey()));
+            }
+        } catch (IOException | RuntimeException e) {
+            newTransaction.executeWithoutResult(status -> release(retained));
+            throw e;
+        }
+        return true;
+    }
+
+    // 현재 트랜잭션이 커밋되지 않고 끝나면 참조 해제 (참조 증가는 I/O 스레드에서 이미 커밋됐으므로 직접 되돌림)
+    public void releaseOnRollback(Collection<String> fileNames) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    releaseAsync(fileNames);
+                }
+            }
+        });
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 참조 해제 (트랜잭션 밖이면 바로 해제)
+    public void releaseAfterCommit(Collection<String> fileNames) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(fileNames);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseAsync(fileNames);
+            }
+        });
+    }
+
+    // 저장소에서 바로 받을 수 있는 주소 (로컬 저장소이거나 저장소에 없는 파일이면 null)
+    public String directUrl(String fileName) {
+
+        String url = storageUrl(fileName);
+        try {
+            return url != null && storageBackend.exists(storageName(fileName)) ? url : null;
+        } catch (IOException e) {
+            log.warn("failed to look up {} in storage", fileName, e);
+            return null;
+        }
+    }
+
+    // 저장소에 있는지 묻지 않고 만든 직접 주소, 이 서버에 사본이 있는 파일은 저장소에도 올라가 있으므로 바로 사용 (로컬 저장소면 null)
+    public String storageUrl(String fileName) {
+
+        String name = storageName(fileName);
+        return name != null ? storageBackend.directUrl(name) : null;
     }
 
-    // 에피소드 이미지 파일 저장
-    public EpisodeFile saveEpisodeFile(MultipartFile file) throws IOException {
+    // 다른 서버에서 참조가 모두 해제된 파일의 이 서버 사본 정리 (해제한 서버의 작업 디렉토리만 비워지므로)
+    // 로컬 저장소는 작업 디렉토리가 곧 저장소라 해제할 때 이미 지워짐
+    // 참조 증가가 아직 커밋되지 않았을 수 있으므로 정리 주기보다 새 사본이 하나라도 있으면 남김
+    @Scheduled(initialDelayString = "${file.upload.storage.sweep-interval-ms:3600000}",
+        fixedDelayString = "${file.upload.storage.sweep-interval-ms:3600000}")
+    public int sweepLocalCopies() {
 
-        List<String> fileInfo = saveFile(file, "epFile_");
-        return new EpisodeFile(fileInfo.get(0), fileInfo.get(1));
+        if (storageBackend.isLocal()) {
+            return 0;
+        }
+        Map<String, List<Path>> copies = new HashMap<>();
+        try (Stream<Path> files = Files.find(dirLocation, 3,
+            (path, attributes) -> attributes.isRegularFile() && !path.startsWith(tempLocation))) {
+            files.forEach(file -> {
+                Matcher matcher = DERIVED_NAME.matcher(
+                    dirLocation.relativize(file).toString().replace('\\', '/'));
+                if (matcher.matches()) {
+                    copies.computeIfAbsent(matcher.group(1), base -> new ArrayList<>()).add(file);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("failed to list local copies", e);
+            return 0;
+        }
+
+        long threshold = System.currentTimeMillis() - sweepIntervalMs;
+        int deleted = 0;
+        for (Map.Entry<String, List<Path>> copy : copies.entrySet()) {
+            // 같은 해시의 파일을 저장하는 중이면 끝날 때까지 기다림 (잠금은 해시 경로 기준)
+            synchronized (lock(copy.getKey())) {
+                try {
+                    if (!olderThan(copy.getValue(), threshold)
+                        || storedFileRepository.existsByFileNameStartingWith(copy.getKey())) {
+                        continue;
+                    }
+                    for (Path file : copy.getValue()) {
+                        if (Files.deleteIfExists(file)) {
+                            deleted++;
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("failed to sweep local copies of {}", copy.getKey(), e);
+                }
+            }
+        }
+        return deleted;
     }
 
-    // 에피소드 썸네일 파일 저장
-    public EpisodeThumbnail saveEpisodeThumbnailFile(MultipartFile file) throws IOException {
+    // 제공할 파일 경로 (업로드 디렉토리 밖이거나 없는 파일이면 null)
+    public Path resolve(String fileName) {
 
-        List<String> fileInfo = saveFile(file, "epThumbnail_");
-        return new EpisodeThumbnail(fileInfo.get(0), fileInfo.get(1));
+        Path path = dirLocation.resolve(fileName).normalize();
+        if (!path.startsWith(dirLocation) || path.startsWith(tempLocation) || !Files.isRegularFile(path)) {
+            return null;
+        }
+        return path;
     }
 
-    // 파일 저장 메소드
-    private List<String> saveFile(MultipartFile file, String prefix) throws IOException {
+    // 내용 해시로 저장된 파일이면 그 해시, 예전 방식 파일이면 null
+    public static String digestOf(String fileName) {
 
-        //파일 이름(fileName)
-        String fileName = prefix + StringUtils.cleanPath(
-            Objects.requireNonNull(file.getOriginalFilename()));
+        Matcher matcher = STORED_NAME.matcher(fileName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
 
-        //파일 경로(FileUri)
-        String fileUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+    // 현재 요청의 context path 기준이므로 요청 스레드에서만 호출
+    public String fileUri(String fileName) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
             .path("/webtoons/")
             .path(fileName)
             .toUriString();
+    }
+
+    // 작업 디렉토리 기준 저장 이름 (업로드 디렉토리 밖이거나 임시 파일이면 null)
+    private String storageName(String fileName) {
+
+        Path path = dirLocation.resolve(fileName).normalize();
+        if (!path.startsWith(dirLocation) || path.startsWith(tempLocation)) {
+            return null;
+        }
+        return dirLocation.relativize(path).toString().replace('\\', '/');
+    }
+
+    private static boolean olderThan(List<Path> files, long threshold) throws IOException {
+        for (Path file : files) {
+            if (Files.getLastModifiedTime(file).toMillis() >= threshold) {
+                return false;
+            }
+        }
+        return true;
+    }
 
+    // 대기열이 가득 차면 호출한 스레드에서 저장
+    private <T> CompletableFuture<T> supplyIo(IoTask<T> task) {
+
+        Supplier<T> supplier = () -> {
+            try {
+                return task.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            return CompletableFuture.supplyAsync(supplier, ioExecutor);
+        } catch (RejectedExecutionException e) {
+            try {
+                return CompletableFuture.completedFuture(supplier.get());
+            } catch (RuntimeException failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+    }
+
+    // 트랜잭션 완료 콜백에서 같은 스레드로 DB 를 쓰면 끝난 트랜잭션에 참여하므로 I/O 스레드의 새 트랜잭션에서 해제
+    // 대기열이 가득 차면 해제를 버리지 않고 호출한 스레드의 새 트랜잭션에서 해제
+    private void releaseAsync(Collection<String> fileNames) {
+
+        Runnable task = () -> {
+            try {
+                release(fileNames);
+            } catch (RuntimeException e) {
+                log.warn("failed to release files: {}", fileNames, e);
+            }
+        };
+        try {
+            ioExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            newTransaction.executeWithoutResult(status -> task.run());
+        }
+    }
+
+    // 조각과 조각의 변환본 ({이름}_s{순번}.*) 삭제, 내용 해시 파일만 삭제되므로 다른 파일과 겹치지 않음
+    private void deleteSlices(String fileName) throws IOException {
+
+        Path original = dirLocation.resolve(fileName);
+        String base = Paths.get(sliceBase(fileName)).getFileName().toString();
+        try (DirectoryStream<Path> slices = Files.newDirectoryStream(original.getParent(), base + "_s[0-9]*")) {
+            for (Path slice : slices) {
+                Files.deleteIfExists(slice);
+            }
+        }
+    }
+
+    // 확장자를 뺀 저장 이름 (ab/cd/abcd....)
+    private static String sliceBase(String fileName) {
+        int slash = fileName.lastIndexOf('/');
+        int dot = fileName.lastIndexOf('.');
+        return dot > slash + 1 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private EpisodeFile saveEpisodeImageFile(MultipartFile file) throws IOException {
 
         try (InputStream inputStream = file.getInputStream()) {
+            return storeEpisode(inputStream, file.getOriginalFilename());
+        }
+    }
 
-            Path targetLocation = this.dirLocation.resolve(fileName);
+    private String saveThumbnailFile(MultipartFile file) throws IOException {
 
-            // 이름이 같으면 그위에 덮어씀
-            Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream inputStream = file.getInputStream()) {
+            return storeThumbnail(inputStream, file.getOriginalFilename());
+        }
+    }
 
-            List<String> fileInfo = new ArrayList<>();
-            fileInfo.add(fileName); fileInfo.add(fileUri);
-            return fileInfo;
+    // 해시 앞 4자리로 2단계 디렉토리 분산 (ab/cd/abcd....jpg), 확장자는 원본 파일에서 유지
+    private static String shardedName(byte[] hash, String originalFilename) {
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xf];
+        }
+        String digest = new String(hex);
+
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        String suffix = extension != null && extension.matches("[A-Za-z0-9]{1,10}")
+            ? "." + extension.toLowerCase(Locale.ROOT) : "";
+        return digest.substring(0, 2) + "/" + digest.substring(2, 4) + "/" + digest + suffix;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
-}
 
+    // 내용 해시 파일은 해시 경로 기준 (확장자만 다른 이름과 사본 정리가 같은 잠금을 씀)
+    private Object lock(String fileName) {
+        Matcher matcher = DERIVED_NAME.matcher(fileName);
+        String key = matcher.matches() ? matcher.group(1) : fileName;
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
 
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        ioExecutor.shutdown();
+        if (!ioExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            ioExecutor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoTask<T> {
+
+        T run() throws IOException;
+    }
+
+    // 저장된 에피소드 이미지와 썸네일 이름
+    @Getter
+    @RequiredArgsConstructor
+    public static class EpisodeFiles {
+
+        private final EpisodeFile episodeFile;
+        private final String thumbnailName;
+
+        public List<String> fileNames() {
+            return Arrays.asList(episodeFile.getEpFileName(), thumbnailName);
+        }
+    }
+}
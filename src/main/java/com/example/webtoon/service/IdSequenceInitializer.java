@@ -0,0 +1,69 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.entity.IdSequence;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // id_sequence 이름 -> 기존 AUTO_INCREMENT 로 id 가 채워진 테이블, id 컬럼
+    private static final Map<String, String[]> TABLES = new LinkedHashMap<>();
+
+    static {
+        TABLES.put(IdSequence.EPISODE, new String[]{"episode", "episode_id"});
+        TABLES.put(IdSequence.COMMENT, new String[]{"comment", "comment_id"});
+        TABLES.put(IdSequence.RATE, new String[]{"rate", "rate_id"});
+        TABLES.put(IdSequence.VIEW, new String[]{"view", "view_id"});
+        TABLES.put(IdSequence.FAVORITE, new String[]{"favorite", "fav_id"});
+    }
+
+    private static final String SELECT_SQL = "SELECT " + IdSequence.VALUE_COLUMN
+        + " FROM " + IdSequence.TABLE + " WHERE " + IdSequence.NAME_COLUMN + " = ?";
+    private static final String INSERT_SQL = "INSERT INTO " + IdSequence.TABLE
+        + " (" + IdSequence.NAME_COLUMN + ", " + IdSequence.VALUE_COLUMN + ") VALUES (?, ?)";
+    private static final String UPDATE_SQL = "UPDATE " + IdSequence.TABLE
+        + " SET " + IdSequence.VALUE_COLUMN + " = ? WHERE " + IdSequence.NAME_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 서버가 요청을 받기 전 (모든 싱글톤 생성 직후, 스키마 생성 이후) 에 실행
+    // 발급 시작 값을 기존 최대 id 뒤로 맞춰, IDENTITY 로 저장된 행과 id 가 겹치지 않게 함 (낮추지는 않음)
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Map.Entry<String, String[]> entry : TABLES.entrySet()) {
+            try {
+                initialize(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+            } catch (DataAccessException e) {
+                log.warn("id sequence '{}' could not be initialized", entry.getKey(), e);
+            }
+        }
+    }
+
+    private void initialize(String sequence, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+
+        // pooled 방식은 저장된 값 v 를 받으면 (v - ALLOCATION_SIZE, v] 구간을 발급
+        long required = (maxId == null ? 0L : maxId) + IdSequence.ALLOCATION_SIZE;
+
+        List<Long> current = jdbcTemplate.queryForList(SELECT_SQL, Long.class, sequence);
+        if (current.isEmpty()) {
+            jdbcTemplate.update(INSERT_SQL, sequence, required);
+        } else if (current.get(0) < required) {
+            jdbcTemplate.update(UPDATE_SQL, required, sequence);
+        } else {
+            return;
+        }
+        log.info("id sequence '{}' moved past existing ids: next_val={}", sequence, required);
+    }
+}
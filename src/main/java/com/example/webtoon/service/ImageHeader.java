@@ -0,0 +1,39 @@
+package com.example.webtoon.service;
+
+import java.awt.Dimension;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+// 이미지 전체를 디코딩하기 전에 헤더만 읽어 크기 확인 (픽셀 수가 큰 이미지를 메모리에 올리지 않도록)
+final class ImageHeader {
+
+    private ImageHeader() {
+    }
+
+    // 가로, 세로 크기 (읽을 수 있는 이미지가 아니면 null)
+    static Dimension sizeOf(Path file) throws IOException {
+
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 최대 픽셀 수 이하인 읽을 수 있는 이미지인지
+    static boolean fits(Dimension size, long maxPixels) {
+        return size != null && (long) size.width * size.height <= maxPixels;
+    }
+}
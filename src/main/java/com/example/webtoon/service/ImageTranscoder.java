@@ -0,0 +1,220 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.type.ImageFormat;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+// 에피소드 원본(PNG/BMP) 옆에 더 작은 형식의 변환본 생성
+// JDK 에는 progressive JPEG 인코더만 있고, WebP/AVIF 는 해당 ImageIO 플러그인이 classpath 에 있을 때만 생성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageTranscoder {
+
+    // JPEG 이 표현할 수 있는 최대 가로/세로 크기
+    private static final int JPEG_MAX_DIMENSION = 65_535;
+
+    private final FileUploadProperties fileUploadProperties;
+    private final StorageBackend storageBackend;
+
+    private Path dirLocation;
+    private Path tempLocation;
+    private ThreadPoolExecutor workers;
+
+    @PostConstruct
+    public void start() {
+        ImageIO.setUseCache(false);
+
+        dirLocation = Paths.get(fileUploadProperties.getLocation()).toAbsolutePath().normalize();
+        tempLocation = dirLocation.resolve(".tmp");
+
+        FileUploadProperties.Transcode conf = fileUploadProperties.getTranscode();
+        workers = new ThreadPoolExecutor(conf.getWorkers(), conf.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(conf.getQueueCapacity()),
+            new CustomizableThreadFactory("image-transcoder-"));
+    }
+
+    // 업로드 직후 호출, 대기열이 가득 차면 건너뜀 (변환본이 없으면 원본이 그대로 제공됨)
+    public void submit(String fileName) {
+        if (!ImageFormat.isTranscodable(fileName)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    transcode(fileName);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("image transcoding failed: {}", fileName, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("transcoding queue is full, skipped {}", fileName);
+        }
+    }
+
+    // 없거나 원본보다 오래된 변환본 생성, 생성한 개수 반환 (원본보다 커지는 변환본은 남기지 않음)
+    public int transcode(String fileName) throws IOException {
+
+        Path original = dirLocation.resolve(fileName).normalize();
+        if (!ImageFormat.isTranscodable(fileName) || !original.startsWith(dirLocation)
+            || original.startsWith(tempLocation) || !Files.isRegularFile(original)) {
+            return 0;
+        }
+
+        FileTime modified = Files.getLastModifiedTime(original);
+        List<ImageFormat> targets = new ArrayList<>();
+        for (ImageFormat format : ImageFormat.values()) {
+            Path variant = dirLocation.resolve(format.variantOf(fileName));
+            if (ImageIO.getImageWritersByMIMEType(format.getMimeType()).hasNext()
+                && (!Files.exists(variant) || Files.getLastModifiedTime(variant).compareTo(modified) < 0)) {
+                targets.add(format);
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        Dimension size = ImageHeader.sizeOf(original);
+        if (!ImageHeader.fits(size, fileUploadProperties.getTranscode().getMaxPixels())) {
+            log.debug("not a readable image or too many pixels, skipped transcoding of {}", fileName);
+            return 0;
+        }
+
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            log.debug("not a readable image, skipped transcoding of {}", fileName);
+            return 0;
+        }
+
+        long originalSize = Files.size(original);
+        int written = 0;
+        Files.createDirectories(tempLocation);
+        for (ImageFormat format : targets) {
+            BufferedImage image = source;
+            if (format == ImageFormat.JPEG) {
+                if (source.getWidth() > JPEG_MAX_DIMENSION || source.getHeight() > JPEG_MAX_DIMENSION) {
+                    continue;
+                }
+                image = opaque(source);
+            }
+
+            Path variant = dirLocation.resolve(format.variantOf(fileName));
+            Path temp = Files.createTempFile(tempLocation, "transcode-", ".tmp");
+            try {
+                if (write(image, format, temp) && Files.size(temp) < originalSize) {
+                    storageBackend.publish(format.variantOf(fileName), temp);
+                    move(temp, variant);
+                    written++;
+                } else {
+                    // 예전에 만든 변환본이 원본보다 크거나 쓸 수 없게 됐으면 정리
+                    if (Files.deleteIfExists(variant)) {
+                        storageBackend.delete(List.of(format.variantOf(fileName)));
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        // 변환 중에 원본이 삭제됐으면 방금 만든 변환본도 정리
+        if (!Files.exists(original)) {
+            List<String> variants = new ArrayList<>();
+            for (ImageFormat format : ImageFormat.values()) {
+                variants.add(format.variantOf(fileName));
+                Files.deleteIfExists(dirLocation.resolve(format.variantOf(fileName)));
+            }
+            storageBackend.delete(variants);
+            return 0;
+        }
+        return written;
+    }
+
+    // 진행형(progressive) 인코딩을 지원하면 사용, 압축 품질은 설정값
+    private boolean write(BufferedImage image, ImageFormat format, Path target) throws IOException {
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(format.getMimeType());
+        if (!writers.hasNext()) {
+            return false;
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteProgressive()) {
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            }
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(fileUploadProperties.getTranscode().getQuality());
+            }
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+            return true;
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // JPEG 은 투명도를 표현하지 못하므로 흰 배경에 합성
+    private static BufferedImage opaque(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB || source.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return source;
+        }
+        BufferedImage image = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 작업 디렉토리가 곧 저장소 (서버 한 대 또는 여러 서버가 같은 디스크를 마운트한 경우), 이미지는 앱 서버가 제공
+@Component
+@ConditionalOnProperty(name = "file.upload.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path dirLocation;
+
+    public LocalStorageBackend(FileUploadProperties fileUploadProperties) {
+        this.dirLocation = Paths.get(fileUploadProperties.getLocation()).toAbsolutePath().normalize();
+    }
+
+    // 이미 제자리에 있으므로 올릴 것이 없음
+    @Override
+    public void publish(String name) throws IOException {
+        if (!Files.isRegularFile(resolve(name))) {
+            throw new IOException("no such file to publish: " + name);
+        }
+    }
+
+    // 작업 디렉토리로 옮기는 것이 곧 저장이므로 올릴 것이 없음
+    @Override
+    public void publish(String name, Path file) throws IOException {
+        resolve(name);
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("no such file to publish: " + name);
+        }
+    }
+
+    @Override
+    public boolean exists(String name) throws IOException {
+        return Files.isRegularFile(resolve(name));
+    }
+
+    @Override
+    public void delete(Collection<String> names) throws IOException {
+        for (String name : names) {
+            Files.deleteIfExists(resolve(name));
+        }
+    }
+
+    // 같은 디렉토리 안에서 파일 이름이 prefix 의 마지막 부분으로 시작하는 파일 삭제
+    @Override
+    public void deleteByPrefix(String prefix) throws IOException {
+        Path path = resolve(prefix);
+        String fileNamePrefix = path.getFileName().toString();
+        if (!Files.isDirectory(path.getParent())) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(path.getParent(),
+            file -> Files.isRegularFile(file) && file.getFileName().toString().startsWith(fileNamePrefix))) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Override
+    public String directUrl(String name) {
+        return null;
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    // 업로드 디렉토리 밖을 가리키는 이름은 거절
+    private Path resolve(String name) throws IOException {
+        Path path = dirLocation.resolve(name).normalize();
+        if (!path.startsWith(dirLocation) || path.equals(dirLocation)) {
+            throw new IOException("invalid storage name: " + name);
+        }
+        return path;
+    }
+}
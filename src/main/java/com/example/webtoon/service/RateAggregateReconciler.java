@@ -0,0 +1,95 @@
+package com.example.webtoon.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateAggregateReconciler {
+
+    // 저장된 합계/개수와 rate 테이블에서 다시 계산한 값이 다른 에피소드
+    private static final String EPISODE_DRIFT_SQL =
+        "SELECT e.episode_id AS id, COALESCE(e.rate_sum, 0) AS stored_sum, "
+            + "COALESCE(e.rate_count, 0) AS stored_count, "
+            + "COALESCE(r.rate_sum, 0) AS actual_sum, COALESCE(r.rate_count, 0) AS actual_count "
+            + "FROM episode e LEFT JOIN (SELECT episode_id, SUM(user_rate) AS rate_sum, COUNT(*) AS rate_count "
+            + "FROM rate GROUP BY episode_id) r ON r.episode_id = e.episode_id "
+            + "WHERE COALESCE(e.rate_sum, 0) <> COALESCE(r.rate_sum, 0) "
+            + "OR COALESCE(e.rate_count, 0) <> COALESCE(r.rate_count, 0)";
+
+    private static final String WEBTOON_DRIFT_SQL =
+        "SELECT w.webtoon_id AS id, COALESCE(w.rate_sum, 0) AS stored_sum, "
+            + "COALESCE(w.rate_count, 0) AS stored_count, "
+            + "COALESCE(r.rate_sum, 0) AS actual_sum, COALESCE(r.rate_count, 0) AS actual_count "
+            + "FROM webtoon w LEFT JOIN (SELECT e.webtoon_id, SUM(rt.user_rate) AS rate_sum, COUNT(*) AS rate_count "
+            + "FROM rate rt JOIN episode e ON e.episode_id = rt.episode_id GROUP BY e.webtoon_id) r "
+            + "ON r.webtoon_id = w.webtoon_id "
+            + "WHERE COALESCE(w.rate_sum, 0) <> COALESCE(r.rate_sum, 0) "
+            + "OR COALESCE(w.rate_count, 0) <> COALESCE(r.rate_count, 0)";
+
+    // 보정 시점의 rate 테이블로 다시 계산 (조회와 보정 사이의 평점 변경도 반영됨)
+    private static final String EPISODE_FIX_SQL =
+        "UPDATE episode SET "
+            + "rate_sum = (SELECT COALESCE(SUM(r.user_rate), 0) FROM rate r WHERE r.episode_id = episode.episode_id), "
+            + "rate_count = (SELECT COUNT(*) FROM rate r WHERE r.episode_id = episode.episode_id), "
+            + "avg_rate = (SELECT AVG(r.user_rate * 1.0) FROM rate r WHERE r.episode_id = episode.episode_id) "
+            + "WHERE episode_id = ?";
+
+    private static final String WEBTOON_FIX_SQL =
+        "UPDATE webtoon SET "
+            + "rate_sum = (SELECT COALESCE(SUM(r.user_rate), 0) FROM rate r "
+            + "JOIN episode e ON e.episode_id = r.episode_id WHERE e.webtoon_id = webtoon.webtoon_id), "
+            + "rate_count = (SELECT COUNT(*) FROM rate r "
+            + "JOIN episode e ON e.episode_id = r.episode_id WHERE e.webtoon_id = webtoon.webtoon_id), "
+            + "avg_rate = (SELECT AVG(r.user_rate * 1.0) FROM rate r "
+            + "JOIN episode e ON e.episode_id = r.episode_id WHERE e.webtoon_id = webtoon.webtoon_id) "
+            + "WHERE webtoon_id = ?";
+
+    private static final int MAX_LOGGED_ROWS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 증분 갱신이 놓친 변경(에피소드/웹툰 삭제, 직접 수정한 데이터 등) 을 주기적으로 보정
+    @Scheduled(initialDelayString = "${rate.reconcile-initial-delay-ms:60000}",
+        fixedDelayString = "${rate.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        int episodes = reconcile("episode", EPISODE_DRIFT_SQL, EPISODE_FIX_SQL);
+        int webtoons = reconcile("webtoon", WEBTOON_DRIFT_SQL, WEBTOON_FIX_SQL);
+
+        if (episodes + webtoons > 0) {
+            log.warn("rate aggregates reconciled: {} episodes, {} webtoons drifted", episodes, webtoons);
+        } else {
+            log.info("rate aggregates reconciled: no drift");
+        }
+    }
+
+    private int reconcile(String target, String driftSql, String fixSql) {
+        List<Map<String, Object>> drifted = jdbcTemplate.queryForList(driftSql);
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        for (Map<String, Object> row : drifted.subList(0, Math.min(drifted.size(), MAX_LOGGED_ROWS))) {
+            log.warn("{} {} rate drift: stored sum={} count={}, actual sum={} count={}",
+                target, row.get("id"), row.get("stored_sum"), row.get("stored_count"),
+                row.get("actual_sum"), row.get("actual_count"));
+        }
+
+        List<Object[]> ids = drifted.stream()
+            .map(row -> new Object[]{row.get("id")})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(fixSql, ids);
+
+        meterRegistry.counter("rate.aggregate.drift", "target", target).increment(drifted.size());
+        return drifted.size();
+    }
+}
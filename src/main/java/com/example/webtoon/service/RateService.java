@@ -1,5 +1,6 @@
 package com.example.webtoon.service;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
 import com.example.webtoon.dto.RateAvgDto;
 import com.example.webtoon.dto.RateDto;
 import com.example.webtoon.entity.Episode;
@@ -12,9 +13,9 @@ import com.example.webtoon.repository.UserRepository;
 import com.example.webtoon.repository.WebtoonRepository;
 import com.example.webtoon.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PathVariable;
 
 @Service
@@ -25,9 +26,11 @@ public class RateService {
     private final EpisodeRepository episodeRepository;
     private final WebtoonRepository webtoonRepository;
     private final RateRepository rateRepository;
+    private final CacheFamilyEvictor cacheFamilyEvictor;
+    private final WebtoonRankingIndex webtoonRankingIndex;
 
     // 평점 등록
-    @CacheEvict(value = "episodeAvgListbyUser", allEntries = true)
+    @Transactional
     public RateDto addRate(Long episodeId, Long userId, Integer userRate) {
 
         if (rateRepository.existsByEpisode_EpisodeIdAndUser_UserId(episodeId, userId)) {
@@ -46,30 +49,38 @@ public class RateService {
         rate.setEpisode(episode);
         rate.setUser(user);
         rateRepository.save(rate);
+        applyRateDelta(episode, userRate, 1);
+        cacheFamilyEvictor.evict("episodeAvgListbyUser", CacheFamilyEvictor.user(userId));
 
         return RateDto.from(rate);
     }
 
     // 평점 수정
-    @CacheEvict(value = "episodeAvgListbyUser", allEntries = true)
+    @Transactional
     public RateDto updateRate(Long episodeId, Long userId, Integer userRate) {
         Rate rate = rateRepository.findByEpisode_EpisodeIdAndUser_UserId(episodeId, userId)
             .orElseThrow(() ->new CustomException(
                 HttpStatus.NOT_FOUND, ErrorCode.RATE_NOT_FOUND));
 
+        int previousRate = rate.getUserRate();
         rate.setUserRate(userRate);
         rateRepository.save(rate);
+        applyRateDelta(rate.getEpisode(), userRate - previousRate, 0);
+        cacheFamilyEvictor.evict("episodeAvgListbyUser", CacheFamilyEvictor.user(userId));
 
         return RateDto.from(rate);
     }
 
     // 평점 삭제
-    @CacheEvict(value = "episodeAvgListbyUser", allEntries = true)
+    @Transactional
     public void deleteRate(Long episodeId, Long userId) {
-        if (!rateRepository.existsByEpisode_EpisodeIdAndUser_UserId(episodeId, userId)) {
-            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.RATE_NOT_FOUND);
-        }
+        Rate rate = rateRepository.findByEpisode_EpisodeIdAndUser_UserId(episodeId, userId)
+            .orElseThrow(() -> new CustomException(
+                HttpStatus.NOT_FOUND, ErrorCode.RATE_NOT_FOUND));
+
         rateRepository.deleteByEpisode_EpisodeIdAndUser_UserId(episodeId, userId);
+        applyRateDelta(rate.getEpisode(), -rate.getUserRate(), -1);
+        cacheFamilyEvictor.evict("episodeAvgListbyUser", CacheFamilyEvictor.user(userId));
     }
 
     // 웹툰 평점 평균 불러오기
@@ -81,4 +92,11 @@ public class RateService {
     public RateAvgDto getWebtoonEpisodeAvgRate(@PathVariable Long episodeId){
         return new RateAvgDto(episodeRepository.getAvgRate(episodeId));
     }
+
+    // 에피소드와 웹툰의 평점 합계/개수/평균, 평점순 순위 갱신
+    private void applyRateDelta(Episode episode, long sumDelta, long countDelta) {
+        episodeRepository.applyRateDelta(episode.getEpisodeId(), sumDelta, countDelta);
+        webtoonRepository.applyRateDeltaByEpisodeId(episode.getEpisodeId(), sumDelta, countDelta);
+        webtoonRankingIndex.addRate(episode.getWebtoon().getWebtoonId(), sumDelta, countDelta);
+    }
 }
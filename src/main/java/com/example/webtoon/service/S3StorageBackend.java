@@ -0,0 +1,296 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// S3 호환 저장소 (AWS S3, MinIO 등), 작업 디렉토리에 완성된 파일을 올리고 브라우저는 presigned/공개 URL 로 직접 받음
+// 큰 파일은 multipart upload 로 나눠 병렬 전송 (조각은 파일을 메모리 매핑해 스레드 수만큼만 올림)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.upload.storage.type", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 개수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final FileUploadProperties fileUploadProperties;
+
+    private FileUploadProperties.S3 conf;
+    private Path dirLocation;
+    private S3Client s3;
+    private S3Presigner presigner;
+    private ExecutorService uploaders;
+
+    @PostConstruct
+    public void start() {
+        conf = fileUploadProperties.getStorage().getS3();
+        if (!StringUtils.hasText(conf.getBucket())) {
+            throw new IllegalStateException("file.upload.storage.s3.bucket is required");
+        }
+
+        AwsCredentialsProvider credentials = StringUtils.hasText(conf.getAccessKey())
+            ? StaticCredentialsProvider.create(AwsBasicCredentials.create(conf.getAccessKey(), conf.getSecretKey()))
+            : DefaultCredentialsProvider.create();
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+            .pathStyleAccessEnabled(conf.isPathStyleAccess())
+            .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+            .region(Region.of(conf.getRegion()))
+            .credentialsProvider(credentials)
+            .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+            .region(Region.of(conf.getRegion()))
+            .credentialsProvider(credentials)
+            .serviceConfiguration(serviceConfiguration);
+        if (StringUtils.hasText(conf.getEndpoint())) {
+            clientBuilder.endpointOverride(URI.create(conf.getEndpoint()));
+            presignerBuilder.endpointOverride(URI.create(conf.getEndpoint()));
+        }
+        start(clientBuilder.build(), presignerBuilder.build());
+    }
+
+    // 만든 클라이언트로 시작 (테스트에서는 mock 클라이언트 사용)
+    void start(S3Client s3, S3Presigner presigner) {
+        conf = fileUploadProperties.getStorage().getS3();
+        dirLocation = Paths.get(fileUploadProperties.getLocation()).toAbsolutePath().normalize();
+        this.s3 = s3;
+        this.presigner = presigner;
+        uploaders = Executors.newFixedThreadPool(conf.getUploadThreads(),
+            new CustomizableThreadFactory("s3-uploader-"));
+    }
+
+    @Override
+    public void publish(String name) throws IOException {
+
+        Path file = dirLocation.resolve(name).normalize();
+        if (!file.startsWith(dirLocation)) {
+            throw new IOException("invalid storage name: " + name);
+        }
+        publish(name, file);
+    }
+
+    @Override
+    public void publish(String name, Path file) throws IOException {
+
+        long size = Files.size(file);
+        String contentType = MediaTypeFactory.getMediaType(name)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+
+        try {
+            if (size <= conf.getMultipartThreshold().toBytes()) {
+                s3.putObject(request -> request.bucket(conf.getBucket()).key(key(name)).contentType(contentType),
+                    RequestBody.fromFile(file));
+            } else {
+                publishMultipart(name, file, size, contentType);
+            }
+        } catch (SdkException e) {
+            throw new IOException("failed to upload " + name, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String name) throws IOException {
+        try {
+            s3.headObject(request -> request.bucket(conf.getBucket()).key(key(name)));
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("failed to look up " + name, e);
+        } catch (SdkException e) {
+            throw new IOException("failed to look up " + name, e);
+        }
+    }
+
+    @Override
+    public void delete(Collection<String> names) throws IOException {
+        deleteKeys(names.stream().map(this::key).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteByPrefix(String prefix) throws IOException {
+        try {
+            List<String> keys = new ArrayList<>();
+            for (S3Object object : s3.listObjectsV2Paginator(
+                request -> request.bucket(conf.getBucket()).prefix(key(prefix))).contents()) {
+                keys.add(object.key());
+            }
+            deleteKeys(keys);
+        } catch (SdkException e) {
+            throw new IOException("failed to list " + prefix, e);
+        }
+    }
+
+    // 공개 주소가 있으면 그 주소, 없으면 유효 시간이 있는 presigned URL
+    @Override
+    public String directUrl(String name) {
+        if (StringUtils.hasText(conf.getPublicBaseUrl())) {
+            return StringUtils.trimTrailingCharacter(conf.getPublicBaseUrl(), '/') + "/" + key(name);
+        }
+        return presigner.presignGetObject(request -> request
+                .signatureDuration(conf.getPresignTtl())
+                .getObjectRequest(object -> object.bucket(conf.getBucket()).key(key(name))))
+            .url().toString();
+    }
+
+    @Override
+    public boolean isLocal() {
+        return false;
+    }
+
+    // 조각마다 파일의 해당 구간을 매핑해 올리고, 하나라도 실패하면 올린 조각을 버리도록 업로드 취소
+    // 실패하면 시작 전 조각은 건너뛰고, 올리는 중인 조각이 모두 끝난 뒤에 취소 (취소 뒤에 올라간 조각이 남지 않도록)
+    private void publishMultipart(String name, Path file, long size, String contentType) throws IOException {
+
+        String key = key(name);
+        String uploadId = s3.createMultipartUpload(request -> request
+            .bucket(conf.getBucket()).key(key).contentType(contentType)).uploadId();
+        long partSize = conf.getPartSize().toBytes();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<CompletableFuture<CompletedPart>> uploads = new ArrayList<>();
+            try {
+                int partNumber = 1;
+                for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                    long position = offset;
+                    long length = Math.min(partSize, size - offset);
+                    int number = partNumber;
+                    uploads.add(CompletableFuture.supplyAsync(() -> {
+                        if (failed.get()) {
+                            throw new CancellationException("another part failed");
+                        }
+                        try {
+                            MappedByteBuffer part = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                            String eTag = s3.uploadPart(UploadPartRequest.builder()
+                                .bucket(conf.getBucket()).key(key).uploadId(uploadId)
+                                .partNumber(number).contentLength(length)
+                                .build(), RequestBody.fromByteBuffer(part)).eTag();
+                            return CompletedPart.builder().partNumber(number).eTag(eTag).build();
+                        } catch (IOException e) {
+                            failed.set(true);
+                            throw new UncheckedIOException(e);
+                        } catch (RuntimeException e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }, uploaders));
+                }
+            } catch (RuntimeException e) {
+                failed.set(true);
+                throw e;
+            } finally {
+                CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+                    .handle((result, failure) -> null)
+                    .join();
+            }
+
+            List<CompletedPart> parts = new ArrayList<>(uploads.size());
+            for (CompletableFuture<CompletedPart> upload : uploads) {
+                parts.add(upload.join());
+            }
+            s3.completeMultipartUpload(request -> request
+                .bucket(conf.getBucket()).key(key).uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(parts)));
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            }
+            throw new IOException("failed to upload " + name, cause);
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(request -> request.bucket(conf.getBucket()).key(key).uploadId(uploadId));
+        } catch (SdkException e) {
+            log.warn("failed to abort multipart upload of {}", key, e);
+        }
+    }
+
+    private void deleteKeys(List<String> keys) throws IOException {
+        try {
+            for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+                List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .collect(Collectors.toList());
+                // quiet 모드는 실패한 키만 돌려주고, 요청 자체는 성공으로 응답하므로 직접 확인
+                List<S3Error> errors = s3.deleteObjects(request -> request.bucket(conf.getBucket())
+                    .delete(delete -> delete.objects(objects).quiet(true))).errors();
+                if (!errors.isEmpty()) {
+                    throw new IOException("failed to delete " + errors.stream()
+                        .map(error -> error.key() + " (" + error.code() + ")")
+                        .collect(Collectors.joining(", ")));
+                }
+            }
+        } catch (SdkException e) {
+            throw new IOException("failed to delete " + keys, e);
+        }
+    }
+
+    private String key(String name) {
+        return conf.getKeyPrefix() + name;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        uploaders.shutdown();
+        if (!uploaders.awaitTermination(10, TimeUnit.SECONDS)) {
+            uploaders.shutdownNow();
+        }
+        presigner.close();
+        s3.close();
+    }
+}
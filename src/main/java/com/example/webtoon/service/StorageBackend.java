@@ -0,0 +1,30 @@
+package com.example.webtoon.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+// 업로드 파일을 모든 서버가 함께 보는 저장소
+// 파일은 항상 이 서버의 file.upload.location (작업 디렉토리) 에 먼저 완성하고, 이미지 처리도 그 사본으로 함
+public interface StorageBackend {
+
+    // 작업 디렉토리에 완성된 파일을 같은 이름으로 저장소에 올림
+    void publish(String name) throws IOException;
+
+    // 작업 디렉토리로 옮기기 전의 file 을 name 으로 올림 (옮긴 직후 저장소 주소로 받아도 있도록)
+    void publish(String name, Path file) throws IOException;
+
+    boolean exists(String name) throws IOException;
+
+    // 없는 파일은 무시
+    void delete(Collection<String> names) throws IOException;
+
+    // 이름이 prefix 로 시작하는 파일 모두 삭제 (조각처럼 개수를 모르는 파일)
+    void deleteByPrefix(String prefix) throws IOException;
+
+    // 브라우저가 앱 서버를 거치지 않고 받을 수 있는 URL (앱 서버가 직접 제공해야 하면 null)
+    String directUrl(String name);
+
+    // 작업 디렉토리가 곧 저장소인지 (아니면 작업 디렉토리의 파일은 이 서버만의 사본)
+    boolean isLocal();
+}
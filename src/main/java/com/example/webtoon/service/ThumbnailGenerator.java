@@ -0,0 +1,224 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.type.ThumbnailWidth;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 썸네일 원본 옆에 폭별 변형 이미지 생성 (요청 스레드와 분리된 고정 크기 워커 풀)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailGenerator {
+
+    private final FileUploadProperties fileUploadProperties;
+    private final StorageBackend storageBackend;
+
+    private Path dirLocation;
+    private Path tempLocation;
+    private ThreadPoolExecutor workers;
+
+    @PostConstruct
+    public void start() {
+        // 디코딩 중 임시 파일 캐시를 쓰지 않고 메모리에서 처리
+        ImageIO.setUseCache(false);
+
+        dirLocation = Paths.get(fileUploadProperties.getLocation()).toAbsolutePath().normalize();
+        tempLocation = dirLocation.resolve(".tmp");
+
+        FileUploadProperties.Thumbnail conf = fileUploadProperties.getThumbnail();
+        workers = new ThreadPoolExecutor(conf.getWorkers(), conf.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(conf.getQueueCapacity()),
+            new CustomizableThreadFactory("thumbnail-worker-"));
+    }
+
+    // 업로드 직후 호출, 대기열이 가득 차면 건너뜀 (조회 시 원본으로 대체되고 재생성 작업으로 채움)
+    public void submit(String fileName) {
+        try {
+            workers.execute(() -> generateQuietly(fileName, false));
+        } catch (RejectedExecutionException e) {
+            log.warn("thumbnail queue is full, skipped variants of {}", fileName);
+        }
+    }
+
+    // 재생성 작업용, 대기열이 가득 차면 호출 스레드가 직접 처리해 작업 속도를 워커 처리량에 맞춤
+    public CompletableFuture<Void> regenerate(String fileName, boolean force) {
+        try {
+            return CompletableFuture.runAsync(() -> generateQuietly(fileName, force), workers);
+        } catch (RejectedExecutionException e) {
+            generateQuietly(fileName, force);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    // 없거나 원본보다 오래된 변형 이미지 생성, 생성한 개수 반환 (이미지가 아니거나 쓸 수 없는 형식이면 0)
+    public int generate(String fileName, boolean force) throws IOException {
+
+        Path original = dirLocation.resolve(fileName).normalize();
+        if (!original.startsWith(dirLocation) || original.startsWith(tempLocation)
+            || !Files.isRegularFile(original)) {
+            return 0;
+        }
+
+        String format = formatOf(fileName);
+        if (format == null) {
+            return 0;
+        }
+
+        FileTime modified = Files.getLastModifiedTime(original);
+        List<ThumbnailWidth> targets = new ArrayList<>();
+        for (ThumbnailWidth width : ThumbnailWidth.values()) {
+            Path variant = dirLocation.resolve(width.variantOf(fileName));
+            if (force || !Files.exists(variant) || Files.getLastModifiedTime(variant).compareTo(modified) < 0) {
+                targets.add(width);
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 헤더로 크기를 먼저 확인해 픽셀 수가 너무 많은 이미지는 디코딩하지 않음 (원본이 대신 응답됨)
+        Dimension size = ImageHeader.sizeOf(original);
+        if (!ImageHeader.fits(size, fileUploadProperties.getThumbnail().getMaxPixels())) {
+            log.debug("not a readable image or too many pixels, skipped variants of {}", fileName);
+            return 0;
+        }
+
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            log.debug("not a readable image, skipped variants of {}", fileName);
+            return 0;
+        }
+
+        boolean opaque = "jpeg".equals(format) || "bmp".equals(format);
+        Files.createDirectories(tempLocation);
+        for (ThumbnailWidth width : targets) {
+            Path variant = dirLocation.resolve(width.variantOf(fileName));
+            Path temp = Files.createTempFile(tempLocation, "thumbnail-", ".tmp");
+            try {
+                if (source.getWidth() <= width.getWidth()) {
+                    // 원본이 더 작으면 다시 인코딩하지 않고 그대로 복사
+                    Files.copy(original, temp, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    try (OutputStream out = Files.newOutputStream(temp)) {
+                        ImageIO.write(scale(source, width.getWidth(), opaque), format, out);
+                    }
+                }
+                storageBackend.publish(width.variantOf(fileName), temp);
+                move(temp, variant);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        // 생성 중에 원본이 삭제됐으면 방금 만든 변형 이미지도 정리
+        if (!Files.exists(original)) {
+            List<String> variants = new ArrayList<>();
+            for (ThumbnailWidth width : ThumbnailWidth.values()) {
+                variants.add(width.variantOf(fileName));
+                Files.deleteIfExists(dirLocation.resolve(width.variantOf(fileName)));
+            }
+            storageBackend.delete(variants);
+            return 0;
+        }
+        return targets.size();
+    }
+
+    private void generateQuietly(String fileName, boolean force) {
+        try {
+            generate(fileName, force);
+        } catch (IOException | RuntimeException e) {
+            log.warn("thumbnail variant generation failed: {}", fileName, e);
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 폭으로 맞춤
+    static BufferedImage scale(BufferedImage source, int targetWidth, boolean opaque) {
+
+        int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        int targetHeight = Math.max(1,
+            (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (opaque) {
+                    // 투명 영역은 JPEG 에서 검게 나오므로 흰 배경으로 채움
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width > targetWidth);
+        return current;
+    }
+
+    // 확장자 -> ImageIO 형식 이름 (쓸 수 있는 형식이 아니면 null)
+    private static String formatOf(String fileName) {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if (extension == null) {
+            return null;
+        }
+        String format = extension.toLowerCase(Locale.ROOT);
+        if ("jpg".equals(format)) {
+            format = "jpeg";
+        }
+        return ImageIO.getImageWritersByFormatName(format).hasNext() ? format : null;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.repository.EpisodeRepository;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.repository.projection.ThumbnailView;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+// 기존 웹툰/에피소드 썸네일 전체의 변형 이미지 재생성
+// id 순으로 페이지마다 진행 위치를 파일에 남겨 서버가 재시작되면 마지막 페이지 다음부터 이어서 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailRegenerationJob {
+
+    private static final String WEBTOON = "webtoon";
+    private static final String EPISODE = "episode";
+    private static final String FORCE = "force";
+
+    private final FileUploadProperties fileUploadProperties;
+    private final WebtoonRepository webtoonRepository;
+    private final EpisodeRepository episodeRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopping;
+    private ExecutorService runner;
+
+    @PostConstruct
+    public void init() {
+        runner = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("thumbnail-job-"));
+    }
+
+    // 중단된 작업이 있으면 기동 후 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        if (Files.exists(checkpointPath())) {
+            log.info("resuming thumbnail regeneration from {}", checkpointPath());
+            start(false);
+        }
+    }
+
+    // 이미 실행 중이면 false, 남은 진행 위치가 있으면 force 와 관계없이 그 작업을 이어서 처리
+    public boolean start(boolean force) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        runner.execute(() -> {
+            try {
+                run(force);
+            } catch (IOException | RuntimeException e) {
+                log.error("thumbnail regeneration stopped, will resume from the last checkpoint", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    void run(boolean force) throws IOException {
+
+        Path checkpointPath = checkpointPath();
+        Properties checkpoint = load(checkpointPath);
+        if (checkpoint.isEmpty()) {
+            checkpoint.setProperty(FORCE, String.valueOf(force));
+            save(checkpointPath, checkpoint);
+        }
+
+        if (regenerate(WEBTOON, webtoonRepository::findThumbnailsAfter, checkpoint, checkpointPath)
+            && regenerate(EPISODE, episodeRepository::findThumbnailsAfter, checkpoint, checkpointPath)) {
+            Files.deleteIfExists(checkpointPath);
+            log.info("thumbnail regeneration finished");
+        }
+    }
+
+    // 한 페이지를 워커 풀에 나눠 맡기고 모두 끝나면 진행 위치 저장, 종료 중이면 false
+    private boolean regenerate(String key, BiFunction<Long, Pageable, List<ThumbnailView>> finder,
+                               Properties checkpoint, Path checkpointPath) throws IOException {
+
+        boolean force = Boolean.parseBoolean(checkpoint.getProperty(FORCE));
+        int pageSize = fileUploadProperties.getThumbnail().getPageSize();
+        long after = Long.parseLong(checkpoint.getProperty(key, "0"));
+
+        List<ThumbnailView> page;
+        do {
+            if (stopping) {
+                return false;
+            }
+            page = finder.apply(after, PageRequest.of(0, pageSize));
+
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(page.size());
+            for (ThumbnailView view : page) {
+                if (view.getFileName() != null) {
+                    tasks.add(thumbnailGenerator.regenerate(view.getFileName(), force));
+                }
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+                checkpoint.setProperty(key, String.valueOf(after));
+                save(checkpointPath, checkpoint);
+            }
+        } while (page.size() == pageSize);
+        return true;
+    }
+
+    private Path checkpointPath() {
+        return Paths.get(fileUploadProperties.getThumbnail().getCheckpointPath()).toAbsolutePath().normalize();
+    }
+
+    private static Properties load(Path path) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    // 쓰는 도중 중단돼도 이전 진행 위치가 남도록 임시 파일에 쓴 뒤 교체
+    private static void save(Path path, Properties properties) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        runner.shutdown();
+        if (!runner.awaitTermination(30, TimeUnit.SECONDS)) {
+            runner.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.webtoon.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TotalCountProvider {
+
+    private final boolean approximate;
+
+    // (엔티티, 조건) 키 -> 전체 개수, 목록 조회마다 COUNT(*) 를 실행하지 않도록 보관
+    private final Cache<String, CountEntry> counts;
+
+    // 마지막 재계산 이후 증감이 반영된 키, 재계산은 이 키들만 COUNT
+    private final Set<String> touched = ConcurrentHashMap.newKeySet();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public TotalCountProvider(@Value("${count.approximate:true}") boolean approximate,
+                              @Value("${count.max-keys:10000}") long maxKeys,
+                              @Value("${count.expire-after-access:1h}") Duration expireAfterAccess,
+                              @Value("${count.expire-after-write:1h}") Duration expireAfterWrite,
+                              MeterRegistry meterRegistry) {
+        this.approximate = approximate;
+        // 다른 인스턴스의 변경은 이 인스턴스에서 증감되지 않으므로, 처음 COUNT 후 일정 시간이 지나면 다음 조회 때 다시 COUNT
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(expireAfterAccess)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+        this.hits = meterRegistry.counter("count.cache", "result", "hit");
+        this.misses = meterRegistry.counter("count.cache", "result", "miss");
+    }
+
+    public static String episodeComments(Long episodeId) {
+        return "comment:episode:" + episodeId;
+    }
+
+    public static String userComments(Long userId) {
+        return "comment:user:" + userId;
+    }
+
+    public static String webtoonEpisodes(Long webtoonId) {
+        return "episode:webtoon:" + webtoonId;
+    }
+
+    public static final String DAY_WEBTOONS = "webtoon:day:";
+
+    public static String dayWebtoons(int dayMask) {
+        return DAY_WEBTOONS + dayMask;
+    }
+
+    // 보관된 개수 반환, 없으면 exactCount 로 세어 보관 (approximate 가 꺼져 있으면 항상 COUNT)
+    public TotalCount getTotal(String key, LongSupplier exactCount) {
+        if (!approximate) {
+            return new TotalCount(exactCount.getAsLong(), false);
+        }
+
+        CountEntry entry = counts.getIfPresent(key);
+        if (entry != null) {
+            hits.increment();
+            return new TotalCount(Math.max(0L, entry.value.get()), true);
+        }
+
+        misses.increment();
+        entry = counts.get(key, k -> new CountEntry(new AtomicLong(exactCount.getAsLong()), exactCount));
+        return new TotalCount(entry.value.get(), false);
+    }
+
+    // 등록/삭제 시 증감 반영 (보관된 키만, 없으면 다음 조회 때 COUNT)
+    public void add(String key, long delta) {
+        CountEntry entry = counts.getIfPresent(key);
+        if (entry != null) {
+            entry.value.addAndGet(delta);
+            touched.add(key);
+        }
+    }
+
+    public void evict(String key) {
+        counts.invalidate(key);
+        touched.remove(key);
+    }
+
+    // 증감을 계산하기 어려운 변경 (웹툰 요일 수정 등) 은 관련 키 삭제
+    public void evictPrefix(String prefix) {
+        counts.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    // 누락되거나 겹친 증감을 바로잡기 위해 마지막 재계산 이후 증감된 키만 주기적으로 정확한 개수로 교체
+    // COUNT 하는 동안 증감이 들어오면 그 값을 덮어쓰지 않고 (compare-and-set 실패) 다음 재계산으로 미룸
+    @Scheduled(fixedDelayString = "${count.recount-interval-ms:300000}")
+    public int recount() {
+        int recounted = 0;
+        for (String key : new ArrayList<>(touched)) {
+            // 먼저 빼 두어야 COUNT 중에 들어온 증감이 다시 표시됨
+            touched.remove(key);
+            CountEntry entry = counts.policy().getIfPresentQuietly(key);
+            if (entry == null) {
+                continue;
+            }
+            long before = entry.value.get();
+            try {
+                if (entry.value.compareAndSet(before, entry.counter.getAsLong())) {
+                    recounted++;
+                } else {
+                    touched.add(key);
+                }
+            } catch (DataAccessException e) {
+                log.warn("total count recount failed: {}", key, e);
+                counts.invalidate(key);
+            }
+        }
+        log.debug("total counts recounted: {} keys", recounted);
+        return recounted;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TotalCount {
+
+        private final long value;
+
+        // 보관된 값 (마지막 COUNT 이후 증감 반영분) 이면 true
+        private final boolean approximate;
+    }
+
+    @AllArgsConstructor
+    static class CountEntry {
+
+        private final AtomicLong value;
+        private final LongSupplier counter;
+    }
+}
@@ -1,24 +1,31 @@
 package com.example.webtoon.service;
 
+import com.example.webtoon.config.Cursor;
+import com.example.webtoon.config.CursorSlice;
+import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.CommentDto;
 import com.example.webtoon.dto.EpisodeIdListDto;
 import com.example.webtoon.dto.UserInfo;
 import com.example.webtoon.dto.WebtoonIdListDto;
-import com.example.webtoon.entity.Comment;
-import com.example.webtoon.entity.Episode;
 import com.example.webtoon.entity.User;
-import com.example.webtoon.entity.Webtoon;
 import com.example.webtoon.exception.CustomException;
 import com.example.webtoon.repository.CommentRepository;
 import com.example.webtoon.repository.EpisodeRepository;
+import com.example.webtoon.repository.FavRepository;
+import com.example.webtoon.repository.RateRepository;
 import com.example.webtoon.repository.UserRepository;
 import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.repository.projection.CommentView;
+import com.example.webtoon.repository.projection.FavoriteWebtoonView;
+import com.example.webtoon.repository.projection.RatedEpisodeView;
 import com.example.webtoon.security.UserPrincipal;
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
 import com.example.webtoon.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +39,9 @@ public class UserService {
     private final WebtoonRepository webtoonRepository;
     private final EpisodeRepository episodeRepository;
     private final CommentRepository commentRepository;
+    private final RateRepository rateRepository;
+    private final FavRepository favRepository;
+    private final TotalCountProvider totalCountProvider;
 
     // 자기 자신 조회
     public UserInfo getCurrentUser(UserPrincipal currentUser) {
@@ -54,21 +64,52 @@ public class UserService {
     // 유저가 평점 부여한 웹툰 목록 불러오기
     public Page<EpisodeIdListDto> getEpisodeRatedByUser(Long userId, Integer page) {
         Pageable pageable = PageRequest.of(page, SIZE);
-        Page<Episode> episodeList = episodeRepository.findAllByUserId(userId, pageable);
+        Page<RatedEpisodeView> episodeList = episodeRepository.findAllByUserId(userId, pageable);
         return episodeList.map(EpisodeIdListDto::from);
     }
 
+    // 유저가 평점 부여한 에피소드 목록 커서 조회 (평점 부여 최신순)
+    public CursorSlice<EpisodeIdListDto> getEpisodeRatedByUserAfter(Long userId, String after) {
+        Cursor cursor = Cursor.decode(after);
+        Slice<RatedEpisodeView> rateList = rateRepository.findSliceByUserId(
+            userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, SIZE));
+        return CursorSlice.of(rateList, rate -> new Cursor(rate.getCreatedAt(), rate.getRateId()),
+            EpisodeIdListDto::from);
+    }
+
     // 유저가 작성한 댓글 목록 조회
     public Page<CommentDto> getCommentsByUser(Long userId, Integer page) {
         Pageable pageable = PageRequest.of(page, SIZE);
-        Page<Comment> commentList = commentRepository.findAllByUser_UserId(userId, pageable);
-        return commentList.map(CommentDto::from);
+        Slice<CommentView> commentList = commentRepository.findAllByUser_UserId(userId, pageable);
+        TotalCount total = totalCountProvider.getTotal(TotalCountProvider.userComments(userId),
+            () -> commentRepository.countByUser_UserId(userId));
+
+        return new RestPage<>(commentList.map(CommentDto::from).getContent(),
+            page, SIZE, total.getValue(), total.isApproximate());
+    }
+
+    // 유저가 작성한 댓글 목록 커서 조회
+    public CursorSlice<CommentDto> getCommentsByUserAfter(Long userId, String after) {
+        Cursor cursor = Cursor.decode(after);
+        Slice<CommentView> commentList = commentRepository.findSliceByUserId(
+            userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, SIZE));
+        return CursorSlice.of(commentList,
+            comment -> new Cursor(comment.getCreatedAt(), comment.getCommentId()), CommentDto::from);
     }
 
     // 선호 작품 목록 조회
     public Page<WebtoonIdListDto> getFavWebtoonList(Long userId, Integer page) {
         Pageable pageable = PageRequest.of(page, SIZE);
-        Page<Webtoon> webtoonList = webtoonRepository.findAllByUserId(userId, pageable);
+        Page<FavoriteWebtoonView> webtoonList = webtoonRepository.findAllByUserId(userId, pageable);
         return webtoonList.map(WebtoonIdListDto::from);
     }
+
+    // 선호 작품 목록 커서 조회 (선호작품 등록 최신순)
+    public CursorSlice<WebtoonIdListDto> getFavWebtoonListAfter(Long userId, String after) {
+        Cursor cursor = Cursor.decode(after);
+        Slice<FavoriteWebtoonView> favList = favRepository.findSliceByUserId(
+            userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, SIZE));
+        return CursorSlice.of(favList, fav -> new Cursor(fav.getCreatedAt(), fav.getFavId()),
+            WebtoonIdListDto::from);
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.webtoon.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL =
+        "UPDATE webtoon SET view_count = COALESCE(view_count, 0) + ? WHERE webtoon_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WebtoonRankingIndex webtoonRankingIndex;
+
+    // 웹툰별 조회수 증가분 (LongAdder 로 스레드간 경합 분산)
+    private final ConcurrentMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (DB 반영은 flush 시점)
+    public void increment(Long webtoonId) {
+        counters.computeIfAbsent(webtoonId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분
+    public long getPendingCount(Long webtoonId) {
+        LongAdder counter = counters.get(webtoonId);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    // 버퍼에 쌓인 증가분을 한 번의 batch update 로 반영
+    @Scheduled(fixedDelayString = "${view.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            int[] updated = jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+
+            // 존재하지 않는 웹툰 id 는 카운터에서 제거, 반영된 증가분은 한 번에 조회수순 순위에 적용
+            Map<Long, Long> applied = new HashMap<>();
+            for (int i = 0; updated != null && i < updated.length; i++) {
+                Long webtoonId = (Long) batch.get(i)[1];
+                if (updated[i] == 0) {
+                    counters.remove(webtoonId);
+                } else {
+                    applied.put(webtoonId, (Long) batch.get(i)[0]);
+                }
+            }
+            webtoonRankingIndex.addViews(applied);
+        } catch (DataAccessException e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 재시도
+            log.warn("view count flush failed, {} webtoons will be retried", batch.size(), e);
+            for (Object[] row : batch) {
+                counters.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
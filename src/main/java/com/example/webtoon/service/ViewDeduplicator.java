@@ -0,0 +1,7 @@
+package com.example.webtoon.service;
+
+public interface ViewDeduplicator {
+
+    // 중복 기간 내 처음 들어온 조회면 기록하고 true 반환
+    boolean isFirstView(String ip, Long webtoonId);
+}
@@ -0,0 +1,172 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.config.ViewProperties;
+import com.example.webtoon.type.OverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewEventQueue {
+
+    private final ViewProperties viewProperties;
+    private final ViewDeduplicator viewDeduplicator;
+    private final ViewCountBuffer viewCountBuffer;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<ViewEvent> queue;
+
+    // COALESCE 정책일 때 큐가 가득 찬 동안 받은 이벤트 (같은 이벤트는 하나로 합쳐짐)
+    private final Set<ViewEvent> overflow = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private Counter enqueued;
+    private Counter coalesced;
+    private Counter dropped;
+    private Counter flushed;
+
+    @PostConstruct
+    public void start() {
+        ViewProperties.Queue conf = viewProperties.getQueue();
+        queue = new ArrayBlockingQueue<>(conf.getCapacity());
+
+        enqueued = meterRegistry.counter("view.events.enqueued");
+        coalesced = meterRegistry.counter("view.events.coalesced");
+        dropped = meterRegistry.counter("view.events.dropped");
+        flushed = meterRegistry.counter("view.events.flushed");
+        Gauge.builder("view.events.pending", this, ViewEventQueue::getPendingCount)
+            .register(meterRegistry);
+
+        running = true;
+        if (conf.getWorkers() > 0) {
+            workers = Executors.newFixedThreadPool(conf.getWorkers(),
+                new CustomizableThreadFactory("view-worker-"));
+            for (int i = 0; i < conf.getWorkers(); i++) {
+                workers.execute(this::work);
+            }
+        }
+    }
+
+    // 요청 스레드에서 호출, 블로킹 없이 바로 반환
+    public void offer(String ip, Long webtoonId) {
+        ViewEvent event = new ViewEvent(ip, webtoonId);
+
+        if (queue.offer(event)) {
+            enqueued.increment();
+            return;
+        }
+
+        if (viewProperties.getQueue().getOverflowPolicy() == OverflowPolicy.COALESCE) {
+            if (overflow.contains(event)) {
+                coalesced.increment();
+                return;
+            }
+            if (overflow.size() < viewProperties.getQueue().getCapacity() && overflow.add(event)) {
+                enqueued.increment();
+                return;
+            }
+        }
+
+        dropped.increment();
+    }
+
+    public int getPendingCount() {
+        return queue.size() + overflow.size();
+    }
+
+    private void work() {
+        int batchSize = viewProperties.getQueue().getBatchSize();
+        List<ViewEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                ViewEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                drainOverflow(batch, batchSize);
+
+                if (!batch.isEmpty()) {
+                    process(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("view event batch failed, {} events discarded", batch.size(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void drainOverflow(List<ViewEvent> batch, int batchSize) {
+        Iterator<ViewEvent> iterator = overflow.iterator();
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    // 중복 체크 후 조회수 버퍼에 누적 (DB 반영은 ViewCountBuffer.flush)
+    void process(List<ViewEvent> batch) {
+        for (ViewEvent event : batch) {
+            if (viewDeduplicator.isFirstView(event.getIp(), event.getWebtoonId())) {
+                viewCountBuffer.increment(event.getWebtoonId());
+            }
+        }
+        flushed.increment(batch.size());
+    }
+
+    // 종료 시 남은 이벤트까지 처리 후 워커 정리
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdown();
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+
+        List<ViewEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        drainOverflow(remaining, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            process(remaining);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static class ViewEvent {
+
+        private final String ip;
+        private final Long webtoonId;
+    }
+}
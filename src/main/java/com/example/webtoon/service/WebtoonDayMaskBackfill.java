@@ -0,0 +1,52 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.type.DayType;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebtoonDayMaskBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_SQL =
+        "SELECT webtoon_id, day FROM webtoon WHERE day_mask IS NULL";
+    private static final String UPDATE_SQL =
+        "UPDATE webtoon SET day_mask = ? WHERE webtoon_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // day_mask 컬럼 추가 전에 저장된 웹툰의 요일 문자열을 마스크로 변환 (한 번 채워지면 이후 실행은 조회만)
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Object[]> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) ->
+            new Object[]{DayType.toMask(rs.getString("day")), rs.getLong("webtoon_id")});
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        int unknown = 0;
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(
+                rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+
+            for (Object[] row : batch) {
+                if ((int) row[0] == 0) {
+                    unknown++;
+                }
+            }
+        }
+        log.info("webtoon day_mask backfilled: {} rows, {} without a recognizable day",
+            rows.size(), unknown);
+    }
+}
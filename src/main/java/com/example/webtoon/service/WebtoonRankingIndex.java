@@ -0,0 +1,360 @@
+package com.example.webtoon.service;
+
+import com.example.webtoon.dto.WebtoonDto;
+import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.repository.projection.RankingView;
+import com.example.webtoon.type.DayType;
+import com.example.webtoon.type.SortType;
+import com.example.webtoon.type.ThumbnailWidth;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebtoonRankingIndex {
+
+    private static final Comparator<Entry> NEWEST = Comparator
+        .comparing(Entry::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(Entry::getWebtoonId, Comparator.reverseOrder());
+
+    private static final Comparator<Entry> TOP_RATED = Comparator
+        .comparing(Entry::getAvgRate, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(Entry::getWebtoonId, Comparator.reverseOrder());
+
+    private static final Comparator<Entry> MOST_VIEWED = Comparator
+        .comparingLong(Entry::getViewCount).reversed()
+        .thenComparing(Entry::getWebtoonId, Comparator.reverseOrder());
+
+    private final WebtoonRepository webtoonRepository;
+
+    @Value("${ranking.enabled:true}")
+    private boolean enabled;
+
+    // 웹툰 id -> 정렬에 필요한 값 (처음 조회 시 적재)
+    private volatile ConcurrentMap<Long, Entry> entries;
+
+    // 요일 x 정렬 기준별로 정렬된 웹툰 id, 처음 조회 때 정렬하고 평점/조회수 변경은 바뀐 웹툰 위치만 옮김
+    // 읽기는 잠금 없이 배열을 그대로 쓰고, 변경은 복사본에 반영한 뒤 교체 (계산/변경은 this 로 직렬화)
+    private final ConcurrentMap<RankingKey, long[]> rankings = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 색인에 있는 웹툰인지 (아직 적재 전이거나 다른 서버에서 방금 등록한 웹툰이면 false, DB 로 다시 확인)
+    public boolean contains(Long webtoonId) {
+        Map<Long, Entry> snapshot = entries;
+        return snapshot != null && snapshot.containsKey(webtoonId);
+    }
+
+    // 정렬된 id 배열에서 페이지 구간만 잘라 DTO 로 변환
+    public Page<WebtoonDto> getPage(int dayMask, SortType sortType, int page, int size) {
+        long[] ids = ranking(dayMask, sortType);
+        Map<Long, Entry> snapshot = entries();
+
+        int from = (int) Math.min((long) page * size, ids.length);
+        int to = Math.min(from + size, ids.length);
+
+        List<WebtoonDto> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Entry entry = snapshot.get(ids[i]);
+            if (entry != null) {
+                content.add(entry.toDto());
+            }
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size, SortType.getSort(sortType)), ids.length);
+    }
+
+    // 웹툰 등록/수정, 요일이 바뀔 수 있으므로 이전/현재 요일의 정렬 결과는 다음 조회 때 다시 계산
+    // 트랜잭션 안에서 호출되면 커밋 후 반영 (수정일 등 flush 때 채워지는 값도 그때 읽음)
+    public void upsert(Webtoon webtoon) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (entries == null) {
+                    return;
+                }
+                Entry previous = entries.put(webtoon.getWebtoonId(), Entry.from(webtoon));
+                invalidate(EnumSet.allOf(SortType.class),
+                    previous == null ? 0 : previous.getDayMask(), DayType.toMask(webtoon.getDay()));
+            }
+        });
+    }
+
+    public void remove(Long webtoonId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (entries == null) {
+                    return;
+                }
+                Entry previous = entries.remove(webtoonId);
+                if (previous != null) {
+                    invalidate(EnumSet.allOf(SortType.class), previous.getDayMask(), 0);
+                }
+            }
+        });
+    }
+
+    // 평점 등록/수정/삭제, 트랜잭션 안에서 호출되면 커밋 후 반영 (롤백되면 색인도 그대로)
+    public void addRate(Long webtoonId, long sumDelta, long countDelta) {
+        afterCommit(() -> reposition(SortType.RATE,
+            Collections.singletonMap(webtoonId, entry -> entry.withRate(sumDelta, countDelta))));
+    }
+
+    // 조회수 반영 (ViewCountBuffer flush 한 번에 한 번, DB 에 반영된 증가분만)
+    public void addViews(Map<Long, Long> deltas) {
+        Map<Long, UnaryOperator<Entry>> changes = new HashMap<>();
+        deltas.forEach((webtoonId, delta) -> changes.put(webtoonId, entry -> entry.withViews(delta)));
+        reposition(SortType.VIEW, changes);
+    }
+
+    // 다른 인스턴스의 변경, 평점 재계산 결과 등을 반영하기 위해 주기적으로 전체 재적재
+    @Scheduled(fixedDelayString = "${ranking.reload-interval-ms:60000}")
+    public void refresh() {
+        if (entries != null) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        ConcurrentMap<Long, Entry> loaded = new ConcurrentHashMap<>();
+        for (RankingView view : webtoonRepository.findRankingViews()) {
+            loaded.put(view.getWebtoonId(), Entry.from(view));
+        }
+
+        entries = loaded;
+        rankings.clear();
+        log.debug("webtoon ranking index reloaded: {} webtoons", loaded.size());
+    }
+
+    private Map<Long, Entry> entries() {
+        if (entries == null) {
+            synchronized (this) {
+                if (entries == null) {
+                    reload();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private long[] ranking(int dayMask, SortType sortType) {
+        RankingKey key = new RankingKey(dayMask, sortType);
+        long[] ids = rankings.get(key);
+        if (ids != null) {
+            return ids;
+        }
+
+        // 정렬은 적재 직후나 웹툰 등록/수정 뒤에만 하므로 변경과 같은 잠금으로 직렬화
+        synchronized (this) {
+            ids = rankings.get(key);
+            if (ids == null) {
+                ids = entries().values().stream()
+                    .filter(entry -> matches(entry.getDayMask(), dayMask))
+                    .sorted(comparator(sortType))
+                    .mapToLong(Entry::getWebtoonId)
+                    .toArray();
+                rankings.put(key, ids);
+            }
+            return ids;
+        }
+    }
+
+    // 값을 바꾼 웹툰을 해당 정렬 기준의 정렬 결과마다 새 위치로 옮김 (전체 재정렬 없이 O(N) 복사와 O(log N) 비교)
+    // 정렬 결과마다 배열은 한 번만 복사하고, 웹툰 하나씩 값을 바꾸고 옮기므로 나머지는 항상 정렬된 상태
+    private synchronized void reposition(SortType sortType, Map<Long, UnaryOperator<Entry>> changes) {
+        Map<Long, Entry> current = entries;
+        if (current == null || changes.isEmpty()) {
+            return;
+        }
+
+        Map<RankingKey, long[]> working = new HashMap<>();
+        rankings.forEach((key, ids) -> {
+            if (key.getSortType() == sortType) {
+                working.put(key, ids.clone());
+            }
+        });
+
+        Comparator<Entry> comparator = comparator(sortType);
+        changes.forEach((webtoonId, change) -> {
+            Entry updated = current.computeIfPresent(webtoonId, (id, entry) -> change.apply(entry));
+            if (updated == null) {
+                return;
+            }
+            working.forEach((key, ids) -> {
+                if (matches(updated.getDayMask(), key.getDayMask())) {
+                    move(ids, updated, current, comparator);
+                }
+            });
+        });
+        rankings.putAll(working);
+    }
+
+    // 바뀐 웹툰의 이전/현재 요일에 해당하는 정렬 결과만 삭제
+    private void invalidate(Set<SortType> sortTypes, int previousDayMask, int currentDayMask) {
+        rankings.keySet().removeIf(key -> sortTypes.contains(key.getSortType())
+            && (matches(previousDayMask, key.getDayMask()) || matches(currentDayMask, key.getDayMask())));
+    }
+
+    // 정렬된 배열에서 웹툰을 빼고 나머지 사이에서 새 위치를 이분 탐색, 그 사이 구간만 한 칸씩 밂
+    private static void move(long[] ids, Entry updated, Map<Long, Entry> entries, Comparator<Entry> comparator) {
+        int from = -1;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == updated.getWebtoonId()) {
+                from = i;
+                break;
+            }
+        }
+        if (from < 0) {
+            return;
+        }
+
+        // from 을 뺀 ids.length - 1 개 중에서 updated 보다 앞에 올 개수
+        int low = 0;
+        int high = ids.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Entry other = entries.get(ids[mid < from ? mid : mid + 1]);
+            if (comparator.compare(other, updated) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        if (low < from) {
+            System.arraycopy(ids, low, ids, low + 1, from - low);
+        } else if (low > from) {
+            System.arraycopy(ids, from + 1, ids, from, low - from);
+        }
+        ids[low] = updated.getWebtoonId();
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행, 밖이면 바로 실행
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // 조회한 요일을 모두 포함하는 웹툰 (findByDayMaskIn 과 같은 조건)
+    private static boolean matches(int webtoonDayMask, int dayMask) {
+        return dayMask != 0 && (webtoonDayMask & dayMask) == dayMask;
+    }
+
+    private static Comparator<Entry> comparator(SortType sortType) {
+        switch (sortType) {
+            case RATE:
+                return TOP_RATED;
+            case VIEW:
+                return MOST_VIEWED;
+            case NEW:
+            default:
+                return NEWEST;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static class RankingKey {
+
+        private final int dayMask;
+        private final SortType sortType;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Entry {
+
+        private final Long webtoonId;
+        private final String title;
+        private final String artist;
+        private final String day;
+        private final int dayMask;
+        private final String genre;
+        private final String thumbnailUri;
+        private final LocalDateTime updatedAt;
+        private final long rateSum;
+        private final long rateCount;
+        private final long viewCount;
+
+        static Entry from(RankingView view) {
+            return new Entry(view.getWebtoonId(), view.getTitle(), view.getArtist(),
+                view.getDay(), DayType.toMask(view.getDay()), view.getGenre(), view.getThumbnailUri(),
+                view.getUpdatedAt(),
+                orZero(view.getRateSum()), orZero(view.getRateCount()), orZero(view.getViewCount()));
+        }
+
+        static Entry from(Webtoon webtoon) {
+            return new Entry(webtoon.getWebtoonId(), webtoon.getTitle(), webtoon.getArtist(),
+                webtoon.getDay(), DayType.toMask(webtoon.getDay()), webtoon.getGenre(),
+                webtoon.getWebtoonThumbnail() == null ? null : webtoon.getWebtoonThumbnail().getFileUri(),
+                webtoon.getUpdatedAt(),
+                orZero(webtoon.getRateSum()), orZero(webtoon.getRateCount()),
+                orZero(webtoon.getViewCount()));
+        }
+
+        // 평점이 없으면 null (DB 의 avg_rate 와 같이 내림차순에서 맨 뒤)
+        Double getAvgRate() {
+            return rateCount > 0 ? (double) rateSum / rateCount : null;
+        }
+
+        Entry withRate(long sumDelta, long countDelta) {
+            return new Entry(webtoonId, title, artist, day, dayMask, genre, thumbnailUri, updatedAt,
+                rateSum + sumDelta, rateCount + countDelta, viewCount);
+        }
+
+        Entry withViews(long delta) {
+            return new Entry(webtoonId, title, artist, day, dayMask, genre, thumbnailUri, updatedAt,
+                rateSum, rateCount, viewCount + delta);
+        }
+
+        WebtoonDto toDto() {
+            return WebtoonDto.builder()
+                .webtoonId(webtoonId)
+                .title(title)
+                .artist(artist)
+                .day(day)
+                .genre(genre)
+                .thumbnailUri(thumbnailUri)
+                .thumbnailVariantUris(ThumbnailWidth.variantUris(thumbnailUri))
+                .build();
+        }
+
+        private static long orZero(Long value) {
+            return value == null ? 0L : value;
+        }
+    }
+}
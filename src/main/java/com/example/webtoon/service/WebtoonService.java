@@ -1,28 +1,53 @@
 package com.example.webtoon.service;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
+import com.example.webtoon.config.Cursor;
+import com.example.webtoon.config.CursorSlice;
 import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.dto.EpisodeImportRequest;
+import com.example.webtoon.dto.EpisodeUploadResult;
 import com.example.webtoon.dto.WebtoonDocument;
 import com.example.webtoon.dto.WebtoonDto;
 import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
 import com.example.webtoon.entity.Webtoon;
 import com.example.webtoon.entity.WebtoonThumbnail;
 import com.example.webtoon.exception.CustomException;
 import com.example.webtoon.repository.EpisodeRepository;
 import com.example.webtoon.repository.WebtoonRepository;
 import com.example.webtoon.repository.WebtoonSearchRepository;
+import com.example.webtoon.repository.projection.EpisodeView;
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
+import com.example.webtoon.type.DayType;
 import com.example.webtoon.type.ErrorCode;
 import com.example.webtoon.type.SortType;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -31,10 +56,16 @@ public class WebtoonService {
 
     private final int SIZE = 10;
 
+    private final int MAX_IMPORT_SIZE = 1000;
+
     private final WebtoonRepository webtoonRepository;
     private final EpisodeRepository episodeRepository;
     private final WebtoonSearchRepository webtoonSearchRepository;
     private final FileService fileService;
+    private final CacheFamilyEvictor cacheFamilyEvictor;
+    private final WebtoonRankingIndex webtoonRankingIndex;
+    private final TotalCountProvider totalCountProvider;
+    private final TransactionTemplate transactionTemplate;
 
     // 웹툰 신규 등록
     @CacheEvict(value = "webtoonList", allEntries = true)
@@ -47,11 +78,17 @@ public class WebtoonService {
                 HttpStatus.CONFLICT, ErrorCode.ALREADY_EXIST_WEBTOON_TITLE);
         }
 
+        // 썸네일을 쓴 뒤 짧은 트랜잭션으로 저장, 저장이 실패하면 썸네일 참조 해제
         Webtoon webtoon = new Webtoon(title, artist, day, genre);
         WebtoonThumbnail thumbnail = fileService.saveWebtoonThumbnailFile(file);
         webtoon.setWebtoonThumbnail(thumbnail);
         webtoon.setViewCount(0L);
-        webtoonRepository.save(webtoon);
+        transactionTemplate.executeWithoutResult(status -> {
+            fileService.releaseOnRollback(Collections.singletonList(thumbnail.getFileName()));
+            webtoonRepository.save(webtoon);
+            webtoonRankingIndex.upsert(webtoon);
+        });
+        totalCountProvider.evictPrefix(TotalCountProvider.DAY_WEBTOONS);
 
         WebtoonDocument webtoonDocument = WebtoonDocument.from(webtoon);
         webtoonSearchRepository.save(webtoonDocument);
@@ -66,17 +103,28 @@ public class WebtoonService {
                                     String day, String genre,
                                     MultipartFile file) throws IOException {
 
-        Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(() ->
-            new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
+        // 썸네일을 쓴 뒤 짧은 트랜잭션으로 수정, 실패하면 새 썸네일을, 커밋되면 교체된 썸네일을 참조 해제
+        WebtoonThumbnail thumbnail = fileService.saveWebtoonThumbnailFile(file);
+        Webtoon webtoon = transactionTemplate.execute(status -> {
+            fileService.releaseOnRollback(Collections.singletonList(thumbnail.getFileName()));
+            Webtoon saved = webtoonRepository.findById(webtoonId).orElseThrow(() ->
+                new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
 
-        webtoon.setTitle(title);
-        webtoon.setArtist(artist);
-        webtoon.setDay(day);
-        webtoon.setGenre(genre);
+            saved.setTitle(title);
+            saved.setArtist(artist);
+            saved.setDay(day);
+            saved.setGenre(genre);
 
-        WebtoonThumbnail thumbnail = fileService.saveWebtoonThumbnailFile(file);
-        webtoon.setWebtoonThumbnail(thumbnail);
-        webtoonRepository.save(webtoon);
+            WebtoonThumbnail oldThumbnail = saved.getWebtoonThumbnail();
+            saved.setWebtoonThumbnail(thumbnail);
+            webtoonRepository.save(saved);
+            webtoonRankingIndex.upsert(saved);
+            if (oldThumbnail != null) {
+                fileService.releaseAfterCommit(Collections.singletonList(oldThumbnail.getFileName()));
+            }
+            return saved;
+        });
+        totalCountProvider.evictPrefix(TotalCountProvider.DAY_WEBTOONS);
 
         return WebtoonDto.from(webtoon);
     }
@@ -84,14 +132,27 @@ public class WebtoonService {
     // 웹툰 삭제
     @CacheEvict(value = "webtoonList", allEntries = true)
     public void deleteWebtoon(Long webtoonId) {
-        if (!webtoonRepository.existsById(webtoonId)) {
-            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND);
+        Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
+
+        // cascade 로 함께 지워지는 에피소드 파일까지 삭제 후 참조 해제
+        List<String> fileNames = new ArrayList<>();
+        if (webtoon.getWebtoonThumbnail() != null) {
+            fileNames.add(webtoon.getWebtoonThumbnail().getFileName());
+        }
+        if (webtoon.getEpisodes() != null) {
+            webtoon.getEpisodes().forEach(episode -> fileNames.addAll(fileNames(episode)));
         }
-        webtoonRepository.deleteById(webtoonId);
+
+        webtoonRepository.delete(webtoon);
+        fileService.release(fileNames);
+        webtoonRankingIndex.remove(webtoonId);
+        cacheFamilyEvictor.evict("episodeList", CacheFamilyEvictor.webtoon(webtoonId));
+        totalCountProvider.evictPrefix(TotalCountProvider.DAY_WEBTOONS);
+        totalCountProvider.evict(TotalCountProvider.webtoonEpisodes(webtoonId));
     }
 
     // 에피소드 신규 등록
-    @CacheEvict(value = "episodeList", allEntries = true)
     public EpisodeDto addEpisode(Long webtoonId,
                                  String title,
                                  MultipartFile epFile,
@@ -104,17 +165,152 @@ public class WebtoonService {
 
         Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(
             () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
+
+        // 두 파일을 동시에 쓰고 모두 끝난 뒤 짧은 트랜잭션으로 저장 (파일을 쓰는 동안 DB 커넥션을 잡지 않음)
+        FileService.EpisodeFiles files = await(fileService.saveEpisodeFilesAsync(epFile, thFile));
+        EpisodeFile episodeFile = episodeFile(files);
+        EpisodeThumbnail episodeThumbnail = episodeThumbnail(files);
+        return transactionTemplate.execute(status -> {
+            fileService.releaseOnRollback(files.fileNames());
+            return saveEpisode(webtoonId, webtoon, title, episodeFile, episodeThumbnail);
+        });
+    }
+
+    // 스트리밍 업로드로 이미 저장된 파일로 에피소드 신규 등록 (실패 시 파일 참조 해제는 호출한 쪽에서)
+    public EpisodeDto addUploadedEpisode(Long webtoonId,
+                                         String title,
+                                         EpisodeFile episodeFile,
+                                         EpisodeThumbnail episodeThumbnail) {
+
+        if (episodeRepository.existsByWebtoon_WebtoonIdAndTitle(webtoonId, title)) {
+            throw new CustomException(
+                HttpStatus.CONFLICT, ErrorCode.ALREADY_EXIST_EPISODE_TITLE);
+        }
+
+        Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
+        return saveEpisode(webtoonId, webtoon, title, episodeFile, episodeThumbnail);
+    }
+
+    private EpisodeDto saveEpisode(Long webtoonId,
+                                   Webtoon webtoon,
+                                   String title,
+                                   EpisodeFile episodeFile,
+                                   EpisodeThumbnail episodeThumbnail) {
+
         Episode episode = new Episode(title);
-        episode.setEpisodeFile(fileService.saveEpisodeFile(epFile));
-        episode.setEpisodeThumbnail(fileService.saveEpisodeThumbnailFile(thFile));
+        episode.setEpisodeFile(episodeFile);
+        episode.setEpisodeThumbnail(episodeThumbnail);
         episode.setWebtoon(webtoon);
         episodeRepository.save(episode);
+        afterCommit(() -> {
+            cacheFamilyEvictor.evict("episodeList", CacheFamilyEvictor.webtoon(webtoonId));
+            totalCountProvider.add(TotalCountProvider.webtoonEpisodes(webtoonId), 1);
+        });
 
         return EpisodeDto.from(episode);
     }
 
+    // 에피소드 일괄 등록 (이미 업로드된 파일 이름 목록, INSERT 는 JDBC batch 로 묶어 실행)
+    @Transactional
+    public List<EpisodeDto> importEpisodes(Long webtoonId, List<EpisodeImportRequest> requests) throws IOException {
+
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_IMPORT_SIZE) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_IMPORT);
+        }
+
+        // 파일은 내용 해시 이름으로 저장된 것만 (업로드 디렉토리 밖이나 예전 방식 파일은 가리킬 수 없음)
+        Set<String> titles = new HashSet<>();
+        List<String> fileNames = new ArrayList<>(requests.size() * 2);
+        for (EpisodeImportRequest request : requests) {
+            if (!StringUtils.hasText(request.getTitle())
+                || request.getEpFileName() == null || FileService.digestOf(request.getEpFileName()) == null
+                || request.getThFileName() == null || FileService.digestOf(request.getThFileName()) == null) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_IMPORT);
+            }
+            fileNames.add(request.getEpFileName());
+            fileNames.add(request.getThFileName());
+            if (!titles.add(request.getTitle())) {
+                throw new CustomException(
+                    HttpStatus.CONFLICT, ErrorCode.ALREADY_EXIST_EPISODE_TITLE);
+            }
+        }
+
+        Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
+
+        if (!episodeRepository.findTitlesByWebtoonIdAndTitleIn(webtoonId, titles).isEmpty()) {
+            throw new CustomException(
+                HttpStatus.CONFLICT, ErrorCode.ALREADY_EXIST_EPISODE_TITLE);
+        }
+
+        // 에피소드마다 파일 참조 추가, 등록이 롤백되면 되돌림 (없는 파일이면 참조를 늘리지 않고 실패)
+        if (!fileService.retain(fileNames)) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_EPISODE_IMPORT);
+        }
+        fileService.releaseOnRollback(fileNames);
+
+        List<Episode> episodes = new ArrayList<>(requests.size());
+        for (EpisodeImportRequest request : requests) {
+            Episode episode = new Episode(request.getTitle());
+            episode.setEpisodeFile(
+                new EpisodeFile(request.getEpFileName(), fileService.fileUri(request.getEpFileName())));
+            episode.setEpisodeThumbnail(
+                new EpisodeThumbnail(request.getThFileName(), fileService.fileUri(request.getThFileName())));
+            episode.setWebtoon(webtoon);
+            episodes.add(episode);
+        }
+        episodeRepository.saveAll(episodes);
+        int imported = episodes.size();
+        afterCommit(() -> {
+            cacheFamilyEvictor.evict("episodeList", CacheFamilyEvictor.webtoon(webtoonId));
+            totalCountProvider.add(TotalCountProvider.webtoonEpisodes(webtoonId), imported);
+        });
+
+        return episodes.stream().map(EpisodeDto::from).collect(Collectors.toList());
+    }
+
+    // 일괄 업로드된 에피소드 저장 (이미 있는 제목은 실패로 돌려주고, 나머지는 한 트랜잭션에서 batch INSERT)
+    @Transactional
+    public List<EpisodeUploadResult> saveUploadedEpisodes(Long webtoonId, List<Episode> episodes) {
+
+        Webtoon webtoon = webtoonRepository.findById(webtoonId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND));
+
+        if (episodes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> existingTitles = new HashSet<>(episodeRepository.findTitlesByWebtoonIdAndTitleIn(
+            webtoonId, episodes.stream().map(Episode::getTitle).collect(Collectors.toList())));
+
+        List<Episode> newEpisodes = new ArrayList<>(episodes.size());
+        for (Episode episode : episodes) {
+            if (!existingTitles.contains(episode.getTitle())) {
+                episode.setWebtoon(webtoon);
+                newEpisodes.add(episode);
+            }
+        }
+
+        if (!newEpisodes.isEmpty()) {
+            episodeRepository.saveAll(newEpisodes);
+            int saved = newEpisodes.size();
+            afterCommit(() -> {
+                cacheFamilyEvictor.evict("episodeList", CacheFamilyEvictor.webtoon(webtoonId));
+                totalCountProvider.add(TotalCountProvider.webtoonEpisodes(webtoonId), saved);
+            });
+        }
+
+        List<EpisodeUploadResult> results = new ArrayList<>(episodes.size());
+        for (Episode episode : episodes) {
+            results.add(existingTitles.contains(episode.getTitle())
+                ? EpisodeUploadResult.failure(episode.getTitle(), ErrorCode.ALREADY_EXIST_EPISODE_TITLE)
+                : EpisodeUploadResult.success(EpisodeDto.from(episode)));
+        }
+        return results;
+    }
+
     // 에피소드 수정
-    @CacheEvict(value = "episodeList", allEntries = true)
     public EpisodeDto updateEpisode(Long episodeId,
                                     String title,
                                     MultipartFile epFile,
@@ -123,44 +319,140 @@ public class WebtoonService {
         Episode episode = episodeRepository.findById(episodeId).orElseThrow(
             () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.EPISODE_NOT_FOUND));
 
+        List<String> oldFileNames = fileNames(episode);
+        FileService.EpisodeFiles files = await(fileService.saveEpisodeFilesAsync(epFile, thFile));
         episode.setTitle(title);
-        episode.setEpisodeFile(fileService.saveEpisodeFile(epFile));
-        episode.setEpisodeThumbnail(fileService.saveEpisodeThumbnailFile(thFile));
-        episodeRepository.save(episode);
+        episode.setEpisodeFile(episodeFile(files));
+        episode.setEpisodeThumbnail(episodeThumbnail(files));
+
+        // 이전 파일 참조 해제와 캐시 삭제는 수정이 커밋된 뒤에만
+        Long webtoonId = episode.getWebtoon().getWebtoonId();
+        transactionTemplate.executeWithoutResult(status -> {
+            fileService.releaseOnRollback(files.fileNames());
+            episodeRepository.save(episode);
+            fileService.releaseAfterCommit(oldFileNames);
+            afterCommit(() -> cacheFamilyEvictor.evict("episodeList", CacheFamilyEvictor.webtoon(webtoonId)));
+        });
 
         return EpisodeDto.from(episode);
     }
 
     // 에피소드 삭제
-    @CacheEvict(value = "episodeList", allEntries = true)
     public void deleteEpisode(Long episodeId) {
-        if (!episodeRepository.existsById(episodeId)) {
-            throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.EPISODE_NOT_FOUND);
-        }
+        Episode episode = episodeRepository.findById(episodeId).orElseThrow(
+            () -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.EPISODE_NOT_FOUND));
+
         episodeRepository.deleteById(episodeId);
+        cacheFamilyEvictor.evict("episodeList",
+            CacheFamilyEvictor.webtoon(episode.getWebtoon().getWebtoonId()));
+        totalCountProvider.add(
+            TotalCountProvider.webtoonEpisodes(episode.getWebtoon().getWebtoonId()), -1);
+        fileService.release(fileNames(episode));
+    }
+
+    // 파일 URI 는 현재 요청 기준이므로 요청 스레드에서 채움
+    private EpisodeFile episodeFile(FileService.EpisodeFiles files) {
+        EpisodeFile episodeFile = files.getEpisodeFile();
+        episodeFile.setEpFileUri(fileService.fileUri(episodeFile.getEpFileName()));
+        return episodeFile;
+    }
+
+    private EpisodeThumbnail episodeThumbnail(FileService.EpisodeFiles files) {
+        return new EpisodeThumbnail(files.getThumbnailName(), fileService.fileUri(files.getThumbnailName()));
+    }
+
+    // I/O 스레드에서 난 예외를 호출한 쪽에 원래 형태로 전달
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행 (커밋 전에 캐시를 지우면 다른 요청이 옛 값을 다시 채움), 밖이면 바로 실행
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // 에피소드가 가리키는 이미지/썸네일 파일 이름
+    private static List<String> fileNames(Episode episode) {
+        List<String> fileNames = new ArrayList<>(2);
+        if (episode.getEpisodeFile() != null) {
+            fileNames.add(episode.getEpisodeFile().getEpFileName());
+        }
+        if (episode.getEpisodeThumbnail() != null) {
+            fileNames.add(episode.getEpisodeThumbnail().getThFileName());
+        }
+        return fileNames;
     }
 
     // 웹툰 요일별 조회
     public Page<WebtoonDto> getWebtoonByDay(String day, SortType sortType, Integer page) {
 
-        if (!webtoonRepository.existsByDayContaining(day)) {
+        int dayMask = DayType.toMask(day);
+        if (dayMask == 0) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.DAY_TYPE_NOT_FOUND);
+        }
+
+        // 미리 정렬해 둔 요일별 순위에서 페이지 구간만 조회
+        if (webtoonRankingIndex.isEnabled()) {
+            Page<WebtoonDto> webtoons = webtoonRankingIndex.getPage(dayMask, sortType, page, SIZE);
+            if (webtoons.getTotalElements() == 0) {
+                throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND);
+            }
+            return webtoons;
+        }
+
+        List<Integer> masks = DayType.masksContaining(dayMask);
+        if (!webtoonRepository.existsByDayMaskIn(masks)) {
             throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.WEBTOON_NOT_FOUND);
         }
 
         Sort sort = SortType.getSort(sortType);
         Pageable pageable = PageRequest.of(page, SIZE, sort);
-        Page<Webtoon> webtoons = webtoonRepository.findByDay(day, pageable);
+        Slice<Webtoon> webtoons = webtoonRepository.findByDayMaskIn(masks, pageable);
+        TotalCount total = totalCountProvider.getTotal(TotalCountProvider.dayWebtoons(dayMask),
+            () -> webtoonRepository.countByDayMaskIn(masks));
 
-        return webtoons.map(WebtoonDto::from);
+        return new RestPage<>(webtoons.map(WebtoonDto::from).getContent(),
+            page, SIZE, total.getValue(), total.isApproximate());
     }
 
     // 웹툰 에피소드 전체 목록 조회
-    @Cacheable(key = "#webtoonId + ', page: ' + #page", value = "episodeList")
+    @Cacheable(key = "'webtoon:' + #webtoonId + ':page:' + #page", value = "episodeList", sync = true)
     public Page<EpisodeDto> getWebtoonEpisodes(Long webtoonId, Integer page) {
         Pageable pageable = PageRequest.of(page, SIZE);
-        Page<Episode> episodeList = episodeRepository.findByWebtoon_WebtoonId(webtoonId, pageable);
+        Slice<EpisodeView> episodeList = episodeRepository.findByWebtoon_WebtoonId(webtoonId, pageable);
+        TotalCount total = totalCountProvider.getTotal(TotalCountProvider.webtoonEpisodes(webtoonId),
+            () -> episodeRepository.countByWebtoon_WebtoonId(webtoonId));
+
+        return new RestPage<>(episodeList.map(EpisodeDto::from).getContent(),
+            page, SIZE, total.getValue(), total.isApproximate());
+    }
 
-        return new RestPage<>(episodeList.map(EpisodeDto::from));
+    // 웹툰 에피소드 커서 조회 (최신 에피소드부터, COUNT 쿼리 없음)
+    public CursorSlice<EpisodeDto> getWebtoonEpisodesAfter(Long webtoonId, String after) {
+        Cursor cursor = Cursor.decode(after);
+        Slice<EpisodeView> episodeList = episodeRepository.findSliceByWebtoonId(
+            webtoonId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, SIZE));
+        return CursorSlice.of(episodeList,
+            episode -> new Cursor(episode.getCreatedAt(), episode.getEpisodeId()), EpisodeDto::from);
     }
 
     // 검색한 웹툰 조회
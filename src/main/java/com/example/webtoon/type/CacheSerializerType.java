@@ -0,0 +1,10 @@
+package com.example.webtoon.type;
+
+public enum CacheSerializerType {
+
+    // 타입 정보를 포함한 JSON (GenericJackson2JsonRedisSerializer)
+    JSON,
+
+    // 같은 타입 정보를 Smile(바이너리 JSON) 로 인코딩, 크기와 파싱 비용 감소
+    SMILE
+}
@@ -0,0 +1,63 @@
+package com.example.webtoon.type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum DayType {
+
+    MON("월"),
+    TUE("화"),
+    WED("수"),
+    THU("목"),
+    FRI("금"),
+    SAT("토"),
+    SUN("일");
+
+    private static final int ALL_DAYS = (1 << values().length) - 1;
+
+    private final String korean;
+
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
+    // "MON", "월", "월요일", "월요일,목요일", "MON/THU" 등 자유 형식 요일 문자열 -> 7비트 마스크
+    public static int toMask(String day) {
+        if (day == null) {
+            return 0;
+        }
+
+        String upper = day.toUpperCase(Locale.ROOT);
+        // "요일" 의 "일" 이 일요일로 잡히지 않도록 먼저 제거
+        String korean = day.replace("요일", "");
+
+        int mask = 0;
+        for (DayType dayType : values()) {
+            if (upper.contains(dayType.name()) || korean.contains(dayType.getKorean())) {
+                mask |= dayType.getBit();
+            }
+        }
+        return mask;
+    }
+
+    // mask 의 요일을 모두 포함하는 마스크 목록 (인덱스를 타는 day_mask IN (...) 조건용)
+    public static List<Integer> masksContaining(int mask) {
+        if (mask == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> masks = new ArrayList<>();
+        for (int candidate = 1; candidate <= ALL_DAYS; candidate++) {
+            if ((candidate & mask) == mask) {
+                masks.add(candidate);
+            }
+        }
+        return masks;
+    }
+}
@@ -22,6 +22,15 @@ public enum ErrorCode {
     FAV_WEBTOON_NOT_FOUND("일치하는 선호작품이 없습니다."),
     COMMENT_NOT_FOUND("일치하는 댓글이 없습니다."),
     ORDER_TYPE_NOT_FOUND("일치하는 정렬 타입이 존재하지 않습니다."),
+    DAY_TYPE_NOT_FOUND("일치하는 요일이 존재하지 않습니다."),
+    INVALID_CURSOR("잘못된 페이지 커서입니다."),
+    INVALID_EPISODE_IMPORT("일괄 등록할 에피소드 목록이 올바르지 않습니다."),
+    INVALID_EPISODE_UPLOAD("업로드한 에피소드 파일 구성이 올바르지 않습니다."),
+    TOO_MANY_EPISODES("한 번에 업로드할 수 있는 에피소드 수를 넘었습니다."),
+    EPISODE_FILE_TOO_LARGE("에피소드 파일 크기가 너무 큽니다."),
+    EPISODE_FILE_SAVE_FAILED("에피소드 파일 저장에 실패했습니다."),
+    IMAGE_NOT_FOUND("일치하는 이미지가 존재하지 않습니다."),
+    THUMBNAIL_JOB_RUNNING("썸네일 재생성이 이미 진행 중입니다."),
     AUTHENTICATION_NOT_MATCHED("인증정보가 일치하지 않습니다."),
     UNAUTHORIZED_USER("사용자에게 권한이 없습니다.");
 
@@ -0,0 +1,34 @@
+package com.example.webtoon.type;
+
+import java.util.Locale;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+// 에피소드 이미지 변환본 형식 (원본 옆에 {원본 이름}.{확장자} 로 저장, 조회 시 Accept 에 맞는 가장 작은 파일 제공)
+@Getter
+@AllArgsConstructor
+public enum ImageFormat {
+
+    AVIF("image/avif", "avif"),
+    WEBP("image/webp", "webp"),
+    JPEG("image/jpeg", "jpg");
+
+    private final String mimeType;
+    private final String extension;
+
+    // ab/cd/abcd.png -> ab/cd/abcd.png.jpg
+    public String variantOf(String fileName) {
+        return fileName + "." + extension;
+    }
+
+    // 변환 대상 원본 (무손실 형식만, GIF 는 애니메이션이 사라지므로 제외)
+    public static boolean isTranscodable(String fileName) {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if (extension == null) {
+            return false;
+        }
+        String lower = extension.toLowerCase(Locale.ROOT);
+        return "png".equals(lower) || "bmp".equals(lower);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.webtoon.type;
+
+public enum OverflowPolicy {
+
+    // 큐가 가득 차면 이벤트 버림
+    DROP,
+
+    // 큐가 가득 차면 같은 (IP, 웹툰) 이벤트를 하나로 합쳐 보관
+    COALESCE
+}
@@ -18,6 +18,9 @@ public enum ResponseCode {
     GET_WEBTOON_BY_DAY_SUCCESS("요일별 웹툰 불러오기 성공"),
     GET_WEBTOON_BY_SEARCH("검색한 웹툰 불러오기 성공"),
     CREATE_NEW_EPISODE("신규 에피소드 등록 성공"),
+    IMPORT_EPISODES_SUCCESS("에피소드 일괄 등록 성공"),
+    UPLOAD_EPISODES_SUCCESS("에피소드 일괄 업로드 완료"),
+    THUMBNAIL_JOB_STARTED("썸네일 재생성 시작"),
     UPDATE_EPISODE_SUCCESS("에피소드 수정 성공"),
     DELETE_EPISODE_SUCCESS("에피소드 삭제 성공"),
     GET_EPISODE_AVG_RAGE_SUCCESS("웹툰 평균 평점 불러오기 성공"),
@@ -0,0 +1,55 @@
+package com.example.webtoon.type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 썸네일 변형 이미지 가로 크기 (원본 옆에 {이름}_w{폭}.{확장자} 로 저장)
+@Getter
+@AllArgsConstructor
+public enum ThumbnailWidth {
+
+    W160(160),
+    W320(320),
+    W640(640);
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("^(.*)_w(\\d+)(\\.[^./]*)?$");
+
+    private final int width;
+
+    // ab/cd/abcd.jpg -> ab/cd/abcd_w320.jpg (파일 이름, URI 모두 가능)
+    public String variantOf(String name) {
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        String suffix = "_w" + width;
+        return dot > slash ? name.substring(0, dot) + suffix + name.substring(dot) : name + suffix;
+    }
+
+    // 폭 -> 변형 이미지 URI (원본 URI 가 없으면 빈 맵)
+    public static Map<Integer, String> variantUris(String uri) {
+        Map<Integer, String> uris = new LinkedHashMap<>();
+        if (uri != null) {
+            for (ThumbnailWidth thumbnailWidth : values()) {
+                uris.put(thumbnailWidth.getWidth(), thumbnailWidth.variantOf(uri));
+            }
+        }
+        return uris;
+    }
+
+    // 변형 이미지 이름이면 원본 이름, 아니면 null
+    public static String originalOf(String name) {
+        Matcher matcher = VARIANT_NAME.matcher(name);
+        if (!matcher.matches()) {
+            return null;
+        }
+        for (ThumbnailWidth thumbnailWidth : values()) {
+            if (String.valueOf(thumbnailWidth.getWidth()).equals(matcher.group(2))) {
+                return matcher.group(1) + (matcher.group(3) == null ? "" : matcher.group(3));
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.webtoon.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.example.webtoon.type.CacheSerializerType;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachePolicyPropertiesTest {
+
+    @Test
+    @DisplayName("캐시별 정책의 빈 항목은 기본값으로 채움")
+    void getPolicy_MergeWithDefaults() {
+
+        // given
+        CachePolicyProperties properties = new CachePolicyProperties();
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setTtl(Duration.ofMinutes(5));
+        policy.setMaxEntries(200L);
+        properties.getPolicies().put("commentListbyUser", policy);
+
+        // when
+        CachePolicyProperties.Policy effective = properties.getPolicy("commentListbyUser");
+
+        // then
+        assertEquals(Duration.ofMinutes(5), effective.getTtl());
+        assertEquals(200L, effective.getMaxEntries());
+        assertEquals(Duration.ofSeconds(60), effective.getLocalTtl());
+        assertEquals(CacheSerializerType.JSON, effective.getSerializer());
+    }
+
+    @Test
+    @DisplayName("정책이 없는 캐시는 기본 정책 사용")
+    void getPolicy_Defaults() {
+
+        // given
+        CachePolicyProperties properties = new CachePolicyProperties();
+
+        // when
+        // then
+        assertSame(properties.getDefaults(), properties.getPolicy("webtoonList"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.webtoon.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.webtoon.dto.ApiResponse;
+import com.example.webtoon.dto.WebtoonDto;
+import com.example.webtoon.type.ResponseCode;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.HttpStatus;
+
+class CacheSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final SmileRedisSerializer smile = new SmileRedisSerializer();
+
+    @Test
+    @DisplayName("Smile 직렬화 후 역직렬화하면 같은 페이지")
+    @SuppressWarnings("unchecked")
+    void smile_RoundTrip() {
+
+        // given
+        ApiResponse<RestPage<WebtoonDto>> value = webtoonPage(10);
+
+        // when
+        byte[] bytes = smile.serialize(value);
+        ApiResponse<RestPage<WebtoonDto>> result =
+            (ApiResponse<RestPage<WebtoonDto>>) smile.deserialize(bytes);
+
+        // then
+        assertTrue(bytes.length < json.serialize(value).length);
+        assertEquals(10, result.getData().getContent().size());
+        assertEquals("title3", result.getData().getContent().get(3).getTitle());
+        assertEquals(100L, result.getData().getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Smile 캐시에 남아 있는 JSON 값도 읽음")
+    @SuppressWarnings("unchecked")
+    void smile_ReadsJson() {
+
+        // given
+        byte[] bytes = json.serialize(webtoonPage(2));
+
+        // when
+        ApiResponse<RestPage<WebtoonDto>> result =
+            (ApiResponse<RestPage<WebtoonDto>>) smile.deserialize(bytes);
+
+        // then
+        assertEquals(2, result.getData().getContent().size());
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상만 압축")
+    @SuppressWarnings("unchecked")
+    void compress_AboveThreshold() {
+
+        // given
+        CompressingRedisSerializer serializer = new CompressingRedisSerializer(smile, 1024);
+        ApiResponse<RestPage<WebtoonDto>> small = webtoonPage(1);
+        ApiResponse<RestPage<WebtoonDto>> large = webtoonPage(100);
+
+        // when
+        byte[] smallBytes = serializer.serialize(small);
+        byte[] largeBytes = serializer.serialize(large);
+
+        // then
+        assertArrayEquals(smile.serialize(small), smallBytes);
+        assertTrue(largeBytes.length < smile.serialize(large).length);
+        assertEquals(100, ((ApiResponse<RestPage<WebtoonDto>>) serializer.deserialize(largeBytes))
+            .getData().getContent().size());
+    }
+
+    private ApiResponse<RestPage<WebtoonDto>> webtoonPage(int size) {
+        List<WebtoonDto> content = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            content.add(new WebtoonDto(i, "title" + i, "artist" + i, "월요일", "드라마"));
+        }
+        return new ApiResponse<>(HttpStatus.OK, ResponseCode.GET_WEBTOON_BY_DAY_SUCCESS,
+            new RestPage<>(content, 0, size, 100));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.webtoon.config;
+
+import java.util.List;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// DataSource 를 datasource-proxy 로 감싸 실행된 SQL 문 개수, DB 왕복 횟수를 센다 (스레드별 집계)
+@TestConfiguration
+public class QueryCountConfig {
+
+    private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                        .name("query-count")
+                        .listener(new CountingListener())
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static void reset() {
+        COUNTS.remove();
+    }
+
+    // reset 이후 실행된 select/insert/update/delete 등 전체 SQL 문 개수 (batch 는 묶인 문장 수만큼)
+    public static long statementCount() {
+        return COUNTS.get().statements;
+    }
+
+    public static long selectCount() {
+        return COUNTS.get().selects;
+    }
+
+    // reset 이후 DB 왕복 횟수 (batch 실행은 묶인 문장 수와 관계없이 1번)
+    public static long roundTripCount() {
+        return COUNTS.get().roundTrips;
+    }
+
+    static class Counts {
+
+        private long statements;
+        private long selects;
+        private long roundTrips;
+    }
+
+    static class CountingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Counts counts = COUNTS.get();
+            counts.roundTrips++;
+            for (QueryInfo queryInfo : queryInfoList) {
+                int statements = Math.max(1, queryInfo.getParametersList().size());
+                counts.statements += statements;
+                if (QueryUtils.getQueryType(queryInfo.getQuery()) == QueryType.SELECT) {
+                    counts.selects += statements;
+                }
+            }
+        }
+    }
+}
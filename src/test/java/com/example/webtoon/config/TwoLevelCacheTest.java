@@ -0,0 +1,197 @@
+package com.example.webtoon.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TwoLevelCacheTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        cacheManager = new TwoLevelCacheManager(
+            remoteCacheManager, redisTemplate, meterRegistry, new CachePolicyProperties());
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 적재")
+    void get_PromoteToLocal() {
+
+        // given
+        remoteCacheManager.getCache("webtoonList").put("MON", "value");
+        Cache cache = cacheManager.getCache("webtoonList");
+
+        // when
+        cache.get("MON");
+        remoteCacheManager.getCache("webtoonList").evict("MON");
+
+        // then
+        assertEquals("value", cache.get("MON").get());
+        assertEquals(1.0, meterRegistry.get("cache.tier.requests")
+            .tag("tier", "l1").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("evict 시 L1, L2 모두 비우고 무효화 메시지 발행")
+    void evict_PublishInvalidation() {
+
+        // given
+        Cache cache = cacheManager.getCache("commentList");
+        cache.put("1", "value");
+
+        // when
+        cache.evict("1");
+
+        // then
+        assertNull(cache.get("1"));
+        verify(redisTemplate, times(1))
+            .convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 L1 만 비움")
+    void onMessage_EvictLocal() {
+
+        // given
+        Cache cache = cacheManager.getCache("commentList");
+        cache.put("1", "value");
+        remoteCacheManager.getCache("commentList").evict("1");
+
+        String body = String.join("\n", "other-instance", "commentList", "E", "1");
+
+        // when
+        cacheManager.onMessage(
+            new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertNull(cache.get("1"));
+    }
+
+    @Test
+    @DisplayName("family 삭제 시 해당 family 의 페이지만 삭제")
+    @SuppressWarnings("unchecked")
+    void evictFamily_OnlyMatchingKeys() {
+
+        // given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop("cache-index::commentList::episode:1", Integer.MAX_VALUE))
+            .willReturn(Arrays.asList("episode:1:page:0", "episode:1:page:1"));
+
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("commentList");
+        cache.put("episode:1:page:0", "a");
+        cache.put("episode:1:page:1", "b");
+        cache.put("episode:2:page:0", "c");
+
+        // when
+        cache.evictFamily("episode:1");
+
+        // then
+        assertNull(cache.get("episode:1:page:0"));
+        assertNull(cache.get("episode:1:page:1"));
+        assertEquals("c", cache.get("episode:2:page:0").get());
+        verify(setOperations, times(3)).add(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 로드하면 한 번만 계산")
+    void getWithLoader_SingleFlight() throws Exception {
+
+        // given
+        Cache cache = cacheManager.getCache("webtoonList");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = executor.submit(() -> cache.get("MON", () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "value";
+        }));
+        loading.await();
+        Future<String> second = executor.submit(() -> cache.get("MON", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+
+        // then
+        assertEquals("value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("재계산 중에는 무효화 직전 값으로 응답")
+    void getWithLoader_StaleWhileRevalidate() throws Exception {
+
+        // given
+        CachePolicyProperties properties = new CachePolicyProperties();
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setStaleTtl(Duration.ofMinutes(1));
+        properties.getPolicies().put("webtoonList", policy);
+        cacheManager = new TwoLevelCacheManager(
+            remoteCacheManager, redisTemplate, meterRegistry, properties);
+
+        Cache cache = cacheManager.getCache("webtoonList");
+        cache.put("MON", "old");
+        cache.evict("MON");
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<String> refresh = executor.submit(() -> cache.get("MON", () -> {
+            loading.countDown();
+            release.await();
+            return "new";
+        }));
+        loading.await();
+        String duringRefresh = cache.get("MON", () -> "other");
+        release.countDown();
+
+        // then
+        assertEquals("old", duringRefresh);
+        assertEquals("new", refresh.get(5, TimeUnit.SECONDS));
+        assertEquals("new", cache.get("MON").get());
+        assertEquals(1.0, meterRegistry.get("cache.loads")
+            .tag("cache", "webtoonList").tag("result", "stale").counter().count());
+        executor.shutdown();
+    }
+}
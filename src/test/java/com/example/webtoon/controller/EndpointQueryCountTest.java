@@ -0,0 +1,632 @@
+package com.example.webtoon.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.webtoon.config.QueryCountConfig;
+import com.example.webtoon.entity.Comment;
+import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
+import com.example.webtoon.entity.Favorite;
+import com.example.webtoon.entity.Rate;
+import com.example.webtoon.entity.User;
+import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.CommentRepository;
+import com.example.webtoon.repository.EpisodeRepository;
+import com.example.webtoon.repository.FavRepository;
+import com.example.webtoon.repository.RateRepository;
+import com.example.webtoon.repository.UserRepository;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.repository.WebtoonSearchRepository;
+import com.example.webtoon.security.JwtTokenProvider;
+import com.example.webtoon.security.UserPrincipal;
+import com.example.webtoon.service.FileService;
+import com.example.webtoon.type.RoleName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+// 모든 컨트롤러 엔드포인트의 요청당 SQL 문 개수, DB 왕복 횟수 상한 검사
+// 캐시는 끄고 (항상 DB 경로) 인증 필터의 회원 조회까지 포함해 요청 1번 기준으로 센다
+@Slf4j
+@SpringBootTest(properties = {
+    "file.upload.location=build/query-count/webtoons",
+    "view.dedup.snapshot-path=",
+    "view.queue.workers=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@Import(QueryCountConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryCountTest {
+
+    private static final Path REPORT_PATH = Paths.get("build/reports/query-count/endpoints.md");
+
+    // 목록 조회가 COUNT 까지 실행되도록 한 페이지(10개)보다 많이 준비
+    private static final int ROWS = 12;
+
+    // 일괄 등록 건수 (id 는 50개 단위로 미리 확보되어 있어 id_sequence 조회 없이 batch 1번)
+    private static final int IMPORT_ROWS = 20;
+    private static final int UPLOAD_ROWS = 5;
+
+    private final List<Measurement> measurements = new ArrayList<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WebtoonRepository webtoonRepository;
+    @Autowired
+    private EpisodeRepository episodeRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private RateRepository rateRepository;
+    @Autowired
+    private FavRepository favRepository;
+    @Autowired
+    private FileService fileService;
+    @MockBean
+    private WebtoonSearchRepository webtoonSearchRepository;
+    @MockBean(name = "cacheInvalidationListenerContainer")
+    private RedisMessageListenerContainer cacheInvalidationListenerContainer;
+
+    private User reader;
+    private String readerToken;
+    private String adminToken;
+    private Webtoon webtoon;
+    private List<Episode> episodes;
+
+    @TestConfiguration
+    static class NoCacheConfig {
+
+        @Bean
+        @Primary
+        public CacheManager noOpCacheManager() {
+            return new NoOpCacheManager();
+        }
+    }
+
+    // 웹툰 1개 + 에피소드 12개, 독자 1명이 첫 에피소드에 댓글 12개, 에피소드마다 평점, 웹툰 12개 선호
+    @BeforeAll
+    void setUp() throws IOException {
+        Files.createDirectories(Paths.get("build/query-count/webtoons"));
+
+        reader = saveUser("reader", RoleName.ROLE_USER);
+        readerToken = token(reader);
+        adminToken = token(saveUser("admin", RoleName.ROLE_ADMIN));
+
+        webtoon = saveWebtoon("월요일");
+        episodes = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Episode episode = saveEpisode(webtoon);
+            episodes.add(episode);
+            saveComment(episodes.get(0), reader);
+
+            Rate rate = new Rate(5);
+            rate.setEpisode(episode);
+            rate.setUser(reader);
+            rateRepository.save(rate);
+
+            favRepository.save(Favorite.builder()
+                .webtoon(i == 0 ? webtoon : saveWebtoon("화요일"))
+                .user(reader)
+                .build());
+        }
+    }
+
+    @AfterAll
+    void writeReport() throws IOException {
+        measurements.sort(Comparator.comparing(measurement -> measurement.endpoint));
+
+        StringBuilder report = new StringBuilder()
+            .append("| Endpoint | Statements | Budget | Round trips | Budget |\n")
+            .append("|---|---:|---:|---:|---:|\n");
+        for (Measurement measurement : measurements) {
+            report.append(String.format("| %s | %d | %d | %d | %d |%s%n",
+                measurement.endpoint, measurement.statements, measurement.maxStatements,
+                measurement.roundTrips, measurement.maxRoundTrips,
+                measurement.isOverBudget() ? " OVER" : ""));
+        }
+
+        Files.createDirectories(REPORT_PATH.getParent());
+        Files.write(REPORT_PATH, report.toString().getBytes(StandardCharsets.UTF_8));
+        log.info("endpoint query count report ({}):\n{}", REPORT_PATH, report);
+    }
+
+    // AuthController
+
+    @Test
+    @DisplayName("회원가입 - 이메일/닉네임 중복 확인 + 저장")
+    void signUp() throws Exception {
+        expect("POST /api/signup", 3, post("/api/signup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"new@test.com\",\"username\":\"new\","
+                + "\"password\":\"password\",\"nickname\":\"newbie\"}"));
+    }
+
+    @Test
+    @DisplayName("로그인 - 이메일 조회 + 인증 시 회원 조회")
+    void signIn() throws Exception {
+        expect("POST /api/signin", 2, post("/api/signin")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + reader.getEmail() + "\",\"password\":\"password\"}"));
+    }
+
+    // UserController
+
+    @Test
+    @DisplayName("본인 정보 조회 - 인증 필터의 회원 조회만")
+    void getMyInfo() throws Exception {
+        expect("GET /api/user/my", 1, authorized(get("/api/user/my"), readerToken));
+    }
+
+    @Test
+    @DisplayName("회원 정보 조회 (관리자)")
+    void getUserInfo() throws Exception {
+        expect("GET /api/admin/user/{nickname}", 2,
+            authorized(get("/api/admin/user/" + reader.getNickname()), adminToken));
+    }
+
+    @Test
+    @DisplayName("평점 부여한 에피소드 목록 - 내용 + COUNT")
+    void getEpisodeRatedByUser() throws Exception {
+        expect("GET /api/user/webtoon/rated", 3,
+            authorized(get("/api/user/webtoon/rated"), readerToken));
+    }
+
+    @Test
+    @DisplayName("평점 부여한 에피소드 커서 조회")
+    void getEpisodeRatedByUserAfter() throws Exception {
+        expect("GET /api/user/webtoon/rated?after", 2,
+            authorized(get("/api/user/webtoon/rated").param("after", ""), readerToken));
+    }
+
+    @Test
+    @DisplayName("작성한 댓글 목록 - 내용 + 처음 한 번 COUNT")
+    void getCommentsByUser() throws Exception {
+        expect("GET /api/user/comments", 3, authorized(get("/api/user/comments"), readerToken));
+    }
+
+    @Test
+    @DisplayName("작성한 댓글 커서 조회")
+    void getCommentsByUserAfter() throws Exception {
+        expect("GET /api/user/comments?after", 2,
+            authorized(get("/api/user/comments").param("after", ""), readerToken));
+    }
+
+    @Test
+    @DisplayName("선호 작품 목록 - 내용 + COUNT")
+    void getFavWebtoonList() throws Exception {
+        expect("GET /api/user/fav-webtoon", 3, authorized(get("/api/user/fav-webtoon"), readerToken));
+    }
+
+    @Test
+    @DisplayName("선호 작품 커서 조회")
+    void getFavWebtoonListAfter() throws Exception {
+        expect("GET /api/user/fav-webtoon?after", 2,
+            authorized(get("/api/user/fav-webtoon").param("after", ""), readerToken));
+    }
+
+    // CommentController
+
+    @Test
+    @DisplayName("댓글 작성 - 에피소드, 회원 조회 + 저장")
+    void createComment() throws Exception {
+        expect("POST /api/comment/{episodeId}", 4,
+            authorized(post("/api/comment/" + episodes.get(1).getEpisodeId()), readerToken)
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("새 댓글"));
+    }
+
+    @Test
+    @DisplayName("에피소드 댓글 목록 - 내용 + 처음 한 번 COUNT")
+    void getCommentList() throws Exception {
+        expect("GET /api/comment/{episodeId}", 3,
+            authorized(get("/api/comment/" + episodes.get(0).getEpisodeId()), readerToken));
+    }
+
+    @Test
+    @DisplayName("에피소드 댓글 커서 조회")
+    void getCommentListAfter() throws Exception {
+        expect("GET /api/comment/{episodeId}?after", 2,
+            authorized(get("/api/comment/" + episodes.get(0).getEpisodeId()).param("after", ""),
+                readerToken));
+    }
+
+    @Test
+    @DisplayName("댓글 수정 - 댓글 + 에피소드/작성자 (EAGER) 조회 + 수정")
+    void updateComment() throws Exception {
+        Comment comment = saveComment(episodes.get(2), reader);
+
+        expect("PUT /api/comment/{commentId}", 5,
+            authorized(put("/api/comment/" + comment.getCommentId()), readerToken)
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("수정한 댓글"));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 댓글 조회, 작성자 확인, 삭제 대상 조회 + 삭제")
+    void deleteComment() throws Exception {
+        Comment comment = saveComment(episodes.get(2), reader);
+
+        expect("DELETE /api/comment/{commentId}", 5,
+            authorized(delete("/api/comment/" + comment.getCommentId()), readerToken));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 (관리자) - 댓글 조회 + 삭제")
+    void deleteCommentByAdmin() throws Exception {
+        Comment comment = saveComment(episodes.get(2), reader);
+
+        expect("DELETE /api/admin/comment/{commentId}", 3,
+            authorized(delete("/api/admin/comment/" + comment.getCommentId()), adminToken));
+    }
+
+    // FavController
+
+    @Test
+    @DisplayName("선호 작품 등록 - 웹툰, 회원 조회, 중복 확인 + 저장")
+    void addFavWebtoon() throws Exception {
+        Webtoon newWebtoon = saveWebtoon("수요일");
+
+        expect("POST /api/fav-webtoon/{webtoonId}", 5,
+            authorized(post("/api/fav-webtoon/" + newWebtoon.getWebtoonId()), readerToken));
+    }
+
+    @Test
+    @DisplayName("선호 작품 삭제 - 존재 확인, 삭제 대상 + 웹툰/회원 (EAGER) 조회 + 삭제")
+    void deleteFavWebtoon() throws Exception {
+        Webtoon newWebtoon = saveWebtoon("목요일");
+        favRepository.save(Favorite.builder().webtoon(newWebtoon).user(reader).build());
+
+        expect("DELETE /api/fav-webtoon/{webtoonId}", 6,
+            authorized(delete("/api/fav-webtoon/" + newWebtoon.getWebtoonId()), readerToken));
+    }
+
+    // RateController
+
+    @Test
+    @DisplayName("평점 등록 - 중복 확인, 에피소드/회원 조회, 저장 + 에피소드/웹툰 합계 갱신")
+    void addRate() throws Exception {
+        Episode episode = saveEpisode(webtoon);
+
+        expect("POST /api/rate/{episodeId}", 7,
+            authorized(post("/api/rate/" + episode.getEpisodeId()), readerToken)
+                .param("userRate", "4"));
+    }
+
+    @Test
+    @DisplayName("평점 수정 - 평점 + 에피소드/회원 (EAGER) 조회, 수정 + 합계 갱신")
+    void updateRate() throws Exception {
+        expect("PUT /api/rate/{episodeId}", 7,
+            authorized(put("/api/rate/" + episodes.get(3).getEpisodeId()), readerToken)
+                .param("userRate", "3"));
+    }
+
+    @Test
+    @DisplayName("평점 삭제 - 평점 조회, 삭제 대상 조회 + 삭제, 합계 갱신")
+    void deleteRate() throws Exception {
+        Episode episode = saveEpisode(webtoon);
+        Rate rate = new Rate(2);
+        rate.setEpisode(episode);
+        rate.setUser(reader);
+        rateRepository.save(rate);
+
+        expect("DELETE /api/rate/{episodeId}", 8,
+            authorized(delete("/api/rate/" + episode.getEpisodeId()), readerToken));
+    }
+
+    @Test
+    @DisplayName("웹툰 평점 평균")
+    void getWebtoonAvgRate() throws Exception {
+        expect("GET /api/webtoon-rate/{webtoonId}", 2,
+            authorized(get("/api/webtoon-rate/" + webtoon.getWebtoonId()), readerToken));
+    }
+
+    @Test
+    @DisplayName("에피소드 평점 평균")
+    void getEpisodeAvgRate() throws Exception {
+        expect("GET /api/episode-rate/{episodeId}", 2,
+            authorized(get("/api/episode-rate/" + episodes.get(0).getEpisodeId()), readerToken));
+    }
+
+    // WebtoonController
+
+    @Test
+    @DisplayName("웹툰 등록 - 제목 중복 확인 + 저장 + 썸네일 참조 증가")
+    void addWebtoon() throws Exception {
+        expect("POST /api/webtoon", 4,
+            authorized(multipart("/api/webtoon").file(image("file")), adminToken)
+                .param("title", "새 웹툰")
+                .param("artist", "작가")
+                .param("day", "금요일")
+                .param("genre", "장르"));
+    }
+
+    @Test
+    @DisplayName("웹툰 수정 - 웹툰 조회 + 수정 + 썸네일 참조 증가")
+    void updateWebtoon() throws Exception {
+        Webtoon saved = saveWebtoon("금요일");
+
+        expect("PUT /api/webtoon/{webtoonId}", 4,
+            authorized(multipart("/api/webtoon/" + saved.getWebtoonId())
+                .file(image("file")), adminToken)
+                .param("title", "수정한 웹툰")
+                .param("artist", "작가")
+                .param("day", "토요일")
+                .param("genre", "장르")
+                .with(request -> {
+                    request.setMethod("PUT");
+                    return request;
+                }));
+    }
+
+    @Test
+    @DisplayName("웹툰 삭제 - 웹툰 + 에피소드 컬렉션 (파일 이름, cascade) 조회 + 삭제")
+    void deleteWebtoon() throws Exception {
+        Webtoon saved = saveWebtoon("일요일");
+
+        expect("DELETE /api/webtoon/{webtoonId}", 4,
+            authorized(delete("/api/webtoon/" + saved.getWebtoonId()), adminToken));
+    }
+
+    @Test
+    @DisplayName("에피소드 등록 - 제목 중복 확인, 웹툰 조회 + 저장 (파일 2개 참조 증가는 I/O 스레드에서)")
+    void addEpisode() throws Exception {
+        expect("POST /api/episode/{webtoonId}", 6,
+            authorized(multipart("/api/episode/" + webtoon.getWebtoonId())
+                .file(image("epFile"))
+                .file(image("thFile")), adminToken)
+                .param("title", "새 에피소드"));
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 - 웹툰 존재 확인, 제목 중복 확인, 웹툰 조회 + 저장 + 파일 2개 참조 증가")
+    void streamEpisode() throws Exception {
+        String boundary = "episode-boundary";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"title\"\r\n\r\n"
+            + "스트리밍 에피소드\r\n").getBytes(StandardCharsets.UTF_8));
+        for (String name : new String[]{"epFile", "thFile"}) {
+            body.write(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name
+                + "\"; filename=\"" + name + ".jpg\"\r\nContent-Type: image/jpeg\r\n\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+            body.write(new byte[]{1, 2, 3});
+            body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        expect("POST /api/episode/{webtoonId}/stream", 7,
+            authorized(post("/api/episode/" + webtoon.getWebtoonId() + "/stream"), adminToken)
+                .contentType("multipart/form-data; boundary=" + boundary)
+                .content(body.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 - 웹툰 조회, 제목 중복 확인 1번 + 파일마다 참조 증가 + batch INSERT 1번")
+    void importEpisodes() throws Exception {
+        String epFileName = fileService.store(new ByteArrayInputStream(new byte[]{1, 2, 3}), "ep.jpg");
+        String thFileName = fileService.store(new ByteArrayInputStream(new byte[]{4, 5, 6}), "th.jpg");
+        StringBuilder episodesJson = new StringBuilder("[");
+        for (int i = 0; i < IMPORT_ROWS; i++) {
+            episodesJson.append(i == 0 ? "" : ",").append(String.format("{\"title\":\"일괄 %d화\","
+                + "\"epFileName\":\"%s\",\"thFileName\":\"%s\"}", i, epFileName, thFileName));
+        }
+
+        expect("POST /api/episode/{webtoonId}/import", 3 + IMPORT_ROWS + 2, 6,
+            authorized(post("/api/episode/" + webtoon.getWebtoonId() + "/import"), adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(episodesJson.append("]").toString()));
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 업로드 - 웹툰 존재 확인, 웹툰 조회, 제목 중복 확인 1번 + batch INSERT 1번")
+    void uploadEpisodes() throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < UPLOAD_ROWS; i++) {
+                for (String entry : new String[]{"episode", "thumbnail"}) {
+                    zip.putNextEntry(new ZipEntry("업로드 " + i + "화/" + entry + ".jpg"));
+                    zip.write(new byte[]{1, 2, 3});
+                    zip.closeEntry();
+                }
+            }
+        }
+
+        expect("POST /api/episode/{webtoonId}/bulk", 4 + UPLOAD_ROWS, 5,
+            authorized(post("/api/episode/" + webtoon.getWebtoonId() + "/bulk"), adminToken)
+                .contentType("application/zip")
+                .content(archive.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("에피소드 수정 - 에피소드 조회 + 수정 (새 파일 참조 증가, 커밋 후 이전 파일 참조 감소는 I/O 스레드에서)")
+    void updateEpisode() throws Exception {
+        Episode episode = saveEpisode(webtoon);
+
+        expect("PUT /api/episode/{episodeId}", 7,
+            authorized(multipart("/api/episode/" + episode.getEpisodeId())
+                .file(image("epFile"))
+                .file(image("thFile")), adminToken)
+                .param("title", "수정한 에피소드")
+                .with(request -> {
+                    request.setMethod("PUT");
+                    return request;
+                }));
+    }
+
+    @Test
+    @DisplayName("에피소드 삭제 - 에피소드 조회 + 삭제 + 파일 2개 참조 감소")
+    void deleteEpisode() throws Exception {
+        Episode episode = saveEpisode(webtoon);
+
+        expect("DELETE /api/episode/{episodeId}", 5,
+            authorized(delete("/api/episode/" + episode.getEpisodeId()), adminToken));
+    }
+
+    @Test
+    @DisplayName("웹툰 에피소드 목록 - 웹툰 존재 확인 (순위 색인 적재 전에만) + 내용 + 처음 한 번 COUNT")
+    void getWebtoonEpisodes() throws Exception {
+        expect("GET /api/webtoon/episodes/{webtoonId}", 4,
+            authorized(get("/api/webtoon/episodes/" + webtoon.getWebtoonId()), readerToken));
+    }
+
+    @Test
+    @DisplayName("웹툰 에피소드 커서 조회 - 웹툰 존재 확인 (순위 색인 적재 전에만) + 내용")
+    void getWebtoonEpisodesAfter() throws Exception {
+        expect("GET /api/webtoon/episodes/{webtoonId}?after", 3,
+            authorized(get("/api/webtoon/episodes/" + webtoon.getWebtoonId()).param("after", ""),
+                readerToken));
+    }
+
+    @Test
+    @DisplayName("요일별 웹툰 목록 - 순위 인덱스 (처음 한 번 전체 적재)")
+    void getWebtoonByDay() throws Exception {
+        expect("GET /api/webtoon", 2, authorized(get("/api/webtoon"), readerToken)
+            .param("day", "MON")
+            .param("sortType", "NEW"));
+    }
+
+    @Test
+    @DisplayName("웹툰 검색 - Elasticsearch 만 조회")
+    void searchWebtoons() throws Exception {
+        given(webtoonSearchRepository.findByTitleOrArtistOrGenre(
+            anyString(), anyString(), anyString(), any())).willReturn(Page.empty());
+
+        expect("GET /api/webtoon-search", 1, authorized(get("/api/webtoon-search"), readerToken)
+            .param("keyword", "웹툰"));
+    }
+
+    // 요청 1번을 실행해 SQL 문 개수와 DB 왕복 횟수를 기록하고 상한과 비교 (batch 가 없으면 둘이 같음)
+    private void expect(String endpoint, int maxStatements, MockHttpServletRequestBuilder request)
+        throws Exception {
+        expect(endpoint, maxStatements, maxStatements, request);
+    }
+
+    private void expect(String endpoint, int maxStatements, int maxRoundTrips,
+                        MockHttpServletRequestBuilder request) throws Exception {
+        QueryCountConfig.reset();
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        Measurement measurement = new Measurement(endpoint,
+            QueryCountConfig.statementCount(), maxStatements,
+            QueryCountConfig.roundTripCount(), maxRoundTrips);
+        measurements.add(measurement);
+
+        assertTrue(measurement.statements <= maxStatements, () -> String.format(
+            "%s executed %d statements (budget %d)", endpoint, measurement.statements, maxStatements));
+        assertTrue(measurement.roundTrips <= maxRoundTrips, () -> String.format(
+            "%s made %d round trips (budget %d)", endpoint, measurement.roundTrips, maxRoundTrips));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String token) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    private String token(User user) {
+        UserPrincipal principal = UserPrincipal.create(user);
+        return jwtTokenProvider.generateToken(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private MockMultipartFile image(String name) {
+        return new MockMultipartFile(name, name + ".jpg", MediaType.IMAGE_JPEG_VALUE,
+            new byte[]{1, 2, 3});
+    }
+
+    private User saveUser(String name, RoleName role) {
+        User user = new User(name + "@test.com", name, passwordEncoder.encode("password"), name);
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Webtoon saveWebtoon(String day) {
+        int n = sequence.incrementAndGet();
+        Webtoon saved = new Webtoon("웹툰 " + n, "작가 " + n, day, "장르");
+        saved.setViewCount(0L);
+        return webtoonRepository.save(saved);
+    }
+
+    private Episode saveEpisode(Webtoon parent) {
+        int n = sequence.incrementAndGet();
+        return episodeRepository.save(Episode.builder()
+            .title("에피소드 " + n)
+            .webtoon(parent)
+            .episodeFile(new EpisodeFile("ep" + n, "/webtoons/ep" + n))
+            .episodeThumbnail(new EpisodeThumbnail("th" + n, "/webtoons/th" + n))
+            .build());
+    }
+
+    private Comment saveComment(Episode episode, User user) {
+        Comment comment = new Comment("댓글 " + sequence.incrementAndGet());
+        comment.setEpisode(episode);
+        comment.setUser(user);
+        return commentRepository.save(comment);
+    }
+
+    @AllArgsConstructor
+    private static class Measurement {
+
+        private final String endpoint;
+        private final long statements;
+        private final int maxStatements;
+        private final long roundTrips;
+        private final int maxRoundTrips;
+
+        boolean isOverBudget() {
+            return statements > maxStatements || roundTrips > maxRoundTrips;
+        }
+    }
+}
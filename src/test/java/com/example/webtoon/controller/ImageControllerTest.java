@@ -0,0 +1,269 @@
+package com.example.webtoon.controller;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.webtoon.config.SecurityConfig;
+import com.example.webtoon.service.FileService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ExtendWith(MockitoExtension.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@WebMvcTest(controllers = ImageController.class, excludeFilters = {
+    @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)
+})
+class ImageControllerTest {
+
+    private static final String DIGEST = "ab" + "cd" + "0".repeat(60);
+    private static final String FILE_NAME = "ab/cd/" + DIGEST + ".jpg";
+    private static final String CONTENT = "0123456789";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private FileService fileService;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.write(dir.resolve(DIGEST + ".jpg"), CONTENT.getBytes(StandardCharsets.UTF_8));
+        given(fileService.resolve(FILE_NAME)).willReturn(file);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 조회 성공 - 내용 해시 ETag, 변하지 않는 자원 캐싱")
+    void getImageSuccess() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + FILE_NAME))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + "\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+            .andExpect(content().contentType("image/jpeg"))
+            .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 구간 조회 - 206")
+    void getImageRange() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + FILE_NAME).header(HttpHeaders.RANGE, "bytes=2-5"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+            .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 구간 조회 - If-Range 가 다르면 전체 전송")
+    void getImageRange_IfRangeMismatch() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + FILE_NAME)
+                .header(HttpHeaders.RANGE, "bytes=2-5")
+                .header(HttpHeaders.IF_RANGE, "\"other\""))
+            .andExpect(status().isOk())
+            .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 구간 조회 실패 - 파일 크기를 벗어난 구간 416")
+    void getImageRange_NotSatisfiable() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + FILE_NAME).header(HttpHeaders.RANGE, "bytes=20-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 조회 - ETag 가 같으면 304")
+    void getImage_NotModified() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + FILE_NAME).header(HttpHeaders.IF_NONE_MATCH, "\"" + DIGEST + "\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("썸네일 변형 이미지 조회 - 생성 전이면 원본으로 대신 응답하고 재검증")
+    void getThumbnailVariant_Fallback() throws Exception {
+        // given
+        String variant = "ab/cd/" + DIGEST + "_w160.jpg";
+        given(fileService.resolve(variant)).willReturn(null);
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + variant))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("썸네일 변형 이미지 조회 - 내용 해시 파일의 변형은 변하지 않는 자원으로 캐싱")
+    void getThumbnailVariant() throws Exception {
+        // given
+        String variant = "ab/cd/" + DIGEST + "_w160.jpg";
+        given(fileService.resolve(variant))
+            .willReturn(Files.write(dir.resolve(DIGEST + "_w160.jpg"), new byte[]{1, 2, 3}));
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + variant))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 3));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("PNG 원본 조회 - Accept 에 맞는 더 작은 변환본으로 응답")
+    void getImage_NegotiatedVariant() throws Exception {
+        // given
+        String png = "ab/cd/" + DIGEST + ".png";
+        given(fileService.resolve(png))
+            .willReturn(Files.write(dir.resolve(DIGEST + ".png"), new byte[100]));
+        given(fileService.resolve(png + ".webp"))
+            .willReturn(Files.write(dir.resolve(DIGEST + ".png.webp"), new byte[40]));
+        given(fileService.resolve(png + ".jpg"))
+            .willReturn(Files.write(dir.resolve(DIGEST + ".png.jpg"), new byte[60]));
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + png).header(HttpHeaders.ACCEPT, "image/webp,image/*;q=0.8,*/*;q=0.5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + ".webp\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 40))
+            .andExpect(content().contentType("image/webp"));
+
+        mockMvc.perform(get("/webtoons/" + png).header(HttpHeaders.ACCEPT, "image/webp;q=0,image/jpeg"))
+            .andExpect(status().isOk())
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 60))
+            .andExpect(content().contentType("image/jpeg"));
+
+        mockMvc.perform(get("/webtoons/" + png).header(HttpHeaders.ACCEPT, "image/png"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + "\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+            .andExpect(content().contentType("image/png"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("PNG 원본 조회 - 변환본이 아직 없으면 원본을 보내되 재검증하도록 캐싱")
+    void getImage_UntranscodedOriginal() throws Exception {
+        // given
+        String png = "ab/cd/" + DIGEST + ".png";
+        given(fileService.resolve(png))
+            .willReturn(Files.write(dir.resolve(DIGEST + ".png"), new byte[100]));
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + png).header(HttpHeaders.ACCEPT, "image/webp,image/*;q=0.8"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + "\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+            .andExpect(content().contentType("image/png"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 조회 - 이 서버에 사본이 없으면 저장소 주소로 리다이렉트")
+    void getImage_RedirectToStorage() throws Exception {
+        // given
+        String variant = "ab/cd/" + DIGEST + "_w160.jpg";
+        String url = "https://cdn.example.com/webtoons/" + FILE_NAME;
+        given(fileService.resolve(anyString())).willReturn(null);
+        given(fileService.directUrl(FILE_NAME)).willReturn(url);
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + variant))
+            .andExpect(status().isFound())
+            .andExpect(redirectedUrl(url))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 조회 - 저장소가 직접 주소를 주면 이 서버에 사본이 있어도 고른 변환본 주소로 리다이렉트")
+    void getImage_AlwaysRedirectToStorage() throws Exception {
+        // given
+        String png = "ab/cd/" + DIGEST + ".png";
+        String url = "https://cdn.example.com/webtoons/" + png + ".webp";
+        given(fileService.resolve(png))
+            .willReturn(Files.write(dir.resolve(DIGEST + ".png"), new byte[100]));
+        given(fileService.resolve(png + ".webp"))
+            .willReturn(Files.write(dir.resolve(DIGEST + ".png.webp"), new byte[40]));
+        given(fileService.storageUrl(png + ".webp")).willReturn(url);
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/" + png).header(HttpHeaders.ACCEPT, "image/webp"))
+            .andExpect(status().isFound())
+            .andExpect(redirectedUrl(url))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("이미지 조회 실패 - 없는 파일")
+    void getImageFailed_NotFound() throws Exception {
+        // given
+        given(fileService.resolve(anyString())).willReturn(null);
+
+        // when
+        // then
+        mockMvc.perform(get("/webtoons/ab/cd/missing.jpg"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.webtoon.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.webtoon.config.QueryCountConfig;
+import com.example.webtoon.dto.CommentDto;
+import com.example.webtoon.entity.Comment;
+import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
+import com.example.webtoon.entity.Favorite;
+import com.example.webtoon.entity.Rate;
+import com.example.webtoon.entity.User;
+import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.projection.CommentView;
+import com.example.webtoon.repository.projection.EpisodeView;
+import com.example.webtoon.repository.projection.FavoriteWebtoonView;
+import com.example.webtoon.repository.projection.RatedEpisodeView;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryCountConfig.class)
+class ProjectionQueryCountTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EpisodeRepository episodeRepository;
+    @Autowired
+    private WebtoonRepository webtoonRepository;
+    @Autowired
+    private RateRepository rateRepository;
+    @Autowired
+    private FavRepository favRepository;
+
+    private Webtoon webtoon;
+    private Episode episode;
+    private User reader;
+
+    // 웹툰 1개, 에피소드 10개, 서로 다른 작성자의 댓글 10개, 한 유저의 평점/선호작품 10개
+    @BeforeEach
+    void setUp() {
+        webtoon = entityManager.persist(new Webtoon("테스트 웹툰", "테스트 작가", "월요일", "테스트 장르"));
+        reader = entityManager.persist(new User("reader@test.com", "reader", "password", "reader"));
+
+        for (int i = 0; i < ROWS; i++) {
+            Episode saved = entityManager.persist(Episode.builder()
+                .title("에피소드 " + i)
+                .webtoon(webtoon)
+                .episodeFile(new EpisodeFile("ep" + i, "/files/ep" + i))
+                .episodeThumbnail(new EpisodeThumbnail("th" + i, "/files/th" + i))
+                .build());
+            if (episode == null) {
+                episode = saved;
+            }
+
+            User writer = entityManager.persist(
+                new User("writer" + i + "@test.com", "writer" + i, "password", "writer" + i));
+            Comment comment = new Comment("댓글 " + i);
+            comment.setEpisode(episode);
+            comment.setUser(writer);
+            entityManager.persist(comment);
+
+            Rate rate = new Rate(5);
+            rate.setEpisode(saved);
+            rate.setUser(reader);
+            entityManager.persist(rate);
+
+            Webtoon favWebtoon = i == 0 ? webtoon : entityManager.persist(
+                new Webtoon("선호 웹툰 " + i, "작가 " + i, "화요일", "장르"));
+            entityManager.persist(Favorite.builder().webtoon(favWebtoon).user(reader).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        QueryCountConfig.reset();
+    }
+
+    @Test
+    @DisplayName("에피소드 댓글 목록 - 작성자/에피소드 로딩 없이 쿼리 1번")
+    void commentsByEpisode_SingleStatement() {
+
+        // when
+        Slice<CommentView> comments =
+            commentRepository.findAllByEpisode_EpisodeId(episode.getEpisodeId(), PageRequest.of(0, ROWS));
+        List<CommentDto> dtos = comments.map(CommentDto::from).getContent();
+
+        // then
+        assertEquals(ROWS, dtos.size());
+        assertEquals(1, QueryCountConfig.statementCount());
+    }
+
+    @Test
+    @DisplayName("비교 - 댓글 엔티티 조회 시 EAGER 연관관계로 행마다 추가 쿼리")
+    void commentEntities_NPlusOne() {
+
+        // when
+        List<Comment> comments = commentRepository.findAll().stream()
+            .filter(comment -> comment.getEpisode().getEpisodeId().equals(episode.getEpisodeId()))
+            .collect(Collectors.toList());
+
+        // then
+        assertEquals(ROWS, comments.size());
+        assertTrue(QueryCountConfig.statementCount() > ROWS);
+    }
+
+    @Test
+    @DisplayName("유저 댓글 목록 / 커서 조회 - 쿼리 1번")
+    void commentsByUser_SingleStatement() {
+
+        // when
+        commentRepository.findAllByUser_UserId(reader.getUserId(), PageRequest.of(0, ROWS));
+        long pageStatements = QueryCountConfig.statementCount();
+        QueryCountConfig.reset();
+        commentRepository.findSliceByEpisodeId(episode.getEpisodeId(),
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, PageRequest.of(0, ROWS));
+
+        // then
+        assertEquals(1, pageStatements);
+        assertEquals(1, QueryCountConfig.statementCount());
+    }
+
+    @Test
+    @DisplayName("웹툰 에피소드 목록 - 웹툰 로딩 없이 쿼리 1번")
+    void episodesByWebtoon_SingleStatement() {
+
+        // when
+        Slice<EpisodeView> episodes =
+            episodeRepository.findByWebtoon_WebtoonId(webtoon.getWebtoonId(), PageRequest.of(0, ROWS));
+
+        // then
+        assertEquals(ROWS, episodes.getNumberOfElements());
+        assertEquals("/files/th0", episodes.getContent().stream()
+            .filter(view -> view.getTitle().equals("에피소드 0"))
+            .findFirst().orElseThrow().getThFileUri());
+        assertEquals(1, QueryCountConfig.statementCount());
+    }
+
+    @Test
+    @DisplayName("평점 부여한 에피소드 / 선호 작품 목록 - 내용 1번 + COUNT 1번")
+    void ratedAndFavorites_ContentAndCount() {
+
+        // when
+        Page<RatedEpisodeView> rated =
+            episodeRepository.findAllByUserId(reader.getUserId(), PageRequest.of(0, ROWS / 2));
+        long ratedStatements = QueryCountConfig.statementCount();
+        QueryCountConfig.reset();
+        Page<FavoriteWebtoonView> favorites =
+            webtoonRepository.findAllByUserId(reader.getUserId(), PageRequest.of(0, ROWS / 2));
+
+        // then
+        assertEquals(ROWS, rated.getTotalElements());
+        assertEquals(ROWS, favorites.getTotalElements());
+        assertEquals(2, ratedStatements);
+        assertEquals(2, QueryCountConfig.statementCount());
+    }
+
+    @Test
+    @DisplayName("평점 / 선호 작품 커서 조회 - 쿼리 1번")
+    void ratedAndFavoritesAfter_SingleStatement() {
+
+        // when
+        LocalDateTime first = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        rateRepository.findSliceByUserId(reader.getUserId(), first, Long.MAX_VALUE, PageRequest.of(0, ROWS));
+        favRepository.findSliceByUserId(reader.getUserId(), first, Long.MAX_VALUE, PageRequest.of(0, ROWS));
+
+        // then
+        assertEquals(2, QueryCountConfig.statementCount());
+    }
+}
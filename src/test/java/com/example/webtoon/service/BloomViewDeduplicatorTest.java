@@ -0,0 +1,59 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.webtoon.config.ViewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomViewDeduplicatorTest {
+
+    private ViewProperties viewProperties;
+    private BloomViewDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        viewProperties = new ViewProperties();
+        viewProperties.getDedup().setExpectedInsertions(10_000);
+        viewProperties.getDedup().setWindow(Duration.ofHours(24));
+
+        deduplicator = new BloomViewDeduplicator(viewProperties, new SimpleMeterRegistry());
+        deduplicator.init();
+    }
+
+    @Test
+    @DisplayName("같은 IP의 같은 웹툰 조회는 한 번만 카운트")
+    void isFirstView_Duplicate() {
+        assertTrue(deduplicator.isFirstView("127.0.0.1", 1L));
+        assertFalse(deduplicator.isFirstView("127.0.0.1", 1L));
+        assertTrue(deduplicator.isFirstView("127.0.0.1", 2L));
+        assertTrue(deduplicator.isFirstView("127.0.0.2", 1L));
+    }
+
+    @Test
+    @DisplayName("세대 교체 후에도 직전 세대 기록은 중복으로 판단")
+    void isFirstView_AfterOneRotation() {
+        assertTrue(deduplicator.isFirstView("127.0.0.1", 1L));
+
+        long now = System.currentTimeMillis();
+        deduplicator.rotateIfExpired(now + Duration.ofHours(25).toMillis());
+
+        assertFalse(deduplicator.isFirstView("127.0.0.1", 1L));
+    }
+
+    @Test
+    @DisplayName("두 세대가 지나면 다시 카운트")
+    void isFirstView_AfterTwoRotations() {
+        assertTrue(deduplicator.isFirstView("127.0.0.1", 1L));
+
+        long now = System.currentTimeMillis();
+        deduplicator.rotateIfExpired(now + Duration.ofHours(25).toMillis());
+        deduplicator.rotateIfExpired(now + Duration.ofHours(50).toMillis());
+
+        assertTrue(deduplicator.isFirstView("127.0.0.1", 1L));
+    }
+}
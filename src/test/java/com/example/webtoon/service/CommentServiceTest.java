@@ -7,8 +7,12 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
+import com.example.webtoon.config.Cursor;
+import com.example.webtoon.config.CursorSlice;
 import com.example.webtoon.dto.CommentDto;
 import com.example.webtoon.entity.Comment;
 import com.example.webtoon.entity.Episode;
@@ -17,9 +21,14 @@ import com.example.webtoon.exception.CustomException;
 import com.example.webtoon.repository.CommentRepository;
 import com.example.webtoon.repository.EpisodeRepository;
 import com.example.webtoon.repository.UserRepository;
+import com.example.webtoon.repository.projection.CommentView;
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
 import com.example.webtoon.type.ErrorCode;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +38,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -39,9 +52,15 @@ class CommentServiceTest {
     private UserRepository userRepository;
     @Mock
     private EpisodeRepository episodeRepository;
+    @Mock
+    private CacheFamilyEvictor cacheFamilyEvictor;
+    @Mock
+    private TotalCountProvider totalCountProvider;
     @InjectMocks
     private CommentService commentService;
 
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     @Test
     @DisplayName("신규 댓글 작성 성공")
     void createCommentSuccess() {
@@ -198,17 +217,22 @@ class CommentServiceTest {
             .episode(episode)
             .build();
 
-        given(commentRepository.existsByCommentId(anyLong())).willReturn(true);
+        given(commentRepository.findById(anyLong())).willReturn(Optional.of(comment));
         given(commentRepository.existsByUserUserId(anyLong())).willReturn(true);
+        given(commentRepository.deleteByCommentIdAndUser_UserId(anyLong(), anyLong())).willReturn(1L);
 
         // when
         commentService.deleteComment(comment.getCommentId(), user.getUserId());
 
         // then
-        verify(commentRepository, times(1)).existsByCommentId(anyLong());
+        verify(commentRepository, times(1)).findById(anyLong());
         verify(commentRepository, times(1)).existsByUserUserId(anyLong());
         verify(commentRepository, times(1))
             .deleteByCommentIdAndUser_UserId(anyLong(), anyLong());
+        verify(cacheFamilyEvictor, times(1)).evict("commentList", "episode:1");
+        verify(cacheFamilyEvictor, times(1)).evict("commentListbyUser", "user:1");
+        verify(totalCountProvider, times(1)).add("comment:episode:1", -1);
+        verify(totalCountProvider, times(1)).add("comment:user:1", -1);
     }
 
     @Test
@@ -224,7 +248,7 @@ class CommentServiceTest {
             .episodeId(1L)
             .build();
 
-        given(commentRepository.existsByCommentId(anyLong())).willReturn(false);
+        given(commentRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when
         CustomException exception = assertThrows(CustomException.class, () -> commentService.deleteComment(
@@ -248,7 +272,14 @@ class CommentServiceTest {
             .episodeId(1L)
             .build();
 
-        given(commentRepository.existsByCommentId(anyLong())).willReturn(true);
+        Comment comment = Comment.builder()
+            .commentId(1L)
+            .comment("테스트 댓글")
+            .user(user)
+            .episode(episode)
+            .build();
+
+        given(commentRepository.findById(anyLong())).willReturn(Optional.of(comment));
         given(commentRepository.existsByUserUserId(anyLong())).willReturn(false);
 
         // when
@@ -280,14 +311,15 @@ class CommentServiceTest {
             .episode(episode)
             .build();
 
-        given(commentRepository.existsById(anyLong())).willReturn(true);
+        given(commentRepository.findById(anyLong())).willReturn(Optional.of(comment));
 
         // when
         commentService.deleteCommentByAdmin(comment.getCommentId());
 
         // then
-        verify(commentRepository, times(1)).existsById(anyLong());
+        verify(commentRepository, times(1)).findById(anyLong());
         verify(commentRepository, times(1)).deleteById(anyLong());
+        verify(cacheFamilyEvictor, times(1)).evict("commentList", "episode:1");
     }
 
     @Test
@@ -310,7 +342,7 @@ class CommentServiceTest {
             .episode(episode)
             .build();
 
-        given(commentRepository.existsById(anyLong())).willReturn(false);
+        given(commentRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when
         CustomException exception = assertThrows(CustomException.class,
@@ -330,21 +362,16 @@ class CommentServiceTest {
             .episodeId(1L)
             .build();
 
-        List<Comment> commentList = Arrays.asList(
-            Comment.builder()
-                .comment("테스트 댓글1")
-                .build(),
-            Comment.builder()
-                .comment("테스트 댓글2")
-                .build(),
-            Comment.builder()
-                .comment("테스트 댓글3")
-                .build()
+        List<CommentView> commentList = Arrays.asList(
+            projection(CommentView.class, "commentId", 1L, "comment", "테스트 댓글1"),
+            projection(CommentView.class, "commentId", 2L, "comment", "테스트 댓글2"),
+            projection(CommentView.class, "commentId", 3L, "comment", "테스트 댓글3")
         );
 
-        Page<Comment> comments = new PageImpl<>(commentList);
+        Page<CommentView> comments = new PageImpl<>(commentList);
 
         given(commentRepository.findAllByEpisode_EpisodeId(anyLong(), any())).willReturn(comments);
+        given(totalCountProvider.getTotal(anyString(), any())).willReturn(new TotalCount(3L, true));
 
         // when
         Page<CommentDto> commentDtoPage = commentService.getCommentList(episode.getEpisodeId(), page);
@@ -354,4 +381,51 @@ class CommentServiceTest {
         assertEquals("테스트 댓글2", commentDtoPage.getContent().get(1).getUserComment());
         assertEquals("테스트 댓글3", commentDtoPage.getContent().get(2).getUserComment());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 성공 - 마지막 댓글 기준 다음 커서")
+    void getCommentListAfterSuccess() {
+
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 2, 10, 0);
+        CommentView first = projection(CommentView.class,
+            "commentId", 5L, "comment", "테스트 댓글1", "createdAt", createdAt.plusMinutes(1));
+        CommentView last = projection(CommentView.class,
+            "commentId", 3L, "comment", "테스트 댓글2", "createdAt", createdAt);
+
+        given(commentRepository.findSliceByEpisodeId(anyLong(), any(), anyLong(), any()))
+            .willReturn(new SliceImpl<>(Arrays.asList(first, last), PageRequest.of(0, 2), true));
+
+        // when
+        CursorSlice<CommentDto> commentSlice = commentService.getCommentListAfter(1L, "");
+
+        // then
+        Cursor next = Cursor.decode(commentSlice.getNextCursor());
+        assertEquals(2, commentSlice.getContent().size());
+        assertTrue(commentSlice.isHasNext());
+        assertEquals(createdAt, next.getCreatedAt());
+        assertEquals(3L, next.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 실패 - 잘못된 커서")
+    void getCommentListAfterFailed_InvalidCursor() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> commentService.getCommentListAfter(1L, "not-a-cursor"));
+
+        // then
+        assertEquals(BAD_REQUEST, exception.getStatusMessage());
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    // 프로젝션 인터페이스 테스트 값 (속성 이름, 값 순서로 전달)
+    private <T> T projection(Class<T> type, Object... properties) {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            values.put((String) properties[i], properties[i + 1]);
+        }
+        return projectionFactory.createProjection(type, values);
+    }
+}
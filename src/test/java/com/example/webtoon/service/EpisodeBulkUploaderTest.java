@@ -0,0 +1,186 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.dto.EpisodeUploadResult;
+import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.type.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class EpisodeBulkUploaderTest {
+
+    private final FileService fileService = mock(FileService.class);
+    private final WebtoonRepository webtoonRepository = mock(WebtoonRepository.class);
+    private final WebtoonService webtoonService = mock(WebtoonService.class);
+
+    @TempDir
+    Path dir;
+
+    private EpisodeBulkUploader episodeBulkUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        fileUploadProperties.getBulk().setWriteThreads(2);
+        fileUploadProperties.getBulk().setMaxPendingWrites(2);
+        fileUploadProperties.getBulk().setMaxEntrySize(DataSize.ofBytes(16));
+        fileUploadProperties.getBulk().setMaxEpisodes(3);
+
+        episodeBulkUploader = new EpisodeBulkUploader(
+            fileUploadProperties, fileService, webtoonRepository, webtoonService);
+        episodeBulkUploader.start();
+
+        given(fileService.storeEpisode(any(InputStream.class), anyString())).willAnswer(invocation ->
+            new EpisodeFile("stored/" + invocation.getArgument(1), null));
+        given(fileService.storeThumbnail(any(InputStream.class), anyString())).willAnswer(invocation ->
+            "stored/" + invocation.getArgument(1));
+        given(fileService.fileUri(anyString())).willAnswer(invocation ->
+            "/webtoons/" + invocation.getArgument(0));
+        given(webtoonService.saveUploadedEpisodes(anyLong(), anyList())).willAnswer(invocation -> {
+            List<Episode> episodes = invocation.getArgument(1);
+            return episodes.stream()
+                .map(episode -> EpisodeUploadResult.success(EpisodeDto.from(episode)))
+                .collect(Collectors.toList());
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        episodeBulkUploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 업로드 - 에피소드별 성공/실패, 실패한 에피소드 파일 정리")
+    void uploadSuccess_PartialFailure() throws IOException {
+
+        // given
+        given(webtoonRepository.existsById(10L)).willReturn(true);
+        InputStream archive = zip(
+            "1화/episode.jpg", "ep1",
+            "1화/thumbnail.jpg", "th1",
+            "2화/episode.jpg", "ep2",
+            "3화/episode.jpg", "this image is too large",
+            "3화/thumbnail.jpg", "th3",
+            "readme.txt", "hello");
+
+        // when
+        List<EpisodeUploadResult> results = episodeBulkUploader.upload(10L, archive);
+
+        // then
+        assertEquals(4, results.size());
+        assertEquals(ErrorCode.INVALID_EPISODE_UPLOAD, results.get(0).getErrorCode());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals("/webtoons/stored/1화/episode.jpg", results.get(1).getEpisode().getEpFileUri());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals(ErrorCode.INVALID_EPISODE_UPLOAD, results.get(2).getErrorCode());
+        assertEquals(ErrorCode.EPISODE_FILE_TOO_LARGE, results.get(3).getErrorCode());
+
+        verify(fileService, times(2)).storeEpisode(any(InputStream.class), anyString());
+        verify(fileService, times(1)).storeThumbnail(any(InputStream.class), eq("1화/thumbnail.jpg"));
+        verify(fileService, times(1)).release(Arrays.asList("stored/2화/episode.jpg", null));
+        verify(fileService, never()).storeThumbnail(any(InputStream.class), eq("3화/thumbnail.jpg"));
+        verify(webtoonService, times(1)).saveUploadedEpisodes(eq(10L), anyList());
+        try (Stream<Path> temps = Files.list(dir.resolve(".tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 업로드 - 최대 에피소드 수를 넘은 에피소드는 결과 한 번만")
+    void upload_TooManyEpisodes() throws IOException {
+
+        // given
+        given(webtoonRepository.existsById(10L)).willReturn(true);
+        InputStream archive = zip(
+            "1화/episode.jpg", "ep1",
+            "1화/thumbnail.jpg", "th1",
+            "2화/episode.jpg", "ep2",
+            "2화/thumbnail.jpg", "th2",
+            "3화/episode.jpg", "ep3",
+            "3화/thumbnail.jpg", "th3",
+            "4화/episode.jpg", "ep4",
+            "4화/thumbnail.jpg", "th4");
+
+        // when
+        List<EpisodeUploadResult> results = episodeBulkUploader.upload(10L, archive);
+
+        // then
+        assertEquals(4, results.size());
+        assertEquals("4화", results.get(0).getTitle());
+        assertEquals(ErrorCode.TOO_MANY_EPISODES, results.get(0).getErrorCode());
+        assertTrue(results.get(1).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+        assertTrue(results.get(3).isSuccess());
+        verify(fileService, never()).storeEpisode(any(InputStream.class), eq("4화/episode.jpg"));
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 업로드 실패 - 웹툰 없음 (본문을 읽기 전에 중단)")
+    void uploadFailed_WebtoonNotFound() throws IOException {
+
+        // given
+        given(webtoonRepository.existsById(10L)).willReturn(false);
+        InputStream archive = zip("1화/episode.jpg", "ep1", "1화/thumbnail.jpg", "th1");
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> episodeBulkUploader.upload(10L, archive));
+
+        // then
+        assertEquals(NOT_FOUND, exception.getStatusMessage());
+        assertEquals(ErrorCode.WEBTOON_NOT_FOUND, exception.getErrorCode());
+        verify(fileService, never()).storeEpisode(any(InputStream.class), anyString());
+        verify(fileService, never()).storeThumbnail(any(InputStream.class), anyString());
+    }
+
+    // 이름, 내용 순서로 항목을 받아 zip 생성
+    static InputStream zip(String... entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
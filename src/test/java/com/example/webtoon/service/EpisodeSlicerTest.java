@@ -0,0 +1,97 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeSliceDto;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EpisodeSlicerTest {
+
+    @TempDir
+    Path dir;
+
+    private EpisodeSlicer episodeSlicer;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        fileUploadProperties.getSlice().setHeight(100);
+        episodeSlicer = new EpisodeSlicer(fileUploadProperties);
+        episodeSlicer.start();
+    }
+
+    @Test
+    @DisplayName("긴 이미지 나누기 - 고정 높이 조각을 원본 옆에 저장, 마지막 조각은 남은 높이")
+    void slice() throws IOException {
+
+        // given
+        Files.createDirectories(dir.resolve("ab/cd"));
+        ImageIO.write(new BufferedImage(60, 250, BufferedImage.TYPE_INT_ARGB), "png",
+            dir.resolve("ab/cd/abcd.png").toFile());
+
+        // when
+        String encoded = episodeSlicer.slice("ab/cd/abcd.png");
+
+        // then
+        List<EpisodeSliceDto> slices = EpisodeSliceDto.manifest("/webtoons/ab/cd/abcd.png", encoded);
+        assertEquals(3, slices.size());
+        assertEquals("/webtoons/ab/cd/abcd_s0.png", slices.get(0).getUri());
+        assertEquals("/webtoons/ab/cd/abcd_s2.png", slices.get(2).getUri());
+        assertEquals(100, slices.get(0).getHeight());
+        assertEquals(50, slices.get(2).getHeight());
+        for (int i = 0; i < slices.size(); i++) {
+            Path slice = dir.resolve(EpisodeSliceDto.sliceOf("ab/cd/abcd.png", i));
+            BufferedImage image = ImageIO.read(slice.toFile());
+            assertEquals(60, image.getWidth());
+            assertEquals(slices.get(i).getHeight(), image.getHeight());
+            assertEquals(Files.size(slice), slices.get(i).getSize());
+        }
+    }
+
+    @Test
+    @DisplayName("긴 JPEG 나누기")
+    void sliceJpeg() throws IOException {
+
+        // given
+        ImageIO.write(new BufferedImage(60, 150, BufferedImage.TYPE_INT_RGB), "jpeg",
+            dir.resolve("episode.jpg").toFile());
+
+        // when
+        String encoded = episodeSlicer.slice("episode.jpg");
+
+        // then
+        assertEquals(2, EpisodeSliceDto.manifest("/webtoons/episode.jpg", encoded).size());
+        assertEquals(50, ImageIO.read(dir.resolve("episode_s1.jpg").toFile()).getHeight());
+    }
+
+    @Test
+    @DisplayName("짧거나 나눌 수 없는 이미지는 나누지 않음")
+    void sliceSkipped() throws IOException {
+
+        // given
+        ImageIO.write(new BufferedImage(60, 100, BufferedImage.TYPE_INT_RGB), "png",
+            dir.resolve("short.png").toFile());
+        Files.write(dir.resolve("broken.png"), new byte[]{1, 2, 3});
+
+        // when
+        // then
+        assertNull(episodeSlicer.slice("short.png"));
+        assertFalse(Files.exists(dir.resolve("short_s0.png")));
+        assertNull(episodeSlicer.slice("broken.png"));
+        assertNull(episodeSlicer.slice("animation.gif"));
+        assertEquals(0, EpisodeSliceDto.manifest("/webtoons/short.png", null).size());
+    }
+}
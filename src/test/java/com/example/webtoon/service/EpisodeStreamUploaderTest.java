@@ -0,0 +1,226 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PAYLOAD_TOO_LARGE;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.entity.Episode;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.entity.EpisodeThumbnail;
+import com.example.webtoon.exception.CustomException;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.type.ErrorCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+class EpisodeStreamUploaderTest {
+
+    private static final String BOUNDARY = "episode-boundary";
+
+    private final FileService fileService = mock(FileService.class);
+    private final WebtoonRepository webtoonRepository = mock(WebtoonRepository.class);
+    private final WebtoonService webtoonService = mock(WebtoonService.class);
+
+    private EpisodeStreamUploader episodeStreamUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.getStream().setMaxFileSize(DataSize.ofBytes(16));
+        fileUploadProperties.getStream().setMaxRequestSize(DataSize.ofKilobytes(4));
+
+        episodeStreamUploader = new EpisodeStreamUploader(
+            fileUploadProperties, fileService, webtoonRepository, webtoonService);
+
+        // 실제 저장처럼 파트 내용을 끝까지 읽음 (크기 제한은 읽는 도중 발생)
+        given(webtoonRepository.existsById(1L)).willReturn(true);
+        given(fileService.storeEpisode(any(InputStream.class), anyString())).willAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return new EpisodeFile("stored/" + invocation.getArgument(1), null);
+        });
+        given(fileService.storeThumbnail(any(InputStream.class), anyString())).willAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return "stored/" + invocation.getArgument(1);
+        });
+        given(fileService.fileUri(anyString())).willAnswer(invocation ->
+            "/webtoons/" + invocation.getArgument(0));
+        given(webtoonService.addUploadedEpisode(anyLong(), anyString(), any(EpisodeFile.class),
+            any(EpisodeThumbnail.class))).willAnswer(invocation -> {
+                Episode episode = new Episode(invocation.getArgument(1));
+                episode.setEpisodeFile(invocation.getArgument(2));
+                episode.setEpisodeThumbnail(invocation.getArgument(3));
+                return EpisodeDto.from(episode);
+            });
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 - 파트 순서와 무관하게 파일을 바로 저장하고 등록")
+    void upload() throws IOException {
+
+        // given
+        MockHttpServletRequest request = multipart(
+            file("thFile", "thumbnail.jpg", new byte[]{4, 5}),
+            field("title", "1화"),
+            file("epFile", "episode.jpg", new byte[]{1, 2, 3}),
+            file("memo", "memo.txt", new byte[]{9}));
+
+        // when
+        EpisodeDto episodeDto = episodeStreamUploader.upload(1L, request);
+
+        // then
+        assertEquals("1화", episodeDto.getTitle());
+        assertEquals("/webtoons/stored/episode.jpg", episodeDto.getEpFileUri());
+        verify(fileService).storeEpisode(any(InputStream.class), eq("episode.jpg"));
+        verify(fileService).storeThumbnail(any(InputStream.class), eq("thumbnail.jpg"));
+        verify(fileService, never()).release(anyList());
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 실패 - 파일 크기 초과, 이미 저장한 파일 참조 해제")
+    void uploadFileTooLarge() {
+
+        // given
+        MockHttpServletRequest request = multipart(
+            field("title", "1화"),
+            file("thFile", "thumbnail.jpg", new byte[]{4, 5}),
+            file("epFile", "episode.jpg", new byte[17]));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> episodeStreamUploader.upload(1L, request));
+
+        // then
+        assertEquals(PAYLOAD_TOO_LARGE, exception.getStatusMessage());
+        assertEquals(ErrorCode.EPISODE_FILE_TOO_LARGE, exception.getErrorCode());
+        verify(fileService).release(Arrays.asList(null, "stored/thumbnail.jpg"));
+        verify(webtoonService, never()).addUploadedEpisode(anyLong(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 실패 - 요청 크기 초과는 본문을 읽기 전에 거절")
+    void uploadRequestTooLarge() throws IOException {
+
+        // given
+        MockHttpServletRequest request = multipart(
+            field("title", "1화"),
+            file("epFile", "episode.jpg", new byte[8 * 1024]));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> episodeStreamUploader.upload(1L, request));
+
+        // then
+        assertEquals(PAYLOAD_TOO_LARGE, exception.getStatusMessage());
+        verify(webtoonRepository, never()).existsById(anyLong());
+        verify(fileService, never()).storeEpisode(any(InputStream.class), anyString());
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 실패 - 썸네일 파트 누락, 저장한 파일 참조 해제")
+    void uploadMissingPart() {
+
+        // given
+        MockHttpServletRequest request = multipart(
+            field("title", "1화"),
+            file("epFile", "episode.jpg", new byte[]{1, 2, 3}));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> episodeStreamUploader.upload(1L, request));
+
+        // then
+        assertEquals(BAD_REQUEST, exception.getStatusMessage());
+        assertEquals(ErrorCode.INVALID_EPISODE_UPLOAD, exception.getErrorCode());
+        verify(fileService).release(Arrays.asList("stored/episode.jpg", null));
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 실패 - 없는 웹툰이면 본문을 읽지 않음")
+    void uploadWebtoonNotFound() throws IOException {
+
+        // given
+        MockHttpServletRequest request = multipart(
+            field("title", "1화"),
+            file("epFile", "episode.jpg", new byte[]{1, 2, 3}));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> episodeStreamUploader.upload(2L, request));
+
+        // then
+        assertEquals(NOT_FOUND, exception.getStatusMessage());
+        verify(fileService, never()).storeEpisode(any(InputStream.class), anyString());
+    }
+
+    @Test
+    @DisplayName("에피소드 스트리밍 등록 실패 - 제목 중복, 저장한 파일 참조 해제")
+    void uploadTitleConflict() {
+
+        // given
+        given(webtoonService.addUploadedEpisode(anyLong(), anyString(), any(EpisodeFile.class),
+            any(EpisodeThumbnail.class)))
+            .willThrow(new CustomException(CONFLICT, ErrorCode.ALREADY_EXIST_EPISODE_TITLE));
+        MockHttpServletRequest request = multipart(
+            field("title", "1화"),
+            file("epFile", "episode.jpg", new byte[]{1, 2, 3}),
+            file("thFile", "thumbnail.jpg", new byte[]{4, 5}));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> episodeStreamUploader.upload(1L, request));
+
+        // then
+        assertEquals(CONFLICT, exception.getStatusMessage());
+        verify(fileService).release(Arrays.asList("stored/episode.jpg", "stored/thumbnail.jpg"));
+    }
+
+    private static MockHttpServletRequest multipart(byte[]... parts) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            body.writeBytes(part);
+        }
+        body.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/episode/1/stream");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.toByteArray());
+        return request;
+    }
+
+    private static byte[] field(String name, String value) {
+        return ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+            + value + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] file(String name, String filename, byte[] content) {
+        ByteArrayOutputStream part = new ByteArrayOutputStream();
+        part.writeBytes(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name
+            + "\"; filename=\"" + filename + "\"\r\nContent-Type: application/octet-stream\r\n\r\n")
+            .getBytes(StandardCharsets.UTF_8));
+        part.writeBytes(content);
+        part.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        return part.toByteArray();
+    }
+}
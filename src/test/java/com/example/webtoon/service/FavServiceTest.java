@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
 import com.example.webtoon.dto.CommentDto;
 import com.example.webtoon.dto.WebtoonIdListDto;
 import com.example.webtoon.entity.Comment;
@@ -38,6 +39,8 @@ class FavServiceTest {
     private UserRepository userRepository;
     @Mock
     private FavRepository favRepository;
+    @Mock
+    private CacheFamilyEvictor cacheFamilyEvictor;
     @InjectMocks
     private FavService favService;
 
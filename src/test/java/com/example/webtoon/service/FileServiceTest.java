@@ -0,0 +1,427 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.dto.EpisodeSliceDto;
+import com.example.webtoon.entity.EpisodeFile;
+import com.example.webtoon.repository.StoredFileRepository;
+import com.example.webtoon.type.ImageFormat;
+import com.example.webtoon.type.ThumbnailWidth;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+class FileServiceTest {
+
+    private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+    private final ThumbnailGenerator thumbnailGenerator = mock(ThumbnailGenerator.class);
+    private final ImageTranscoder imageTranscoder = mock(ImageTranscoder.class);
+    private final EpisodeSlicer episodeSlicer = mock(EpisodeSlicer.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @TempDir
+    Path dir;
+
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        fileService = new FileService(fileUploadProperties, storedFileRepository,
+            thumbnailGenerator, imageTranscoder, episodeSlicer, new LocalStorageBackend(fileUploadProperties),
+            transactionManager);
+        fileService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fileService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 내용은 파일 이름이 달라도 한 번만 저장 - 해시 기준 디렉토리 분산")
+    void storeSameContent() throws IOException {
+
+        // when
+        String first = fileService.store(content("image"), "a.JPG");
+        String second = fileService.store(content("image"), "b.jpg");
+
+        // then
+        assertEquals(first, second);
+        assertTrue(first.matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg"));
+        String digest = first.substring(6, 70);
+        assertEquals(digest.substring(0, 2) + "/" + digest.substring(2, 4) + "/" + digest + ".jpg", first);
+        assertEquals("image", new String(Files.readAllBytes(dir.resolve(first)), StandardCharsets.UTF_8));
+        verify(storedFileRepository, times(2)).increment(first);
+        try (Stream<Path> temp = Files.list(dir.resolve(".tmp"))) {
+            assertEquals(0, temp.count());
+        }
+    }
+
+    @Test
+    @DisplayName("다른 내용은 다른 이름으로 저장")
+    void storeDifferentContent() throws IOException {
+
+        // when
+        String first = fileService.store(content("image 1"), "a.jpg");
+        String second = fileService.store(content("image 2"), "a.jpg");
+
+        // then
+        assertNotEquals(first, second);
+        assertTrue(Files.exists(dir.resolve(first)));
+        assertTrue(Files.exists(dir.resolve(second)));
+    }
+
+    @Test
+    @DisplayName("썸네일 저장 - 변형 이미지 생성 예약")
+    void storeThumbnail() throws IOException {
+
+        // when
+        String fileName = fileService.storeThumbnail(content("image"), "a.jpg");
+
+        // then
+        assertTrue(Files.exists(dir.resolve(fileName)));
+        verify(thumbnailGenerator, times(1)).submit(fileName);
+    }
+
+    @Test
+    @DisplayName("에피소드 이미지 저장 - 조각 정보 포함, 원본과 조각 변환 예약")
+    void storeEpisode() throws IOException {
+
+        // given
+        // 실제 조각처럼 원본 옆에 조각 파일을 씀 (저장소에 올릴 파일)
+        given(episodeSlicer.slice(anyString())).willAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            Files.write(dir.resolve(EpisodeSliceDto.sliceOf(name, 0)), new byte[]{1});
+            Files.write(dir.resolve(EpisodeSliceDto.sliceOf(name, 1)), new byte[]{2});
+            return "10x8:100,10x2:30";
+        });
+
+        // when
+        EpisodeFile episodeFile = fileService.storeEpisode(content("image"), "a.png");
+
+        // then
+        String fileName = episodeFile.getEpFileName();
+        assertTrue(Files.exists(dir.resolve(fileName)));
+        assertEquals("10x8:100,10x2:30", episodeFile.getEpSlices());
+        verify(imageTranscoder, times(1)).submit(fileName);
+        verify(imageTranscoder, times(1)).submit(EpisodeSliceDto.sliceOf(fileName, 0));
+        verify(imageTranscoder, times(1)).submit(EpisodeSliceDto.sliceOf(fileName, 1));
+    }
+
+    @Test
+    @DisplayName("에피소드 이미지 저장 - 나누지 못해도 원본은 저장")
+    void storeEpisode_SliceFailed() throws IOException {
+
+        // given
+        given(episodeSlicer.slice(anyString())).willThrow(new IOException("broken"));
+
+        // when
+        EpisodeFile episodeFile = fileService.storeEpisode(content("image"), "a.png");
+
+        // then
+        assertTrue(Files.exists(dir.resolve(episodeFile.getEpFileName())));
+        assertNull(episodeFile.getEpSlices());
+    }
+
+    @Test
+    @DisplayName("에피소드 이미지와 썸네일 동시 저장 - 둘 다 끝나면 완료")
+    void saveEpisodeFilesAsync() {
+
+        // given
+        MultipartFile epFile = new MockMultipartFile("epFile", "ep.png", "image/png", "episode".getBytes());
+        MultipartFile thFile = new MockMultipartFile("thFile", "th.jpg", "image/jpeg", "thumbnail".getBytes());
+
+        // when
+        FileService.EpisodeFiles files = fileService.saveEpisodeFilesAsync(epFile, thFile).join();
+
+        // then
+        assertTrue(Files.exists(dir.resolve(files.getEpisodeFile().getEpFileName())));
+        assertTrue(Files.exists(dir.resolve(files.getThumbnailName())));
+        verify(thumbnailGenerator, times(1)).submit(files.getThumbnailName());
+        verify(imageTranscoder, times(1)).submit(files.getEpisodeFile().getEpFileName());
+    }
+
+    @Test
+    @DisplayName("에피소드 파일 동시 저장 실패 - 저장된 쪽은 참조 해제")
+    void saveEpisodeFilesAsync_ThumbnailFailed() throws IOException {
+
+        // given
+        MultipartFile epFile = new MockMultipartFile("epFile", "ep.png", "image/png", "episode".getBytes());
+        MultipartFile thFile = mock(MultipartFile.class);
+        given(thFile.getInputStream()).willThrow(new IOException("broken upload"));
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class,
+            () -> fileService.saveEpisodeFilesAsync(epFile, thFile).join());
+
+        // then
+        assertTrue(exception.getCause() instanceof UncheckedIOException);
+        verify(storedFileRepository, times(1)).increment(anyString());
+        verify(storedFileRepository, times(1)).decrement(anyString());
+    }
+
+    @Test
+    @DisplayName("저장된 파일에 참조 추가 - 같은 이름이 여러 번 있으면 그 수만큼")
+    void retain() throws IOException {
+
+        // given
+        String fileName = fileService.store(content("image"), "a.jpg");
+
+        // when
+        boolean retained = fileService.retain(Arrays.asList(fileName, fileName));
+
+        // then
+        assertTrue(retained);
+        verify(storedFileRepository, times(1)).incrementBy(fileName, 2);
+        verify(storedFileRepository, never()).decrement(anyString());
+    }
+
+    @Test
+    @DisplayName("참조 추가 실패 - 없는 파일이나 내용 해시 이름이 아니면 이미 추가한 참조를 되돌림")
+    void retainFailed_NotStored() throws IOException {
+
+        // given
+        String fileName = fileService.store(content("image"), "a.jpg");
+        String missing = fileName.substring(0, 6) + "0".repeat(64) + ".jpg";
+
+        // when
+        boolean retainedMissing = fileService.retain(Arrays.asList(fileName, missing));
+        boolean retainedLegacy = fileService.retain(Arrays.asList("epFile_old.jpg"));
+
+        // then
+        assertFalse(retainedMissing);
+        assertFalse(retainedLegacy);
+        verify(storedFileRepository, times(1)).incrementBy(fileName, 1);
+        verify(storedFileRepository, never()).incrementBy(eq(missing), anyInt());
+        verify(storedFileRepository, times(1)).decrement(fileName);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 참조 해제, 커밋되면 유지")
+    void releaseOnRollback() {
+
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            fileService.releaseOnRollback(Arrays.asList("rolled-back.jpg"));
+            List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+            fileService.releaseOnRollback(Arrays.asList("committed.jpg"));
+            List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                committed, TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(storedFileRepository, timeout(1000)).decrement("rolled-back.jpg");
+        verify(storedFileRepository, never()).decrement("committed.jpg");
+    }
+
+    @Test
+    @DisplayName("커밋 후 참조 해제 - 트랜잭션 밖이면 바로 해제")
+    void releaseAfterCommit() {
+
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            fileService.releaseAfterCommit(Arrays.asList("old.jpg"));
+            List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+            verify(storedFileRepository, never()).decrement(anyString());
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        fileService.releaseAfterCommit(Arrays.asList("outside.jpg"));
+
+        // then
+        verify(storedFileRepository, timeout(1000)).decrement("old.jpg");
+        verify(storedFileRepository, times(1)).decrement("outside.jpg");
+    }
+
+    @Test
+    @DisplayName("커밋 후 참조 해제 - I/O 대기열이 받지 못하면 호출한 스레드의 새 트랜잭션에서 해제")
+    void releaseAfterCommit_Rejected() throws InterruptedException {
+
+        // given
+        fileService.shutdown();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            fileService.releaseAfterCommit(Arrays.asList("old.jpg"));
+            List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(storedFileRepository, times(1)).decrement("old.jpg");
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 해제되면 파일과 변형 이미지, 변환본, 조각 삭제")
+    void releaseLastReference() throws IOException {
+
+        // given
+        String fileName = fileService.store(content("image"), "a.jpg");
+        String variant = ThumbnailWidth.W160.variantOf(fileName);
+        Files.write(dir.resolve(variant), new byte[]{1});
+        String transcoded = ImageFormat.WEBP.variantOf(fileName);
+        Files.write(dir.resolve(transcoded), new byte[]{1});
+        String slice = EpisodeSliceDto.sliceOf(fileName, 0);
+        Files.write(dir.resolve(slice), new byte[]{1});
+        Files.write(dir.resolve(ImageFormat.JPEG.variantOf(slice)), new byte[]{1});
+        given(storedFileRepository.decrement(fileName)).willReturn(1);
+        given(storedFileRepository.deleteUnreferenced(fileName)).willReturn(1);
+
+        // when
+        fileService.release(Collections.singletonList(fileName));
+
+        // then
+        assertFalse(Files.exists(dir.resolve(fileName)));
+        assertFalse(Files.exists(dir.resolve(variant)));
+        assertFalse(Files.exists(dir.resolve(transcoded)));
+        assertFalse(Files.exists(dir.resolve(slice)));
+        assertFalse(Files.exists(dir.resolve(ImageFormat.JPEG.variantOf(slice))));
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 참조 중이면 파일 유지")
+    void releaseStillReferenced() throws IOException {
+
+        // given
+        String fileName = fileService.store(content("image"), "a.jpg");
+        given(storedFileRepository.decrement(fileName)).willReturn(1);
+        given(storedFileRepository.deleteUnreferenced(fileName)).willReturn(0);
+
+        // when
+        fileService.release(Collections.singletonList(fileName));
+
+        // then
+        assertTrue(Files.exists(dir.resolve(fileName)));
+    }
+
+    @Test
+    @DisplayName("같은 이름이 여러 번 있으면 그 수만큼 참조 해제 - 이미지와 썸네일이 같은 내용")
+    void releaseSameNameTwice() throws IOException {
+
+        // given
+        String fileName = fileService.store(content("image"), "a.jpg");
+        given(storedFileRepository.decrement(fileName)).willReturn(1);
+
+        // when
+        fileService.release(Arrays.asList(fileName, fileName));
+
+        // then
+        verify(storedFileRepository, times(2)).decrement(fileName);
+    }
+
+    @Test
+    @DisplayName("참조 수를 관리하지 않는 예전 파일은 삭제하지 않음")
+    void releaseLegacyFile() throws IOException {
+
+        // given
+        Files.write(dir.resolve("epFile_old.jpg"), new byte[]{1});
+        given(storedFileRepository.decrement(anyString())).willReturn(0);
+
+        // when
+        fileService.release(Collections.singletonList("epFile_old.jpg"));
+
+        // then
+        assertTrue(Files.exists(dir.resolve("epFile_old.jpg")));
+        verify(storedFileRepository, never()).deleteUnreferenced(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 해제된 파일의 사본 정리 - 참조가 없고 오래된 사본만 삭제, 로컬 저장소는 정리하지 않음")
+    void sweepLocalCopies() throws IOException {
+
+        // given
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        FileService sharedFileService = new FileService(fileUploadProperties, storedFileRepository,
+            thumbnailGenerator, imageTranscoder, episodeSlicer, mock(StorageBackend.class), transactionManager);
+        String released = fileService.store(content("released"), "a.png");
+        String referenced = fileService.store(content("referenced"), "b.png");
+        String recent = fileService.store(content("recent"), "c.png");
+        String transcoded = ImageFormat.WEBP.variantOf(released);
+        Files.write(dir.resolve(transcoded), new byte[]{1});
+        String slice = EpisodeSliceDto.sliceOf(released, 0);
+        Files.write(dir.resolve(slice), new byte[]{1});
+        Files.write(dir.resolve("epFile_old.jpg"), new byte[]{1});
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - 2 * 3_600_000L);
+        for (String name : Arrays.asList(released, transcoded, slice, referenced, "epFile_old.jpg")) {
+            Files.setLastModifiedTime(dir.resolve(name), old);
+        }
+        given(storedFileRepository.existsByFileNameStartingWith(
+            referenced.substring(0, referenced.length() - ".png".length()))).willReturn(true);
+
+        // when
+        int deleted = sharedFileService.sweepLocalCopies();
+
+        // then
+        assertEquals(3, deleted);
+        assertFalse(Files.exists(dir.resolve(released)));
+        assertFalse(Files.exists(dir.resolve(transcoded)));
+        assertFalse(Files.exists(dir.resolve(slice)));
+        assertTrue(Files.exists(dir.resolve(referenced)));
+        assertTrue(Files.exists(dir.resolve(recent)));
+        assertTrue(Files.exists(dir.resolve("epFile_old.jpg")));
+        assertEquals(0, fileService.sweepLocalCopies());
+    }
+
+    private static ByteArrayInputStream content(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
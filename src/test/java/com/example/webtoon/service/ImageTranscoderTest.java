@@ -0,0 +1,147 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.type.ImageFormat;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Node;
+
+class ImageTranscoderTest {
+
+    @TempDir
+    Path dir;
+
+    private ImageTranscoder imageTranscoder;
+
+    private FileUploadProperties fileUploadProperties;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        imageTranscoder = new ImageTranscoder(fileUploadProperties,
+            new LocalStorageBackend(fileUploadProperties));
+        imageTranscoder.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageTranscoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("PNG 원본 변환 - 원본보다 작은 progressive JPEG 생성")
+    void transcode() throws IOException {
+
+        // given
+        BufferedImage image = new BufferedImage(400, 600, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(42);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, 0xff000000 | random.nextInt(0x1000000));
+            }
+        }
+        ImageIO.write(image, "png", dir.resolve("episode.png").toFile());
+
+        // when
+        int written = imageTranscoder.transcode("episode.png");
+
+        // then
+        Path jpeg = dir.resolve(ImageFormat.JPEG.variantOf("episode.png"));
+        assertTrue(written >= 1);
+        assertTrue(Files.size(jpeg) < Files.size(dir.resolve("episode.png")));
+        assertTrue(isProgressive(jpeg));
+        assertEquals(600, ImageIO.read(jpeg.toFile()).getHeight());
+        assertEquals(0, imageTranscoder.transcode("episode.png"));
+    }
+
+    @Test
+    @DisplayName("PNG 원본 변환 - 원본보다 커지면 변환본을 남기지 않음")
+    void transcodeLargerThanOriginal() throws IOException {
+
+        // given
+        ImageIO.write(new BufferedImage(400, 600, BufferedImage.TYPE_INT_RGB), "png",
+            dir.resolve("blank.png").toFile());
+
+        // when
+        imageTranscoder.transcode("blank.png");
+
+        // then
+        assertFalse(Files.exists(dir.resolve(ImageFormat.JPEG.variantOf("blank.png"))));
+    }
+
+    @Test
+    @DisplayName("PNG 원본 변환 - 헤더의 픽셀 수가 상한을 넘으면 디코딩하지 않고 건너뜀")
+    void transcode_TooManyPixels() throws IOException {
+
+        // given
+        fileUploadProperties.getTranscode().setMaxPixels(400 * 600 - 1);
+        ImageIO.write(new BufferedImage(400, 600, BufferedImage.TYPE_INT_ARGB), "png",
+            dir.resolve("huge.png").toFile());
+
+        // when
+        int written = imageTranscoder.transcode("huge.png");
+
+        // then
+        assertEquals(0, written);
+        for (ImageFormat format : ImageFormat.values()) {
+            assertFalse(Files.exists(dir.resolve(format.variantOf("huge.png"))));
+        }
+    }
+
+    @Test
+    @DisplayName("손실 압축 원본은 변환하지 않음")
+    void transcodeSkipped() throws IOException {
+
+        // given
+        ImageIO.write(new BufferedImage(40, 60, BufferedImage.TYPE_INT_RGB), "jpeg",
+            dir.resolve("episode.jpg").toFile());
+
+        // when
+        // then
+        assertEquals(0, imageTranscoder.transcode("episode.jpg"));
+        assertEquals(0, imageTranscoder.transcode("../outside.png"));
+    }
+
+    // JPEG 메타데이터의 SOF 마커 process 2 = progressive
+    private static boolean isProgressive(Path jpeg) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(jpeg.toFile())) {
+            ImageReader reader = ImageIO.getImageReaders(in).next();
+            try {
+                reader.setInput(in);
+                Node tree = reader.getImageMetadata(0).getAsTree("javax_imageio_jpeg_image_1.0");
+                return "2".equals(findAttribute(tree, "sof", "process"));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static String findAttribute(Node node, String name, String attribute) {
+        if (name.equals(node.getNodeName())) {
+            return node.getAttributes().getNamedItem(attribute).getNodeValue();
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            String value = findAttribute(child, name, attribute);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
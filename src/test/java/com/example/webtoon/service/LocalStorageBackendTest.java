@@ -0,0 +1,85 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.webtoon.config.FileUploadProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalStorageBackendTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalStorageBackend localStorageBackend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        localStorageBackend = new LocalStorageBackend(fileUploadProperties);
+        Files.createDirectories(dir.resolve("ab/cd"));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 - 작업 디렉토리 파일이 곧 저장소 파일, 직접 받을 주소는 없음")
+    void publish() throws IOException {
+
+        // given
+        Files.write(dir.resolve("ab/cd/abcd.jpg"), new byte[]{1, 2, 3});
+
+        // when
+        localStorageBackend.publish("ab/cd/abcd.jpg");
+
+        // then
+        assertTrue(localStorageBackend.exists("ab/cd/abcd.jpg"));
+        assertFalse(localStorageBackend.exists("ab/cd/missing.jpg"));
+        assertNull(localStorageBackend.directUrl("ab/cd/abcd.jpg"));
+        assertThrows(IOException.class, () -> localStorageBackend.publish("ab/cd/missing.jpg"));
+        assertTrue(localStorageBackend.isLocal());
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 삭제 - 이름 목록과 이름 앞부분으로 삭제, 다른 파일은 유지")
+    void delete() throws IOException {
+
+        // given
+        Files.write(dir.resolve("ab/cd/abcd.png"), new byte[]{1});
+        Files.write(dir.resolve("ab/cd/abcd.png.webp"), new byte[]{2});
+        Files.write(dir.resolve("ab/cd/abcd_s0.png"), new byte[]{3});
+        Files.write(dir.resolve("ab/cd/abcd_s1.png.jpg"), new byte[]{4});
+        Files.write(dir.resolve("ab/cd/abce_s0.png"), new byte[]{5});
+
+        // when
+        localStorageBackend.delete(Arrays.asList("ab/cd/abcd.png", "ab/cd/abcd.png.webp", "ab/cd/missing.png"));
+        localStorageBackend.deleteByPrefix("ab/cd/abcd_s");
+        localStorageBackend.deleteByPrefix("ef/gh/abcd_s");
+
+        // then
+        assertFalse(Files.exists(dir.resolve("ab/cd/abcd.png")));
+        assertFalse(Files.exists(dir.resolve("ab/cd/abcd.png.webp")));
+        assertFalse(Files.exists(dir.resolve("ab/cd/abcd_s0.png")));
+        assertFalse(Files.exists(dir.resolve("ab/cd/abcd_s1.png.jpg")));
+        assertTrue(Files.exists(dir.resolve("ab/cd/abce_s0.png")));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 - 업로드 디렉토리 밖을 가리키는 이름은 거절")
+    void rejectOutsideName() {
+        // when
+        // then
+        assertThrows(IOException.class, () -> localStorageBackend.exists("../outside.jpg"));
+        assertThrows(IOException.class, () -> localStorageBackend.publish("../outside.jpg", dir.resolve("ab/cd")));
+        assertThrows(IOException.class, () -> localStorageBackend.delete(Arrays.asList("../outside.jpg")));
+        assertThrows(IOException.class, () -> localStorageBackend.deleteByPrefix("../outside"));
+    }
+}
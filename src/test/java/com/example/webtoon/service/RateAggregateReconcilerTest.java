@@ -0,0 +1,79 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RateAggregateReconcilerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("평점 집계 보정 - 어긋난 에피소드만 다시 계산")
+    @SuppressWarnings("unchecked")
+    void reconcile_FixDrifted() {
+
+        // given
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 7L);
+        row.put("stored_sum", 10L);
+        row.put("stored_count", 2L);
+        row.put("actual_sum", 15L);
+        row.put("actual_count", 3L);
+
+        given(jdbcTemplate.queryForList(contains("FROM episode e LEFT JOIN")))
+            .willReturn(Collections.singletonList(row));
+        given(jdbcTemplate.queryForList(contains("FROM webtoon w LEFT JOIN")))
+            .willReturn(Collections.emptyList());
+
+        RateAggregateReconciler reconciler = new RateAggregateReconciler(jdbcTemplate, meterRegistry);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(contains("UPDATE episode"), captor.capture());
+        assertEquals(7L, captor.getValue().get(0)[0]);
+        assertEquals(1.0, meterRegistry.get("rate.aggregate.drift")
+            .tag("target", "episode").counter().count());
+    }
+
+    @Test
+    @DisplayName("평점 집계 보정 - 어긋난 값 없으면 UPDATE 생략")
+    void reconcile_NoDrift() {
+
+        // given
+        given(jdbcTemplate.queryForList(anyString())).willReturn(Collections.emptyList());
+
+        RateAggregateReconciler reconciler = new RateAggregateReconciler(jdbcTemplate, meterRegistry);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
 import com.example.webtoon.dto.RateAvgDto;
 import com.example.webtoon.dto.RateDto;
 import com.example.webtoon.entity.Episode;
@@ -43,6 +44,10 @@ class RateServiceTest {
     private UserRepository userRepository;
     @Mock
     private WebtoonRepository webtoonRepository;
+    @Mock
+    private CacheFamilyEvictor cacheFamilyEvictor;
+    @Mock
+    private WebtoonRankingIndex webtoonRankingIndex;
     @InjectMocks
     private RateService rateService;
 
@@ -51,7 +56,9 @@ class RateServiceTest {
     void addRateSuccess() {
         // given
         Episode episode = Episode.builder()
-            .episodeId(1L).build();
+            .episodeId(1L)
+            .webtoon(Webtoon.builder().webtoonId(10L).build())
+            .build();
 
         User user = User.builder()
             .userId(2L).build();
@@ -65,6 +72,9 @@ class RateServiceTest {
 
         // then
         verify(rateRepository, times(1)).save(any());
+        verify(episodeRepository, times(1)).applyRateDelta(1L, 5, 1);
+        verify(webtoonRepository, times(1)).applyRateDeltaByEpisodeId(1L, 5, 1);
+        verify(webtoonRankingIndex, times(1)).addRate(10L, 5, 1);
         assertEquals(5, rateDto.getUserRate());
     }
 
@@ -124,7 +134,9 @@ class RateServiceTest {
     void updateRateSuccess() {
         // given
         Episode episode = Episode.builder()
-            .episodeId(1L).build();
+            .episodeId(1L)
+            .webtoon(Webtoon.builder().webtoonId(10L).build())
+            .build();
 
         User user = User.builder()
             .userId(2L).build();
@@ -144,6 +156,8 @@ class RateServiceTest {
 
         // then
         verify(rateRepository, times(1)).save(any());
+        verify(episodeRepository, times(1)).applyRateDelta(1L, -1, 0);
+        verify(webtoonRepository, times(1)).applyRateDeltaByEpisodeId(1L, -1, 0);
         assertEquals(4, rate.getUserRate());
     }
 
@@ -168,14 +182,27 @@ class RateServiceTest {
     void deleteRateSuccess() {
 
         // given
-        given(rateRepository.existsByEpisode_EpisodeIdAndUser_UserId(anyLong(), anyLong())).willReturn(true);
+        Episode episode = Episode.builder()
+            .episodeId(1L)
+            .webtoon(Webtoon.builder().webtoonId(10L).build())
+            .build();
+
+        Rate rate = Rate.builder()
+            .rateId(1L)
+            .userRate(3)
+            .episode(episode)
+            .build();
+
+        given(rateRepository.findByEpisode_EpisodeIdAndUser_UserId(anyLong(), anyLong())).willReturn(
+            Optional.of(rate));
 
         // when
         rateService.deleteRate(1L, 1L);
 
         // then
-        verify(rateRepository, times(1)).existsByEpisode_EpisodeIdAndUser_UserId(anyLong(), anyLong());
         verify(rateRepository, times(1)).deleteByEpisode_EpisodeIdAndUser_UserId(anyLong(), anyLong());
+        verify(episodeRepository, times(1)).applyRateDelta(1L, -3, -1);
+        verify(webtoonRepository, times(1)).applyRateDeltaByEpisodeId(1L, -3, -1);
     }
 
     @Test
@@ -183,7 +210,8 @@ class RateServiceTest {
     void deleteRateFailed_RateNotFound() {
 
         // given
-        given(rateRepository.existsByEpisode_EpisodeIdAndUser_UserId(anyLong(), anyLong())).willReturn(false);
+        given(rateRepository.findByEpisode_EpisodeIdAndUser_UserId(anyLong(), anyLong())).willReturn(
+            Optional.empty());
 
         // when
         CustomException exception = assertThrows(CustomException.class,
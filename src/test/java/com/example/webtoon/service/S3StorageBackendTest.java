@@ -0,0 +1,104 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import com.example.webtoon.config.FileUploadProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+class S3StorageBackendTest {
+
+    @TempDir
+    Path dir;
+
+    // 람다를 받는 메서드는 요청 객체를 만들어 넘기는 기본 구현을 그대로 사용
+    private final S3Client s3 = mock(S3Client.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+
+    private S3StorageBackend s3StorageBackend;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setLocation(dir.toString());
+        FileUploadProperties.S3 conf = fileUploadProperties.getStorage().getS3();
+        conf.setBucket("bucket");
+        conf.setMultipartThreshold(DataSize.ofBytes(10));
+        conf.setPartSize(DataSize.ofBytes(5));
+        conf.setUploadThreads(2);
+        s3StorageBackend = new S3StorageBackend(fileUploadProperties);
+        s3StorageBackend.start(s3, mock(S3Presigner.class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3StorageBackend.shutdown();
+    }
+
+    @Test
+    @DisplayName("나눠 올리기 실패 - 올리는 중인 조각이 끝난 뒤 한 번만 취소하고 IOException")
+    void publishMultipartFailed() throws IOException {
+
+        // given
+        Files.createDirectories(dir.resolve("ab/cd"));
+        Files.write(dir.resolve("ab/cd/abcd.png"), new byte[20]);
+        AtomicBoolean slowPartDone = new AtomicBoolean();
+        AtomicBoolean abortedAfterSlowPart = new AtomicBoolean();
+        doReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build())
+            .when(s3).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        doAnswer(invocation -> {
+            int partNumber = invocation.<UploadPartRequest>getArgument(0).partNumber();
+            if (partNumber == 2) {
+                throw SdkException.builder().message("part upload failed").build();
+            }
+            if (partNumber == 1) {
+                Thread.sleep(200);
+                slowPartDone.set(true);
+            }
+            return UploadPartResponse.builder().eTag("etag" + partNumber).build();
+        }).when(s3).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        doAnswer(invocation -> {
+            abortedAfterSlowPart.set(slowPartDone.get());
+            return AbortMultipartUploadResponse.builder().build();
+        }).when(s3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+        // when
+        IOException exception = assertThrows(IOException.class, () -> s3StorageBackend.publish("ab/cd/abcd.png"));
+
+        // then
+        assertEquals("failed to upload ab/cd/abcd.png", exception.getMessage());
+        assertTrue(exception.getCause() instanceof SdkException);
+        assertTrue(abortedAfterSlowPart.get());
+        verify(s3, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.webtoon.config.FileUploadProperties;
+import com.example.webtoon.type.ThumbnailWidth;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    private final FileUploadProperties fileUploadProperties = new FileUploadProperties();
+
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadProperties.setLocation(dir.toString());
+        thumbnailGenerator = new ThumbnailGenerator(fileUploadProperties,
+            new LocalStorageBackend(fileUploadProperties));
+        thumbnailGenerator.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        thumbnailGenerator.shutdown();
+    }
+
+    @Test
+    @DisplayName("썸네일 변형 이미지 생성 - 픽셀 수가 상한을 넘으면 디코딩하지 않고 건너뜀")
+    void generate_TooManyPixels() throws IOException {
+
+        // given
+        fileUploadProperties.getThumbnail().setMaxPixels(1000 * 500 - 1);
+        Files.createDirectories(dir.resolve("ab/cd"));
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "jpeg",
+            dir.resolve("ab/cd/abcd.jpg").toFile());
+
+        // when
+        int generated = thumbnailGenerator.generate("ab/cd/abcd.jpg", false);
+
+        // then
+        assertEquals(0, generated);
+        for (ThumbnailWidth width : ThumbnailWidth.values()) {
+            assertFalse(Files.exists(dir.resolve(width.variantOf("ab/cd/abcd.jpg"))));
+        }
+    }
+
+    @Test
+    @DisplayName("썸네일 변형 이미지 생성 - 폭별로 원본 옆에 저장, 비율 유지")
+    void generate() throws IOException {
+
+        // given
+        Files.createDirectories(dir.resolve("ab/cd"));
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "jpeg",
+            dir.resolve("ab/cd/abcd.jpg").toFile());
+
+        // when
+        int generated = thumbnailGenerator.generate("ab/cd/abcd.jpg", false);
+
+        // then
+        assertEquals(3, generated);
+        for (ThumbnailWidth width : ThumbnailWidth.values()) {
+            BufferedImage variant = ImageIO.read(dir.resolve(width.variantOf("ab/cd/abcd.jpg")).toFile());
+            assertEquals(width.getWidth(), variant.getWidth());
+            assertEquals(width.getWidth() / 2, variant.getHeight());
+        }
+        assertEquals(0, thumbnailGenerator.generate("ab/cd/abcd.jpg", false));
+        assertEquals(3, thumbnailGenerator.generate("ab/cd/abcd.jpg", true));
+    }
+
+    @Test
+    @DisplayName("썸네일 변형 이미지 생성 - 원본이 더 작으면 그대로 복사")
+    void generateSmallSource() throws IOException {
+
+        // given
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), "png",
+            dir.resolve("small.png").toFile());
+
+        // when
+        thumbnailGenerator.generate("small.png", false);
+
+        // then
+        assertEquals(160, ImageIO.read(dir.resolve("small_w160.png").toFile()).getWidth());
+        assertEquals(Files.size(dir.resolve("small.png")), Files.size(dir.resolve("small_w320.png")));
+        assertEquals(Files.size(dir.resolve("small.png")), Files.size(dir.resolve("small_w640.png")));
+    }
+
+    @Test
+    @DisplayName("썸네일 변형 이미지 생성 - 이미지가 아니거나 업로드 디렉토리 밖이면 건너뜀")
+    void generateSkipped() throws IOException {
+
+        // given
+        Files.write(dir.resolve("broken.jpg"), new byte[]{1, 2, 3});
+
+        // when
+        // then
+        assertEquals(0, thumbnailGenerator.generate("broken.jpg", false));
+        assertFalse(Files.exists(dir.resolve("broken_w160.jpg")));
+        assertEquals(0, thumbnailGenerator.generate("../outside.jpg", false));
+    }
+
+    @Test
+    @DisplayName("변형 이미지 이름 변환")
+    void variantName() {
+
+        // then
+        assertEquals("ab/cd/abcd_w320.jpg", ThumbnailWidth.W320.variantOf("ab/cd/abcd.jpg"));
+        assertEquals("http://host/webtoons/a_w160", ThumbnailWidth.W160.variantOf("http://host/webtoons/a"));
+        assertEquals("ab/cd/abcd.jpg", ThumbnailWidth.originalOf("ab/cd/abcd_w320.jpg"));
+        assertNull(ThumbnailWidth.originalOf("ab/cd/abcd_w100.jpg"));
+        assertNull(ThumbnailWidth.originalOf("ab/cd/abcd.jpg"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TotalCountProviderTest {
+
+    private final TotalCountProvider totalCountProvider =
+        new TotalCountProvider(true, 100, Duration.ofHours(1), Duration.ofHours(1), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("전체 개수 - 처음만 COUNT, 이후 증감 반영된 보관 값")
+    void getTotal_CachedWithDelta() {
+
+        // given
+        AtomicInteger queries = new AtomicInteger();
+        String key = TotalCountProvider.episodeComments(1L);
+
+        // when
+        TotalCount first = totalCountProvider.getTotal(key, () -> {
+            queries.incrementAndGet();
+            return 10L;
+        });
+        totalCountProvider.add(key, 1);
+        totalCountProvider.add(key, 1);
+        totalCountProvider.add(key, -1);
+        TotalCount second = totalCountProvider.getTotal(key, () -> {
+            queries.incrementAndGet();
+            return 10L;
+        });
+
+        // then
+        assertEquals(10L, first.getValue());
+        assertFalse(first.isApproximate());
+        assertEquals(11L, second.getValue());
+        assertTrue(second.isApproximate());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("전체 개수 - 주기적 재계산으로 증감된 키의 정확한 값 교체")
+    void recount() {
+
+        // given
+        AtomicLong actual = new AtomicLong(5L);
+        String key = TotalCountProvider.webtoonEpisodes(1L);
+        totalCountProvider.getTotal(key, actual::get);
+        totalCountProvider.add(key, 1);
+        actual.set(8L);
+
+        // when
+        totalCountProvider.recount();
+
+        // then
+        assertEquals(8L, totalCountProvider.getTotal(key, actual::get).getValue());
+    }
+
+    @Test
+    @DisplayName("전체 개수 재계산 - 마지막 재계산 이후 증감된 키만 COUNT")
+    void recount_OnlyTouchedKeys() {
+
+        // given
+        AtomicInteger queries = new AtomicInteger();
+        String touchedKey = TotalCountProvider.webtoonEpisodes(1L);
+        String idleKey = TotalCountProvider.webtoonEpisodes(2L);
+        totalCountProvider.getTotal(touchedKey, () -> {
+            queries.incrementAndGet();
+            return 5L;
+        });
+        totalCountProvider.getTotal(idleKey, () -> {
+            queries.incrementAndGet();
+            return 3L;
+        });
+        totalCountProvider.add(touchedKey, 1);
+
+        // when
+        int first = totalCountProvider.recount();
+        int second = totalCountProvider.recount();
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(3, queries.get());
+        assertEquals(5L, totalCountProvider.getTotal(touchedKey, () -> 0L).getValue());
+    }
+
+    @Test
+    @DisplayName("전체 개수 재계산 - COUNT 중 들어온 증감은 덮어쓰지 않고 다음 재계산으로 미룸")
+    void recount_CompareAndSet() {
+
+        // given
+        AtomicLong actual = new AtomicLong(5L);
+        AtomicBoolean racing = new AtomicBoolean();
+        String key = TotalCountProvider.episodeComments(1L);
+        totalCountProvider.getTotal(key, () -> {
+            long count = actual.get();
+            // COUNT 가 읽은 뒤 커밋된 등록의 증감
+            if (racing.getAndSet(false)) {
+                totalCountProvider.add(key, 1);
+            }
+            return count;
+        });
+        totalCountProvider.add(key, 1);
+        actual.set(6L);
+        racing.set(true);
+
+        // when
+        int first = totalCountProvider.recount();
+        long afterFirst = totalCountProvider.getTotal(key, actual::get).getValue();
+        actual.set(7L);
+        int second = totalCountProvider.recount();
+
+        // then
+        assertEquals(0, first);
+        assertEquals(7L, afterFirst);
+        assertEquals(1, second);
+        assertEquals(7L, totalCountProvider.getTotal(key, actual::get).getValue());
+    }
+
+    @Test
+    @DisplayName("전체 개수 - approximate 꺼짐, 매번 COUNT")
+    void getTotal_ExactWhenDisabled() {
+
+        // given
+        TotalCountProvider exactProvider =
+            new TotalCountProvider(false, 100, Duration.ofHours(1), Duration.ofHours(1),
+                new SimpleMeterRegistry());
+        AtomicInteger queries = new AtomicInteger();
+
+        // when
+        exactProvider.getTotal("key", queries::incrementAndGet);
+        TotalCount total = exactProvider.getTotal("key", queries::incrementAndGet);
+
+        // then
+        assertEquals(2L, total.getValue());
+        assertFalse(total.isApproximate());
+    }
+}
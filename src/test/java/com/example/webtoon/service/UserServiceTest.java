@@ -2,7 +2,10 @@ package com.example.webtoon.service;
 
 import static com.example.webtoon.type.RoleName.ROLE_USER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -11,22 +14,30 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
+import com.example.webtoon.config.CursorSlice;
+import com.example.webtoon.config.RestPage;
 import com.example.webtoon.dto.CommentDto;
 import com.example.webtoon.dto.EpisodeIdListDto;
 import com.example.webtoon.dto.UserInfo;
 import com.example.webtoon.dto.WebtoonIdListDto;
-import com.example.webtoon.entity.Comment;
-import com.example.webtoon.entity.Episode;
 import com.example.webtoon.entity.User;
-import com.example.webtoon.entity.Webtoon;
 import com.example.webtoon.exception.CustomException;
 import com.example.webtoon.repository.CommentRepository;
 import com.example.webtoon.repository.EpisodeRepository;
+import com.example.webtoon.repository.FavRepository;
+import com.example.webtoon.repository.RateRepository;
 import com.example.webtoon.repository.UserRepository;
 import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.repository.projection.CommentView;
+import com.example.webtoon.repository.projection.FavoriteWebtoonView;
+import com.example.webtoon.repository.projection.RatedEpisodeView;
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
 import com.example.webtoon.type.ErrorCode;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +49,10 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,9 +68,17 @@ class UserServiceTest {
     private EpisodeRepository episodeRepository;
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private RateRepository rateRepository;
+    @Mock
+    private FavRepository favRepository;
+    @Mock
+    private TotalCountProvider totalCountProvider;
     @InjectMocks
     private UserService userService;
 
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     @Test
     @DisplayName("회원 조회(관리자) 성공")
     void getUserInfoSuccess() {
@@ -105,19 +128,13 @@ class UserServiceTest {
         Long userId = 1L;
         int page = 0;
 
-        List<Episode> episodeList = Arrays.asList(
-            Episode.builder()
-                .episodeId(1L)
-                .build(),
-            Episode.builder()
-                .episodeId(2L)
-                .build(),
-            Episode.builder()
-                .episodeId(3L)
-                .build()
+        List<RatedEpisodeView> episodeList = Arrays.asList(
+            projection(RatedEpisodeView.class, "episodeId", 1L),
+            projection(RatedEpisodeView.class, "episodeId", 2L),
+            projection(RatedEpisodeView.class, "episodeId", 3L)
         );
 
-        Page<Episode> episodes = new PageImpl<>(episodeList);
+        Page<RatedEpisodeView> episodes = new PageImpl<>(episodeList);
 
         given(episodeRepository.findAllByUserId(anyLong(), any())).willReturn(episodes);
 
@@ -144,28 +161,17 @@ class UserServiceTest {
             .userId(1L)
             .build();
 
-        List<Comment> commentList = Arrays.asList(
-            Comment.builder()
-                .commentId(1L)
-                .user(user)
-                .build(),
-            Comment.builder()
-                .commentId(2L)
-                .user(user)
-                .build(),
-            Comment.builder()
-                .commentId(3L)
-                .user(user)
-                .build(),
-            Comment.builder()
-                .commentId(4L)
-                .user(user)
-                .build()
+        List<CommentView> commentList = Arrays.asList(
+            projection(CommentView.class, "commentId", 1L),
+            projection(CommentView.class, "commentId", 2L),
+            projection(CommentView.class, "commentId", 3L),
+            projection(CommentView.class, "commentId", 4L)
         );
 
-        Page<Comment> comments = new PageImpl<>(commentList);
+        Page<CommentView> comments = new PageImpl<>(commentList);
 
         given(commentRepository.findAllByUser_UserId(anyLong(), any())).willReturn(comments);
+        given(totalCountProvider.getTotal(anyString(), any())).willReturn(new TotalCount(4L, true));
 
         // when
         Page<CommentDto> commentDtoPage =
@@ -178,6 +184,7 @@ class UserServiceTest {
         assertEquals(4L, commentDtoPage.getContent().get(3).getCommentId());
         assertEquals(1, commentDtoPage.getTotalPages());
         assertEquals(4, commentDtoPage.getTotalElements());
+        assertTrue(((RestPage<CommentDto>) commentDtoPage).isApproximate());
     }
 
     @Test
@@ -188,22 +195,14 @@ class UserServiceTest {
         Long userId = 1L;
         int page = 0;
 
-        List<Webtoon> webtoonList = Arrays.asList(
-            Webtoon.builder()
-                .webtoonId(1L)
-                .build(),
-            Webtoon.builder()
-                .webtoonId(2L)
-                .build(),
-            Webtoon.builder()
-                .webtoonId(3L)
-                .build(),
-            Webtoon.builder()
-                .webtoonId(4L)
-                .build()
+        List<FavoriteWebtoonView> webtoonList = Arrays.asList(
+            projection(FavoriteWebtoonView.class, "webtoonId", 1L),
+            projection(FavoriteWebtoonView.class, "webtoonId", 2L),
+            projection(FavoriteWebtoonView.class, "webtoonId", 3L),
+            projection(FavoriteWebtoonView.class, "webtoonId", 4L)
         );
 
-        Page<Webtoon> webtoons = new PageImpl<>(webtoonList);
+        Page<FavoriteWebtoonView> webtoons = new PageImpl<>(webtoonList);
 
         given(webtoonRepository.findAllByUserId(anyLong(), any())).willReturn(webtoons);
 
@@ -219,4 +218,33 @@ class UserServiceTest {
         assertEquals(1, webtoonIdListDtos.getTotalPages());
         assertEquals(4, webtoonIdListDtos.getTotalElements());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("선호 작품 목록 커서 조회 성공 - 마지막 페이지")
+    void getFavWebtoonListAfterSuccess() {
+
+        // given
+        FavoriteWebtoonView favorite = projection(FavoriteWebtoonView.class,
+            "favId", 1L, "webtoonId", 10L, "createdAt", LocalDateTime.of(2023, 1, 2, 10, 0));
+
+        given(favRepository.findSliceByUserId(anyLong(), any(), anyLong(), any()))
+            .willReturn(new SliceImpl<>(Arrays.asList(favorite), PageRequest.of(0, 10), false));
+
+        // when
+        CursorSlice<WebtoonIdListDto> favSlice = userService.getFavWebtoonListAfter(1L, "");
+
+        // then
+        assertEquals(10L, favSlice.getContent().get(0).getWebtoonId());
+        assertFalse(favSlice.isHasNext());
+        assertNull(favSlice.getNextCursor());
+    }
+
+    // 프로젝션 인터페이스 테스트 값 (속성 이름, 값 순서로 전달)
+    private <T> T projection(Class<T> type, Object... properties) {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            values.put((String) properties[i], properties[i + 1]);
+        }
+        return projectionFactory.createProjection(type, values);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private WebtoonRankingIndex webtoonRankingIndex;
+    @InjectMocks
+    private ViewCountBuffer viewCountBuffer;
+
+    @Test
+    @DisplayName("조회수 일괄 반영 성공")
+    @SuppressWarnings("unchecked")
+    void flushSuccess() {
+
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(0L, viewCountBuffer.getPendingCount(1L));
+        assertEquals(0L, viewCountBuffer.getPendingCount(2L));
+    }
+
+    @Test
+    @DisplayName("조회수 일괄 반영 - 증가분 없으면 쿼리 생략")
+    void flushSkipped_NothingPending() {
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("조회수 일괄 반영 실패 - 증가분 복구")
+    void flushFailed_Restored() {
+
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .willThrow(new DataAccessResourceFailureException("db down"));
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertEquals(2L, viewCountBuffer.getPendingCount(1L));
+    }
+}
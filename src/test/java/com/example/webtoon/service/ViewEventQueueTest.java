@@ -0,0 +1,95 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.webtoon.config.ViewProperties;
+import com.example.webtoon.type.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ViewEventQueueTest {
+
+    private final ViewDeduplicator viewDeduplicator = mock(ViewDeduplicator.class);
+    private final ViewCountBuffer viewCountBuffer = mock(ViewCountBuffer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ViewEventQueue viewEventQueue;
+
+    private ViewEventQueue create(int capacity, OverflowPolicy policy) {
+        ViewProperties viewProperties = new ViewProperties();
+        viewProperties.getQueue().setCapacity(capacity);
+        viewProperties.getQueue().setWorkers(0);
+        viewProperties.getQueue().setOverflowPolicy(policy);
+
+        viewEventQueue = new ViewEventQueue(
+            viewProperties, viewDeduplicator, viewCountBuffer, meterRegistry);
+        viewEventQueue.start();
+        return viewEventQueue;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        viewEventQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 이벤트 버림 - DROP")
+    void offer_Drop() {
+
+        // given
+        ViewEventQueue queue = create(1, OverflowPolicy.DROP);
+
+        // when
+        queue.offer("10.0.0.1", 1L);
+        queue.offer("10.0.0.2", 1L);
+
+        // then
+        assertEquals(1, queue.getPendingCount());
+        assertEquals(1.0, meterRegistry.counter("view.events.dropped").count());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 같은 이벤트는 합침 - COALESCE")
+    void offer_Coalesce() {
+
+        // given
+        ViewEventQueue queue = create(1, OverflowPolicy.COALESCE);
+
+        // when
+        queue.offer("10.0.0.1", 1L);
+        queue.offer("10.0.0.2", 1L);
+        queue.offer("10.0.0.2", 1L);
+
+        // then
+        assertEquals(2, queue.getPendingCount());
+        assertEquals(1.0, meterRegistry.counter("view.events.coalesced").count());
+        assertEquals(0.0, meterRegistry.counter("view.events.dropped").count());
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트 처리")
+    void shutdown_ProcessRemaining() throws InterruptedException {
+
+        // given
+        ViewEventQueue queue = create(10, OverflowPolicy.DROP);
+        given(viewDeduplicator.isFirstView(anyString(), anyLong())).willReturn(true, false);
+
+        queue.offer("10.0.0.1", 1L);
+        queue.offer("10.0.0.1", 1L);
+
+        // when
+        queue.shutdown();
+
+        // then
+        verify(viewCountBuffer, times(1)).increment(1L);
+        assertEquals(2.0, meterRegistry.counter("view.events.flushed").count());
+    }
+}
@@ -2,20 +2,17 @@ package com.example.webtoon.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
-import com.example.webtoon.entity.Webtoon;
 import com.example.webtoon.exception.CustomException;
-import com.example.webtoon.repository.ViewRepository;
 import com.example.webtoon.repository.WebtoonRepository;
 import com.example.webtoon.type.ErrorCode;
-import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,56 +27,59 @@ class ViewServiceTest {
     @Mock
     private WebtoonRepository webtoonRepository;
     @Mock
-    private ViewRepository viewRepository;
+    private WebtoonRankingIndex webtoonRankingIndex;
+    @Mock
+    private ViewEventQueue viewEventQueue;
     @InjectMocks
     private ViewService viewService;
 
     @Test
-    @DisplayName("조회수 카운팅 성공 - 중복이 아닌 경우")
-    void checkViewCountSuccess_NotConflict() {
+    @DisplayName("조회 이벤트 등록 성공")
+    void checkViewCountSuccess() {
 
         // given
         MockHttpServletRequest req = new MockHttpServletRequest();
-
-        Webtoon webtoon = Webtoon.builder()
-            .webtoonId(1L)
-            .viewCount(0L)
-            .build();
-
-        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
-        given(viewRepository.existsByUserIPAndWebtoon_WebtoonId(anyString(), anyLong())).willReturn(false);
+        req.setRemoteAddr("10.0.0.1");
+        given(webtoonRepository.existsById(1L)).willReturn(true);
 
         // when
-        viewService.checkViewCount(webtoon.getWebtoonId(), req);
+        viewService.checkViewCount(1L, req);
 
         // then
-        verify(viewRepository, times(1)).save(any());
-        verify(webtoonRepository, times(1)).save(any());
-        assertEquals(1L, webtoon.getViewCount());
+        verify(viewEventQueue, times(1)).offer("10.0.0.1", 1L);
     }
 
     @Test
-    @DisplayName("조회수 카운팅 성공 - 중복인 경우")
-    void checkViewCountSuccess_Conflict() {
+    @DisplayName("조회 이벤트 등록 성공 - 프록시 IP 사용")
+    void checkViewCountSuccess_ForwardedFor() {
 
         // given
         MockHttpServletRequest req = new MockHttpServletRequest();
+        req.addHeader("X-Forwarded-For", "192.168.0.10");
+        given(webtoonRepository.existsById(1L)).willReturn(true);
 
-        Webtoon webtoon = Webtoon.builder()
-            .webtoonId(1L)
-            .viewCount(0L)
-            .build();
+        // when
+        viewService.checkViewCount(1L, req);
 
-        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
-        given(viewRepository.existsByUserIPAndWebtoon_WebtoonId(anyString(), anyLong())).willReturn(true);
+        // then
+        verify(viewEventQueue, times(1)).offer("192.168.0.10", 1L);
+    }
+
+    @Test
+    @DisplayName("조회 이벤트 등록 성공 - 순위 색인에 있는 웹툰은 DB 조회 생략")
+    void checkViewCountSuccess_Indexed() {
+
+        // given
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setRemoteAddr("10.0.0.1");
+        given(webtoonRankingIndex.contains(1L)).willReturn(true);
 
         // when
-        viewService.checkViewCount(webtoon.getWebtoonId(), req);
+        viewService.checkViewCount(1L, req);
 
         // then
-        verify(viewRepository, times(0)).save(any());
-        verify(webtoonRepository, times(0)).save(any());
-        assertEquals(0L, webtoon.getViewCount());
+        verify(webtoonRepository, never()).existsById(anyLong());
+        verify(viewEventQueue, times(1)).offer("10.0.0.1", 1L);
     }
 
     @Test
@@ -88,20 +88,15 @@ class ViewServiceTest {
 
         // given
         MockHttpServletRequest req = new MockHttpServletRequest();
-
-        Webtoon webtoon = Webtoon.builder()
-            .webtoonId(1L)
-            .viewCount(0L)
-            .build();
-
-        given(webtoonRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(webtoonRepository.existsById(anyLong())).willReturn(false);
 
         // when
         CustomException exception = assertThrows(CustomException.class,
-            () -> viewService.checkViewCount(webtoon.getWebtoonId(), req));
+            () -> viewService.checkViewCount(1L, req));
 
         // then
         assertEquals(NOT_FOUND, exception.getStatusMessage());
         assertEquals(ErrorCode.WEBTOON_NOT_FOUND, exception.getErrorCode());
+        verify(viewEventQueue, never()).offer(anyString(), anyLong());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,195 @@
+package com.example.webtoon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.webtoon.dto.WebtoonDto;
+import com.example.webtoon.entity.Webtoon;
+import com.example.webtoon.repository.WebtoonRepository;
+import com.example.webtoon.repository.projection.RankingView;
+import com.example.webtoon.type.DayType;
+import com.example.webtoon.type.SortType;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class WebtoonRankingIndexTest {
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private WebtoonRepository webtoonRepository;
+    @InjectMocks
+    private WebtoonRankingIndex webtoonRankingIndex;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        given(webtoonRepository.findRankingViews()).willReturn(Arrays.asList(
+            view(1L, "월요일", now.minusDays(3), 9L, 2L, 100L),
+            view(2L, "월요일", now.minusDays(1), 8L, 2L, 300L),
+            view(3L, "월요일,목요일", now.minusDays(2), null, null, 200L),
+            view(4L, "화요일", now, 10L, 2L, 500L)));
+    }
+
+    @Test
+    @DisplayName("요일별 정렬 기준에 따라 순위 계산")
+    void getPage_SortedByDay() {
+
+        // when
+        // then
+        assertEquals(Arrays.asList(2L, 3L, 1L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.NEW, 0, 10)));
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.RATE, 0, 10)));
+        assertEquals(Arrays.asList(2L, 3L, 1L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.VIEW, 0, 10)));
+        assertEquals(Arrays.asList(3L), ids(webtoonRankingIndex.getPage(DayType.THU.getBit(), SortType.NEW, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("페이지 구간만 잘라서 반환")
+    void getPage_Slice() {
+
+        // when
+        Page<WebtoonDto> page = webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.VIEW, 1, 2);
+
+        // then
+        assertEquals(Arrays.asList(1L), ids(page));
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("평점, 조회수 변경 시 바뀐 웹툰만 정렬된 위치로 이동")
+    void addRateAndViews_Reordered() {
+
+        // given
+        webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.RATE, 0, 10);
+        webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.VIEW, 0, 10);
+
+        // when
+        webtoonRankingIndex.addRate(3L, 10L, 1L);
+        webtoonRankingIndex.addViews(Map.of(1L, 1000L));
+
+        // then
+        assertEquals(Arrays.asList(3L, 1L, 2L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.RATE, 0, 10)));
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.VIEW, 0, 10)));
+        verify(webtoonRepository, times(1)).findRankingViews();
+    }
+
+    @Test
+    @DisplayName("조회수 한 번에 반영 - 여러 웹툰이 서로 자리를 바꿔도 정렬 유지")
+    void addViews_Batch() {
+
+        // given
+        webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.VIEW, 0, 10);
+        webtoonRankingIndex.getPage(DayType.THU.getBit(), SortType.VIEW, 0, 10);
+        Map<Long, Long> deltas = new HashMap<>();
+        deltas.put(1L, 250L);
+        deltas.put(2L, 1L);
+        deltas.put(3L, 500L);
+        deltas.put(4L, 1L);
+
+        // when
+        webtoonRankingIndex.addViews(deltas);
+
+        // then
+        assertEquals(Arrays.asList(3L, 1L, 2L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.VIEW, 0, 10)));
+        assertEquals(Arrays.asList(3L), ids(webtoonRankingIndex.getPage(DayType.THU.getBit(), SortType.VIEW, 0, 10)));
+        assertEquals(Arrays.asList(4L), ids(webtoonRankingIndex.getPage(DayType.TUE.getBit(), SortType.VIEW, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 평점 변경은 커밋된 뒤에만 반영")
+    void addRate_AfterCommit() {
+
+        // given
+        webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.RATE, 0, 10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            webtoonRankingIndex.addRate(3L, 10L, 1L);
+            List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+            webtoonRankingIndex.addRate(2L, 20L, 1L);
+            List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+            TransactionSynchronizationUtils.invokeAfterCommit(committed);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertEquals(Arrays.asList(2L, 1L, 3L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.RATE, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("웹툰 수정/삭제 시 이전, 새 요일 순위 모두 반영")
+    void upsertAndRemove() {
+
+        // given
+        webtoonRankingIndex.getPage(DayType.TUE.getBit(), SortType.NEW, 0, 10);
+
+        // when
+        webtoonRankingIndex.upsert(webtoon(1L, "화요일", LocalDateTime.now().plusDays(1), 9L, 2L, 100L));
+        webtoonRankingIndex.remove(2L);
+
+        // then
+        assertEquals(Arrays.asList(1L, 4L), ids(webtoonRankingIndex.getPage(DayType.TUE.getBit(), SortType.NEW, 0, 10)));
+        assertEquals(Arrays.asList(3L), ids(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.NEW, 0, 10)));
+    }
+
+    private List<Long> ids(Page<WebtoonDto> page) {
+        return page.getContent().stream()
+            .map(WebtoonDto::getWebtoonId)
+            .collect(Collectors.toList());
+    }
+
+    private RankingView view(Long id, String day, LocalDateTime updatedAt,
+                             Long rateSum, Long rateCount, Long viewCount) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("webtoonId", id);
+        values.put("title", "title" + id);
+        values.put("day", day);
+        values.put("updatedAt", updatedAt);
+        values.put("rateSum", rateSum);
+        values.put("rateCount", rateCount);
+        values.put("viewCount", viewCount);
+        return projectionFactory.createProjection(RankingView.class, values);
+    }
+
+    private Webtoon webtoon(Long id, String day, LocalDateTime updatedAt,
+                            Long rateSum, Long rateCount, Long viewCount) {
+        Webtoon webtoon = Webtoon.builder()
+            .webtoonId(id)
+            .title("title" + id)
+            .day(day)
+            .rateSum(rateSum)
+            .rateCount(rateCount)
+            .viewCount(viewCount)
+            .build();
+        webtoon.setUpdatedAt(updatedAt);
+        return webtoon;
+    }
+}
@@ -2,16 +2,25 @@ package com.example.webtoon.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import com.example.webtoon.config.CacheFamilyEvictor;
 import com.example.webtoon.dto.EpisodeDto;
+import com.example.webtoon.dto.EpisodeImportRequest;
+import com.example.webtoon.dto.EpisodeUploadResult;
 import com.example.webtoon.dto.WebtoonDocument;
 import com.example.webtoon.dto.WebtoonDto;
 import com.example.webtoon.entity.Episode;
@@ -23,21 +32,43 @@ import com.example.webtoon.exception.CustomException;
 import com.example.webtoon.repository.EpisodeRepository;
 import com.example.webtoon.repository.WebtoonRepository;
 import com.example.webtoon.repository.WebtoonSearchRepository;
+import com.example.webtoon.repository.projection.EpisodeView;
+import com.example.webtoon.service.TotalCountProvider.TotalCount;
+import com.example.webtoon.type.DayType;
 import com.example.webtoon.type.ErrorCode;
 import com.example.webtoon.type.SortType;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,9 +82,19 @@ class WebtoonServiceTest {
     private FileService fileService;
     @Mock
     private WebtoonSearchRepository webtoonSearchRepository;
+    @Mock
+    private CacheFamilyEvictor cacheFamilyEvictor;
+    @Mock
+    private WebtoonRankingIndex webtoonRankingIndex;
+    @Mock
+    private TotalCountProvider totalCountProvider;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private WebtoonService webtoonService;
 
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
 
     @Test
     @DisplayName("웹툰 등록 성공")
@@ -77,6 +118,12 @@ class WebtoonServiceTest {
         WebtoonDto webtoonDto1 = WebtoonDto.from(webtoon);
 
         given(webtoonRepository.existsByTitle(anyString())).willReturn(false);
+        given(fileService.saveWebtoonThumbnailFile(any())).willReturn(
+            new WebtoonThumbnail("wt.jpg", "/webtoons/wt.jpg"));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
 
         // when
         WebtoonDto webtoonDto2 = webtoonService.addWebtoon(webtoon.getTitle(), webtoon.getArtist(),
@@ -85,6 +132,7 @@ class WebtoonServiceTest {
         // then
         verify(webtoonRepository, times(1)).save(any());
         verify(webtoonSearchRepository, times(1)).save(any());
+        verify(fileService, times(1)).releaseOnRollback(Collections.singletonList("wt.jpg"));
         assertEquals(webtoonDto1.getWebtoonId(), webtoonDto2.getWebtoonId());
         assertEquals(webtoonDto1.getTitle(), webtoonDto2.getTitle());
         assertEquals(webtoonDto1.getArtist(), webtoonDto2.getArtist());
@@ -148,7 +196,8 @@ class WebtoonServiceTest {
 
         given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
         given(fileService.saveWebtoonThumbnailFile(any())).willReturn(webtoonThumbnail2);
-
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         // when
         webtoonService.updateWebtoon(10L, "updateTitle", "updateArtist",
@@ -162,18 +211,23 @@ class WebtoonServiceTest {
         assertEquals("updateGenre", webtoon.getGenre());
         assertEquals("testFileName2", webtoon.getWebtoonThumbnail().getFileName());
         assertEquals("testUri2", webtoon.getWebtoonThumbnail().getFileUri());
+        verify(fileService, times(1)).releaseOnRollback(Collections.singletonList("testFileName2"));
+        verify(fileService, times(1)).releaseAfterCommit(Collections.singletonList("testFileName1"));
     }
 
     @Test
     @DisplayName("웹툰 수정 실패 - 일치하는 웹툰 없음")
-    void updateWebtoonFailed_WebtoonNotFound() {
+    void updateWebtoonFailed_WebtoonNotFound() throws IOException {
 
         // given
         MultipartFile multipartFile = new MockMultipartFile(
             "test.jpg", "test.jpg", "byte", "test.jpg".getBytes());
 
         given(webtoonRepository.findById(anyLong())).willReturn(Optional.empty());
-
+        given(fileService.saveWebtoonThumbnailFile(any())).willReturn(
+            new WebtoonThumbnail("testFileName2", "testUri2"));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         // when
         CustomException exception = assertThrows(CustomException.class,
@@ -183,21 +237,31 @@ class WebtoonServiceTest {
         // then
         assertEquals(NOT_FOUND, exception.getStatusMessage());
         assertEquals(ErrorCode.WEBTOON_NOT_FOUND, exception.getErrorCode());
+        verify(fileService, times(1)).releaseOnRollback(Collections.singletonList("testFileName2"));
     }
 
     @Test
-    @DisplayName("웹툰 삭제 성공")
+    @DisplayName("웹툰 삭제 성공 - 썸네일, 에피소드 파일 참조 해제")
     void deleteWebtoonSuccess() {
 
         // given
-        given(webtoonRepository.existsById(anyLong())).willReturn(true);
+        Webtoon webtoon = Webtoon.builder()
+            .webtoonId(1L)
+            .webtoonThumbnail(new WebtoonThumbnail("wt.jpg", "/webtoons/wt.jpg"))
+            .episodes(Collections.singletonList(Episode.builder()
+                .episodeFile(new EpisodeFile("ep.jpg", "/webtoons/ep.jpg"))
+                .episodeThumbnail(new EpisodeThumbnail("th.jpg", "/webtoons/th.jpg"))
+                .build()))
+            .build();
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
 
         // when
         webtoonService.deleteWebtoon(1L);
 
         // then
-        verify(webtoonRepository, times(1)).existsById(anyLong());
-        verify(webtoonRepository, times(1)).deleteById(anyLong());
+        verify(webtoonRepository, times(1)).findById(anyLong());
+        verify(webtoonRepository, times(1)).delete(webtoon);
+        verify(fileService, times(1)).release(Arrays.asList("wt.jpg", "ep.jpg", "th.jpg"));
     }
 
     @Test
@@ -205,7 +269,7 @@ class WebtoonServiceTest {
     void deleteWebtoonFailed_WebtoonNotFound() {
 
         // given
-        given(webtoonRepository.existsById(anyLong())).willReturn(false);
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when
         CustomException exception = assertThrows(CustomException.class,
@@ -250,8 +314,10 @@ class WebtoonServiceTest {
 
         given(episodeRepository.existsByWebtoon_WebtoonIdAndTitle(anyLong(), anyString())).willReturn(false);
         given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
-        given(fileService.saveEpisodeFile(any())).willReturn(episodeFile);
-        given(fileService.saveEpisodeThumbnailFile(any())).willReturn(episodeThumbnail);
+        given(fileService.saveEpisodeFilesAsync(epFile, thFile)).willReturn(
+            CompletableFuture.completedFuture(new FileService.EpisodeFiles(episodeFile, "test")));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         // when
         EpisodeDto episodeDto2 = webtoonService.addEpisode(
@@ -259,6 +325,7 @@ class WebtoonServiceTest {
 
         // then
         verify(episodeRepository, times(1)).save(any());
+        verify(fileService, times(1)).releaseOnRollback(Arrays.asList("test", "test"));
         assertEquals(episodeDto1.getTitle(), episodeDto2.getTitle());
 
     }
@@ -310,6 +377,223 @@ class WebtoonServiceTest {
         assertEquals(ErrorCode.WEBTOON_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("에피소드 등록 실패 - 파일 저장 실패, DB 저장 안 함")
+    void createEpisodeFailed_FileWriteFailed() {
+
+        // given
+        MultipartFile epFile = new MockMultipartFile(
+            "test.jpg", "test.jpg", "byte", "test.jpg".getBytes());
+        MultipartFile thFile = new MockMultipartFile(
+            "test.jpg", "test.jpg", "byte", "test.jpg".getBytes());
+
+        Webtoon webtoon = Webtoon.builder()
+            .webtoonId(10L)
+            .build();
+
+        given(episodeRepository.existsByWebtoon_WebtoonIdAndTitle(anyLong(), anyString()))
+            .willReturn(false);
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
+        given(fileService.saveEpisodeFilesAsync(epFile, thFile)).willReturn(
+            CompletableFuture.failedFuture(new UncheckedIOException(new IOException("disk full"))));
+
+        // when
+        IOException exception = assertThrows(IOException.class,
+            () -> webtoonService.addEpisode(10L, "testTitle", epFile, thFile));
+
+        // then
+        assertEquals("disk full", exception.getMessage());
+        verify(transactionTemplate, never()).execute(any());
+        verify(episodeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 성공 - 한 번에 저장, 캐시 삭제 1번")
+    @SuppressWarnings("unchecked")
+    void importEpisodesSuccess() throws IOException {
+
+        // given
+        Webtoon webtoon = new Webtoon("testTitle", "testArtist", "월요일", "testGenre");
+        webtoon.setWebtoonId(10L);
+        List<EpisodeImportRequest> requests = Arrays.asList(
+            importRequest("1화"), importRequest("2화"), importRequest("3화"));
+
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
+        given(episodeRepository.findTitlesByWebtoonIdAndTitleIn(anyLong(), anyCollection()))
+            .willReturn(Collections.emptyList());
+        given(fileService.retain(anyList())).willReturn(true);
+        given(fileService.fileUri(anyString())).willAnswer(invocation -> "/webtoons/" + invocation.getArgument(0));
+
+        // when
+        List<EpisodeDto> episodes = webtoonService.importEpisodes(10L, requests);
+
+        // then
+        ArgumentCaptor<List<Episode>> captor = ArgumentCaptor.forClass(List.class);
+        verify(episodeRepository, times(1)).saveAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(webtoon, captor.getValue().get(0).getWebtoon());
+        assertEquals("1화", episodes.get(0).getTitle());
+        assertEquals("/webtoons/" + storedName("1화"), episodes.get(0).getEpFileUri());
+        List<String> fileNames = Arrays.asList(storedName("1화"), storedName("1화_th"),
+            storedName("2화"), storedName("2화_th"), storedName("3화"), storedName("3화_th"));
+        verify(fileService, times(1)).retain(fileNames);
+        verify(fileService, times(1)).releaseOnRollback(fileNames);
+        verify(cacheFamilyEvictor, times(1)).evict("episodeList", "webtoon:10");
+        verify(totalCountProvider, times(1)).add("episode:webtoon:10", 3);
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 - 캐시 삭제와 개수 반영은 커밋된 뒤에")
+    void importEpisodes_AfterCommit() throws IOException {
+
+        // given
+        Webtoon webtoon = new Webtoon("testTitle", "testArtist", "월요일", "testGenre");
+        webtoon.setWebtoonId(10L);
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
+        given(episodeRepository.findTitlesByWebtoonIdAndTitleIn(anyLong(), anyCollection()))
+            .willReturn(Collections.emptyList());
+        given(fileService.retain(anyList())).willReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            webtoonService.importEpisodes(10L, Arrays.asList(importRequest("1화"), importRequest("2화")));
+            List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+
+            // then
+            verify(cacheFamilyEvictor, never()).evict(anyString(), anyString());
+            verify(totalCountProvider, never()).add(anyString(), anyLong());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            verify(cacheFamilyEvictor, times(1)).evict("episodeList", "webtoon:10");
+            verify(totalCountProvider, times(1)).add("episode:webtoon:10", 2);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 실패 - 이미 있는 에피소드 제목")
+    void importEpisodesFailed_AlreadyExistTitle() {
+
+        // given
+        Webtoon webtoon = new Webtoon("testTitle", "testArtist", "월요일", "testGenre");
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
+        given(episodeRepository.findTitlesByWebtoonIdAndTitleIn(anyLong(), anyCollection()))
+            .willReturn(Collections.singletonList("2화"));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> webtoonService.importEpisodes(10L,
+                Arrays.asList(importRequest("1화"), importRequest("2화"))));
+
+        // then
+        assertEquals(CONFLICT, exception.getStatusMessage());
+        assertEquals(ErrorCode.ALREADY_EXIST_EPISODE_TITLE, exception.getErrorCode());
+        verify(episodeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 실패 - 내용 해시 이름이 아니거나 빠진 파일 이름")
+    void importEpisodesFailed_InvalidFileName() throws IOException {
+
+        // given
+        EpisodeImportRequest outside = importRequest("1화");
+        outside.setEpFileName("../application.yml");
+        EpisodeImportRequest missing = importRequest("2화");
+        missing.setThFileName(null);
+
+        // when
+        CustomException outsideException = assertThrows(CustomException.class,
+            () -> webtoonService.importEpisodes(10L, Collections.singletonList(outside)));
+        CustomException missingException = assertThrows(CustomException.class,
+            () -> webtoonService.importEpisodes(10L, Collections.singletonList(missing)));
+
+        // then
+        assertEquals(BAD_REQUEST, outsideException.getStatusMessage());
+        assertEquals(ErrorCode.INVALID_EPISODE_IMPORT, outsideException.getErrorCode());
+        assertEquals(ErrorCode.INVALID_EPISODE_IMPORT, missingException.getErrorCode());
+        verify(fileService, never()).retain(anyList());
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 실패 - 저장되지 않은 파일, 참조를 늘리지 않음")
+    void importEpisodesFailed_FileNotStored() throws IOException {
+
+        // given
+        Webtoon webtoon = new Webtoon("testTitle", "testArtist", "월요일", "testGenre");
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
+        given(episodeRepository.findTitlesByWebtoonIdAndTitleIn(anyLong(), anyCollection()))
+            .willReturn(Collections.emptyList());
+        given(fileService.retain(anyList())).willReturn(false);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> webtoonService.importEpisodes(10L, Collections.singletonList(importRequest("1화"))));
+
+        // then
+        assertEquals(BAD_REQUEST, exception.getStatusMessage());
+        assertEquals(ErrorCode.INVALID_EPISODE_IMPORT, exception.getErrorCode());
+        verify(fileService, never()).releaseOnRollback(anyList());
+        verify(episodeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 실패 - 요청 안에서 제목 중복")
+    void importEpisodesFailed_DuplicateTitleInRequest() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> webtoonService.importEpisodes(10L,
+                Arrays.asList(importRequest("1화"), importRequest("1화"))));
+
+        // then
+        assertEquals(CONFLICT, exception.getStatusMessage());
+        assertEquals(ErrorCode.ALREADY_EXIST_EPISODE_TITLE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("에피소드 일괄 등록 실패 - 빈 목록")
+    void importEpisodesFailed_Empty() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> webtoonService.importEpisodes(10L, Collections.emptyList()));
+
+        // then
+        assertEquals(BAD_REQUEST, exception.getStatusMessage());
+        assertEquals(ErrorCode.INVALID_EPISODE_IMPORT, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("업로드된 에피소드 저장 - 이미 있는 제목만 실패, 나머지는 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void saveUploadedEpisodes_PartialFailure() {
+
+        // given
+        Webtoon webtoon = new Webtoon("testTitle", "testArtist", "월요일", "testGenre");
+        webtoon.setWebtoonId(10L);
+        given(webtoonRepository.findById(anyLong())).willReturn(Optional.of(webtoon));
+        given(episodeRepository.findTitlesByWebtoonIdAndTitleIn(anyLong(), anyCollection()))
+            .willReturn(Collections.singletonList("2화"));
+
+        // when
+        List<EpisodeUploadResult> results = webtoonService.saveUploadedEpisodes(10L,
+            Arrays.asList(uploadedEpisode("1화"), uploadedEpisode("2화"), uploadedEpisode("3화")));
+
+        // then
+        ArgumentCaptor<List<Episode>> captor = ArgumentCaptor.forClass(List.class);
+        verify(episodeRepository, times(1)).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(webtoon, captor.getValue().get(0).getWebtoon());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(ErrorCode.ALREADY_EXIST_EPISODE_TITLE, results.get(1).getErrorCode());
+        assertTrue(results.get(2).isSuccess());
+        verify(cacheFamilyEvictor, times(1)).evict("episodeList", "webtoon:10");
+        verify(totalCountProvider, times(1)).add("episode:webtoon:10", 2);
+    }
+
     @Test
     @DisplayName("에피소드 수정 성공")
     void updateEpisodeSuccess() throws IOException {
@@ -338,12 +622,17 @@ class WebtoonServiceTest {
             .title("testTitle")
             .episodeFile(episodeFile)
             .episodeThumbnail(episodeThumbnail)
+            .webtoon(webtoon)
             .build();
 
 
         given(episodeRepository.findById(anyLong())).willReturn(Optional.of(episode));
-        given(fileService.saveEpisodeFile(any())).willReturn(episodeFile);
-        given(fileService.saveEpisodeThumbnailFile(any())).willReturn(episodeThumbnail);
+        given(fileService.saveEpisodeFilesAsync(epFile, thFile)).willReturn(CompletableFuture.completedFuture(
+            new FileService.EpisodeFiles(new EpisodeFile("new-ep", null), "new-th")));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
 
         // when
         EpisodeDto episodeDto = webtoonService.updateEpisode(
@@ -351,6 +640,9 @@ class WebtoonServiceTest {
 
         // then
         verify(episodeRepository, times(1)).save(any());
+        verify(fileService, times(1)).releaseOnRollback(Arrays.asList("new-ep", "new-th"));
+        verify(fileService, times(1)).releaseAfterCommit(Arrays.asList("test", "test"));
+        verify(cacheFamilyEvictor, times(1)).evict("episodeList", "webtoon:10");
         assertEquals("updateTitle", episodeDto.getTitle());
     }
 
@@ -380,14 +672,27 @@ class WebtoonServiceTest {
     void deleteEpisodeSuccess() {
 
         // given
-        given(episodeRepository.existsById(anyLong())).willReturn(true);
+        Webtoon webtoon = Webtoon.builder()
+            .webtoonId(10L)
+            .build();
+
+        Episode episode = Episode.builder()
+            .episodeId(1L)
+            .webtoon(webtoon)
+            .episodeFile(new EpisodeFile("ep.jpg", "/webtoons/ep.jpg"))
+            .episodeThumbnail(new EpisodeThumbnail("th.jpg", "/webtoons/th.jpg"))
+            .build();
+
+        given(episodeRepository.findById(anyLong())).willReturn(Optional.of(episode));
 
         // when
         webtoonService.deleteEpisode(1L);
 
         // then
-        verify(episodeRepository, times(1)).existsById(anyLong());
+        verify(episodeRepository, times(1)).findById(anyLong());
         verify(episodeRepository, times(1)).deleteById(anyLong());
+        verify(cacheFamilyEvictor, times(1)).evict("episodeList", "webtoon:10");
+        verify(fileService, times(1)).release(Arrays.asList("ep.jpg", "th.jpg"));
     }
 
     @Test
@@ -395,7 +700,7 @@ class WebtoonServiceTest {
     void deleteEpisodeFailed_EpisodeNotFound() {
 
         // given
-        given(episodeRepository.existsById(anyLong())).willReturn(false);
+        given(episodeRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when
         CustomException exception = assertThrows(CustomException.class,
@@ -430,8 +735,9 @@ class WebtoonServiceTest {
 
         Page<Webtoon> webtoons = new PageImpl<>(webtoonList);
 
-        given(webtoonRepository.existsByDayContaining(anyString())).willReturn(true);
-        given(webtoonRepository.findByDay(anyString(), any())).willReturn(webtoons);
+        given(webtoonRepository.existsByDayMaskIn(anyList())).willReturn(true);
+        given(webtoonRepository.findByDayMaskIn(anyList(), any())).willReturn(webtoons);
+        given(totalCountProvider.getTotal(anyString(), any())).willReturn(new TotalCount(2L, false));
 
         // when
         Page<WebtoonDto> webtoonDtoPage = webtoonService.getWebtoonByDay(day, sortType, page);
@@ -447,6 +753,28 @@ class WebtoonServiceTest {
         assertEquals(2, webtoonDtoPage.getTotalElements());
     }
 
+    @Test
+    @DisplayName("요일별 웹툰 조회 성공 - 순위 인덱스 사용")
+    void getWebtoonByDaySuccess_RankingIndex() {
+
+        // given
+        List<WebtoonDto> webtoonList = Arrays.asList(
+            new WebtoonDto(1L, "테스트1", "테스트 작가1", "월요일", "테스트 장르1"),
+            new WebtoonDto(2L, "테스트2", "테스트 작가2", "월요일", "테스트 장르2"));
+
+        given(webtoonRankingIndex.isEnabled()).willReturn(true);
+        given(webtoonRankingIndex.getPage(DayType.MON.getBit(), SortType.RATE, 0, 10))
+            .willReturn(new PageImpl<>(webtoonList));
+
+        // when
+        Page<WebtoonDto> webtoonDtoPage = webtoonService.getWebtoonByDay("월요일", SortType.RATE, 0);
+
+        // then
+        verify(webtoonRepository, times(0)).findByDayMaskIn(anyList(), any());
+        assertEquals("테스트1", webtoonDtoPage.getContent().get(0).getTitle());
+        assertEquals(2, webtoonDtoPage.getTotalElements());
+    }
+
     @Test
     @DisplayName("요일별 웹툰 불러오기 실패 - 찾는 요일과 일치하는 웹툰 없음")
     void getWebtoonByDayFailed_WebtoonNotFoundByDay() {
@@ -456,7 +784,7 @@ class WebtoonServiceTest {
         String day = "월요일";
         SortType sortType = SortType.NEW;
 
-        given(webtoonRepository.existsByDayContaining(anyString())).willReturn(false);
+        given(webtoonRepository.existsByDayMaskIn(anyList())).willReturn(false);
 
         // when
         CustomException exception = assertThrows(CustomException.class,
@@ -467,6 +795,19 @@ class WebtoonServiceTest {
         assertEquals(ErrorCode.WEBTOON_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("요일별 웹툰 불러오기 실패 - 알 수 없는 요일")
+    void getWebtoonByDayFailed_DayTypeNotFound() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> webtoonService.getWebtoonByDay("testDay", SortType.NEW, 0));
+
+        // then
+        assertEquals(BAD_REQUEST, exception.getStatusMessage());
+        assertEquals(ErrorCode.DAY_TYPE_NOT_FOUND, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("웹툰 에피소드 전체 목록 불러오기 성공")
     void getWebtoonEpisodesSuccess() {
@@ -477,28 +818,15 @@ class WebtoonServiceTest {
             .webtoonId(1L)
             .build();
 
-        EpisodeFile episodeFile = new EpisodeFile("test", "test");
-        EpisodeThumbnail episodeThumbnail = new EpisodeThumbnail("test", "test");
-
-
-        List<Episode> episodeList = Arrays.asList(
-            Episode.builder()
-                .title("테스트1")
-                .webtoon(webtoon)
-                .episodeFile(episodeFile)
-                .episodeThumbnail(episodeThumbnail)
-                .build(),
-            Episode.builder()
-                .title("테스트2")
-                .webtoon(webtoon)
-                .episodeFile(episodeFile)
-                .episodeThumbnail(episodeThumbnail)
-                .build()
+        List<EpisodeView> episodeList = Arrays.asList(
+            projection(EpisodeView.class, "title", "테스트1", "epFileUri", "test", "thFileUri", "test"),
+            projection(EpisodeView.class, "title", "테스트2", "epFileUri", "test", "thFileUri", "test")
         );
 
-        Page<Episode> episodes = new PageImpl<>(episodeList);
+        Page<EpisodeView> episodes = new PageImpl<>(episodeList);
 
         given(episodeRepository.findByWebtoon_WebtoonId(anyLong(), any())).willReturn(episodes);
+        given(totalCountProvider.getTotal(anyString(), any())).willReturn(new TotalCount(2L, false));
 
         // when
         Page<EpisodeDto> episodeDtoPage = webtoonService.getWebtoonEpisodes(webtoon.getWebtoonId(), page);
@@ -551,4 +879,39 @@ class WebtoonServiceTest {
         assertEquals(1, webtoonDtoPage.getTotalPages());
         assertEquals(2, webtoonDtoPage.getTotalElements());
     }
-}
\ No newline at end of file
+
+    // 프로젝션 인터페이스 테스트 값 (속성 이름, 값 순서로 전달)
+    private <T> T projection(Class<T> type, Object... properties) {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            values.put((String) properties[i], properties[i + 1]);
+        }
+        return projectionFactory.createProjection(type, values);
+    }
+
+    private Episode uploadedEpisode(String title) {
+        Episode episode = new Episode(title);
+        episode.setEpisodeFile(new EpisodeFile(title + ".jpg", "/webtoons/" + title + ".jpg"));
+        episode.setEpisodeThumbnail(new EpisodeThumbnail(title + "_th.jpg", "/webtoons/" + title + "_th.jpg"));
+        return episode;
+    }
+
+    private EpisodeImportRequest importRequest(String title) {
+        return EpisodeImportRequest.builder()
+            .title(title)
+            .epFileName(storedName(title))
+            .thFileName(storedName(title + "_th"))
+            .build();
+    }
+
+    // 내용 해시 형식의 저장 이름 (ab/cd/{sha-256}.jpg)
+    private static String storedName(String seed) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(seed.getBytes(StandardCharsets.UTF_8));
+            String digest = String.format("%064x", new BigInteger(1, hash));
+            return digest.substring(0, 2) + "/" + digest.substring(2, 4) + "/" + digest + ".jpg";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.webtoon.type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DayTypeTest {
+
+    @Test
+    @DisplayName("요일 문자열 마스크 변환")
+    void toMask() {
+
+        // then
+        assertEquals(DayType.MON.getBit(), DayType.toMask("월요일"));
+        assertEquals(DayType.MON.getBit(), DayType.toMask("월"));
+        assertEquals(DayType.SUN.getBit(), DayType.toMask("일요일"));
+        assertEquals(DayType.MON.getBit() | DayType.THU.getBit(), DayType.toMask("월요일,목요일"));
+        assertEquals(DayType.MON.getBit() | DayType.THU.getBit(), DayType.toMask("mon/THU"));
+        assertEquals(0, DayType.toMask("testDay"));
+        assertEquals(0, DayType.toMask(null));
+    }
+
+    @Test
+    @DisplayName("요일을 포함하는 마스크 목록")
+    void masksContaining() {
+
+        // when
+        List<Integer> masks = DayType.masksContaining(DayType.MON.getBit());
+
+        // then
+        assertEquals(64, masks.size());
+        assertTrue(masks.stream().allMatch(mask -> (mask & DayType.MON.getBit()) != 0));
+        assertTrue(masks.contains(DayType.MON.getBit() | DayType.THU.getBit()));
+        assertTrue(DayType.masksContaining(0).isEmpty());
+    }
+}